@@ -13,7 +13,7 @@ import org.springframework.web.service.annotation.HttpExchange;
 public interface UsersClient {
 
   @GetExchange
-  UserCollection query(@RequestParam("query") String query);
+  UserCollection query(@RequestParam("query") String query, @RequestParam("limit") int limit);
 
   @JsonIgnoreProperties(ignoreUnknown = true)
   record User(String id, String username, Personal personal) { }
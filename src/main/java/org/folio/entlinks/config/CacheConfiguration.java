@@ -1,7 +1,11 @@
 package org.folio.entlinks.config;
 
 import static org.folio.entlinks.config.constants.CacheNames.AUTHORITY_EXTENDED_MAPPING_CACHE;
+import static org.folio.entlinks.config.constants.CacheNames.AUTHORITY_SOURCE_FILES_CACHE;
 import static org.folio.entlinks.config.constants.CacheNames.DATA_IMPORT_CANCELED_JOB_CACHE;
+import static org.folio.entlinks.config.constants.CacheNames.INSTANCE_DATA_CACHE;
+import static org.folio.entlinks.config.constants.CacheNames.LINKING_RULES_CACHE;
+import static org.folio.entlinks.config.constants.CacheNames.USERS_CACHE;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 import java.time.Duration;
@@ -16,6 +20,7 @@ import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -50,6 +55,29 @@ public class CacheConfiguration {
     return getCache(cacheManager, DATA_IMPORT_CANCELED_JOB_CACHE);
   }
 
+  /**
+   * Evictions are applied after the transaction commit, so rules are not reloaded before the update is visible.
+   * */
+  @Bean
+  public Cache linkingRulesCache(CacheManager cacheManager) {
+    return new TransactionAwareCacheDecorator(getCache(cacheManager, LINKING_RULES_CACHE));
+  }
+
+  @Bean
+  public Cache authoritySourceFilesCache(CacheManager cacheManager) {
+    return new TransactionAwareCacheDecorator(getCache(cacheManager, AUTHORITY_SOURCE_FILES_CACHE));
+  }
+
+  @Bean
+  public Cache usersCache(CacheManager cacheManager) {
+    return getCache(cacheManager, USERS_CACHE);
+  }
+
+  @Bean
+  public Cache instanceDataCache(CacheManager cacheManager) {
+    return getCache(cacheManager, INSTANCE_DATA_CACHE);
+  }
+
   private @NonNull Cache getCache(CacheManager cacheManager, String cacheName) {
     var cache = cacheManager.getCache(cacheName);
     if (cache == null) {
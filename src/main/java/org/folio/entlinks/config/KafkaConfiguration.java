@@ -10,15 +10,18 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.regex.Pattern;
+import org.apache.kafka.common.serialization.Deserializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.folio.DataImportEventPayload;
+import org.folio.entlinks.config.properties.KafkaProducerProperties;
 import org.folio.entlinks.domain.dto.LinkUpdateReport;
 import org.folio.entlinks.domain.dto.LinksChangeEvent;
 import org.folio.entlinks.integration.dto.event.AuthorityDomainEvent;
 import org.folio.entlinks.integration.dto.event.DomainEvent;
 import org.folio.entlinks.integration.kafka.AuthorityChangeFilterStrategy;
 import org.folio.entlinks.integration.kafka.EventProducer;
+import org.folio.entlinks.integration.kafka.deserializer.AuthorityDomainEventDeserializer;
 import org.folio.entlinks.integration.kafka.deserializer.ConsumerRecordToWrapperConverter;
 import org.folio.entlinks.integration.kafka.deserializer.DataImportEventDeserializer;
 import org.folio.entlinks.integration.kafka.filter.DataImportCanceledJobRecordFilterStrategy;
@@ -117,7 +120,9 @@ public class KafkaConfiguration {
    */
   @Bean
   public ConsumerFactory<String, AuthorityDomainEvent> authorityConsumerFactory(KafkaProperties kafkaProperties) {
-    return consumerFactoryForEvent(kafkaProperties, AuthorityDomainEvent.class);
+    var deserializer = new AuthorityDomainEventDeserializer(
+      new JacksonJsonDeserializer<>(AuthorityDomainEvent.class, jsonMapper, false));
+    return consumerFactoryForEvent(kafkaProperties, deserializer, Collections.emptyMap());
   }
 
   /**
@@ -298,16 +303,47 @@ public class KafkaConfiguration {
     return listenerFactory(diCanceledConsumerFactory, false);
   }
 
+  /**
+   * Creates and configures {@link org.springframework.kafka.core.ConsumerFactory} as Spring bean.
+   *
+   * <p>Key type - {@link String}, value - {@link String} (message body is ignored; only headers are consumed).</p>
+   *
+   * @return typed {@link org.springframework.kafka.core.ConsumerFactory} object as Spring bean.
+   */
+  @Bean
+  public ConsumerFactory<String, String> authoritySourceFileConsumerFactory(
+    KafkaProperties kafkaProperties,
+    @Value("#{folioKafkaProperties.listener['authority-source-file'].autoOffsetReset}")
+    FolioKafkaProperties.OffsetResetStrategy autoOffsetReset) {
+    Map<String, Object> config = new HashMap<>(kafkaProperties.buildConsumerProperties());
+    config.put(KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+    config.put(VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+    config.put(AUTO_OFFSET_RESET_CONFIG, autoOffsetReset.toString());
+    return new DefaultKafkaConsumerFactory<>(config, new StringDeserializer(), new StringDeserializer());
+  }
+
+  /**
+   * Creates and configures {@link org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory} as
+   * Spring bean for consuming authority source file domain events from Apache Kafka.
+   *
+   * @return {@link org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory} object as Spring bean.
+   */
+  @Bean
+  public ConcurrentKafkaListenerContainerFactory<String, String> authoritySourceFileListenerFactory(
+    ConsumerFactory<String, String> authoritySourceFileConsumerFactory) {
+    return listenerFactory(authoritySourceFileConsumerFactory, false);
+  }
+
   @Bean
   public EventProducer<LinksChangeEvent> linksChangeEventMessageProducerService(
-    KafkaTemplate<String, LinksChangeEvent> template) {
-    return new EventProducer<>(template, "links.instance-authority");
+    KafkaTemplate<String, LinksChangeEvent> template, KafkaProducerProperties producerProperties) {
+    return new EventProducer<>(template, "links.instance-authority", producerProperties.getMaxInFlight());
   }
 
   @Bean
   public EventProducer<LinkUpdateReport> linkUpdateReportMessageProducerService(
-    KafkaTemplate<String, LinkUpdateReport> template) {
-    return new EventProducer<>(template, "links.instance-authority-stats");
+    KafkaTemplate<String, LinkUpdateReport> template, KafkaProducerProperties producerProperties) {
+    return new EventProducer<>(template, "links.instance-authority-stats", producerProperties.getMaxInFlight());
   }
 
   @Bean
@@ -329,20 +365,21 @@ public class KafkaConfiguration {
 
   @Bean("authorityDomainMessageProducer")
   public <T> EventProducer<DomainEvent<T>> authorityDomainMessageProducerService(
-    KafkaTemplate<String, DomainEvent<T>> template) {
-    return new EventProducer<>(template, "authorities.authority");
+    KafkaTemplate<String, DomainEvent<T>> template, KafkaProducerProperties producerProperties) {
+    return new EventProducer<>(template, "authorities.authority", producerProperties.getMaxInFlight());
   }
 
   @Bean("authoritySourceFileDomainMessageProducer")
   public <T> EventProducer<DomainEvent<T>> authoritySourceFileDomainMessageProducerService(
-    KafkaTemplate<String, DomainEvent<T>> template) {
-    return new EventProducer<>(template, "authority.authority-source-file");
+    KafkaTemplate<String, DomainEvent<T>> template, KafkaProducerProperties producerProperties) {
+    return new EventProducer<>(template, "authority.authority-source-file", producerProperties.getMaxInFlight());
   }
 
   @Bean("subfieldUpdateRequestEventMessageProducer")
   public EventProducer<UpdateRequestEvent> specificationRequestEventMessageProducerService(
-    KafkaTemplate<String, UpdateRequestEvent> template) {
-    return new EventProducer<>(template, "specification-storage.specification.update");
+    KafkaTemplate<String, UpdateRequestEvent> template, KafkaProducerProperties producerProperties) {
+    return new EventProducer<>(template, "specification-storage.specification.update",
+      producerProperties.getMaxInFlight());
   }
 
   private <T> ConcurrentKafkaListenerContainerFactory<String, T> listenerFactory(
@@ -361,6 +398,12 @@ public class KafkaConfiguration {
   private <T> ConsumerFactory<String, T> consumerFactoryForEvent(KafkaProperties kafkaProperties, Class<T> eventClass,
                                                                  Map<String, Object> overrideProps) {
     var deserializer = new JacksonJsonDeserializer<>(eventClass, jsonMapper, false);
+    return consumerFactoryForEvent(kafkaProperties, deserializer, overrideProps);
+  }
+
+  private <T> ConsumerFactory<String, T> consumerFactoryForEvent(KafkaProperties kafkaProperties,
+                                                                 Deserializer<T> deserializer,
+                                                                 Map<String, Object> overrideProps) {
     Map<String, Object> config = new HashMap<>(kafkaProperties.buildConsumerProperties());
     config.put(KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
     config.put(VALUE_DESERIALIZER_CLASS_CONFIG, deserializer);
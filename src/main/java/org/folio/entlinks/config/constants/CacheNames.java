@@ -12,4 +12,8 @@ public class CacheNames {
   public static final String CONSORTIUM_CENTRAL_TENANT = "consortium-central-tenant-cache";
   public static final String AUTHORITY_EXTENDED_MAPPING_CACHE = "authority-extended-mapping-enabled-cache";
   public static final String DATA_IMPORT_CANCELED_JOB_CACHE = "data-import-canceled-job-cache";
+  public static final String LINKING_RULES_CACHE = "linking-rules-cache";
+  public static final String AUTHORITY_SOURCE_FILES_CACHE = "authority-source-files-cache";
+  public static final String USERS_CACHE = "users-cache";
+  public static final String INSTANCE_DATA_CACHE = "instance-data-cache";
 }
@@ -0,0 +1,20 @@
+package org.folio.entlinks.config.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Component
+@Validated
+@ConfigurationProperties("folio.authority-bulk")
+public class AuthorityBulkProperties {
+
+  /**
+   * Provides number of bulk file records that are parsed and upserted in a single transaction.
+   */
+  @Min(1)
+  private int chunkSize = 1000;
+}
@@ -0,0 +1,21 @@
+package org.folio.entlinks.config.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Component
+@Validated
+@ConfigurationProperties("folio.authority-listener")
+public class AuthorityListenerProperties {
+
+  /**
+   * Provides max number of authority groups of consumed batches that are processed in parallel.
+   * Events of the same authority always belong to the same group and are processed in order.
+   */
+  @Min(1)
+  private int parallelism = 4;
+}
@@ -0,0 +1,29 @@
+package org.folio.entlinks.config.properties;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Component
+@Validated
+@ConfigurationProperties("folio.consortium")
+public class ConsortiumProperties {
+
+  /**
+   * Provides max number of consortium member tenants that process central tenant authority changes in parallel.
+   */
+  @Min(1)
+  private int memberTenantsParallelism = 8;
+
+  /**
+   * Provides time to wait for all member tenants to process central tenant authority changes.
+   * Member tenants that did not finish in time are cancelled.
+   */
+  @NotNull
+  private Duration memberTenantsTimeout = Duration.ofMinutes(5);
+}
@@ -1,13 +1,22 @@
 package org.folio.entlinks.config.properties;
 
+import jakarta.validation.constraints.Min;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
 
 @Data
 @Component
+@Validated
 @ConfigurationProperties("folio.instance-authority.change")
 public class InstanceAuthorityChangeProperties {
 
   private int numPartitions = 100;
+
+  /**
+   * Provides max number of links deleted or updated in a single transaction on authority change.
+   */
+  @Min(1)
+  private int mutationChunkSize = 1000;
 }
@@ -1,6 +1,7 @@
 package org.folio.entlinks.config.properties;
 
 import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
@@ -18,4 +19,10 @@ public class InstanceStorageProperties {
    */
   @Max(90)
   private int batchSize = 50;
+
+  /**
+   * Provides max number of batches requested from inventory-storage concurrently.
+   */
+  @Min(1)
+  private int parallelism = 4;
 }
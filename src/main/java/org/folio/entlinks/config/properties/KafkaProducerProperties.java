@@ -0,0 +1,21 @@
+package org.folio.entlinks.config.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Component
+@Validated
+@ConfigurationProperties("folio.kafka-producer")
+public class KafkaProducerProperties {
+
+  /**
+   * Provides max number of not acknowledged events per topic producer.
+   * Sending is blocked when the limit is reached until previous events are acknowledged.
+   */
+  @Min(1)
+  private int maxInFlight = 1000;
+}
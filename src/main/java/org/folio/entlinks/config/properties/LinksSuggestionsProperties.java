@@ -0,0 +1,22 @@
+package org.folio.entlinks.config.properties;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Component
+@Validated
+@ConfigurationProperties("folio.links-suggestions")
+public class LinksSuggestionsProperties {
+
+  /**
+   * Provides time to wait for authorities of the consortium central tenant while suggesting links on a member tenant.
+   * Lookup of the central tenant authorities that did not finish in time is cancelled and the request fails.
+   */
+  @NotNull
+  private Duration timeout = Duration.ofSeconds(30);
+}
@@ -0,0 +1,42 @@
+package org.folio.entlinks.config.properties;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Component
+@Validated
+@ConfigurationProperties("folio.reindex")
+public class ReindexProperties {
+
+  /**
+   * Provides number of authority id ranges that are streamed and published in parallel.
+   */
+  @Min(1)
+  private int partitions = 4;
+
+  /**
+   * Provides number of authorities fetched per page.
+   * Also limits number of not acknowledged events per partition.
+   */
+  @Min(1)
+  private int batchSize = 500;
+
+  /**
+   * Provides number of attempts to resume failed partition from the last published authority.
+   */
+  @Min(0)
+  private int partitionRetries = 3;
+
+  /**
+   * Provides time since the last progress of an in-progress or pending cancel job after which the job
+   * is considered interrupted, for example by a restart of the module instance, and can be resumed.
+   */
+  @NotNull
+  private Duration staleJobTimeout = Duration.ofMinutes(10);
+}
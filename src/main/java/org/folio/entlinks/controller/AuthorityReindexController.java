@@ -34,6 +34,11 @@ public class AuthorityReindexController implements AuthorityStorageReindexApi {
     return ResponseEntity.noContent().build();
   }
 
+  @Override
+  public ResponseEntity<ReindexJobDto> resumeReindexJob(UUID id) {
+    return ResponseEntity.ok(reindexServiceDelegate.resumeReindexJob(id));
+  }
+
   @Override
   public ResponseEntity<ReindexJobDto> getReindexJob(UUID id) {
     return ResponseEntity.ok(reindexServiceDelegate.getReindexJobById(id));
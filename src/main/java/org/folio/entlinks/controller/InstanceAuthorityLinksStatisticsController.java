@@ -30,9 +30,10 @@ public class InstanceAuthorityLinksStatisticsController implements InstanceAutho
   @Override
   public ResponseEntity<BibStatsDtoCollection> getLinkedBibUpdateStats(OffsetDateTime fromDate,
                                                                        OffsetDateTime toDate,
-                                                                       LinkStatus status, Integer limit) {
+                                                                       LinkStatus status, Integer limit,
+                                                                       Long nextId) {
     return ResponseEntity.ok(
-      linkingServiceDelegate.getLinkedBibUpdateStats(fromDate, toDate, status, limit)
+      linkingServiceDelegate.getLinkedBibUpdateStats(fromDate, toDate, status, limit, nextId)
     );
   }
 }
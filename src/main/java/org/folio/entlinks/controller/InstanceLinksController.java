@@ -4,6 +4,9 @@ import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.folio.entlinks.controller.delegate.LinkingServiceDelegate;
 import org.folio.entlinks.domain.dto.InstanceLinkDtoCollection;
+import org.folio.entlinks.domain.dto.InstanceLinksBulkRequest;
+import org.folio.entlinks.domain.dto.InstanceLinksBulkResponse;
+import org.folio.entlinks.domain.dto.InstanceLinksFetchRequest;
 import org.folio.entlinks.rest.resource.InstanceLinksApi;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
@@ -25,4 +28,16 @@ public class InstanceLinksController implements InstanceLinksApi {
     linkingServiceDelegate.updateLinks(instanceId, instanceLinkCollection);
     return ResponseEntity.noContent().build();
   }
+
+  @Override
+  public ResponseEntity<InstanceLinkDtoCollection> fetchInstancesLinks(InstanceLinksFetchRequest fetchRequest) {
+    var links = linkingServiceDelegate.getLinks(fetchRequest);
+    return ResponseEntity.ok(links);
+  }
+
+  @Override
+  public ResponseEntity<InstanceLinksBulkResponse> updateInstancesLinks(InstanceLinksBulkRequest bulkRequest) {
+    var response = linkingServiceDelegate.updateLinks(bulkRequest);
+    return ResponseEntity.ok(response);
+  }
 }
@@ -23,6 +23,7 @@ public interface LinkingRulesMapper {
   @Mapping(target = "subfieldModifications", ignore = true)
   @Mapping(target = "bibField", ignore = true)
   @Mapping(target = "authorityField", ignore = true)
+  @Mapping(target = "version", ignore = true)
   InstanceAuthorityLinkingRule convert(LinkingRulePatchRequest patchRequest);
 
   default SubfieldValidation convert(Map<String, Boolean> existence) {
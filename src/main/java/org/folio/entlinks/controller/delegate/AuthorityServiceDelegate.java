@@ -120,11 +120,13 @@ public class AuthorityServiceDelegate {
   public AuthorityBulkResponse createAuthorities(AuthorityBulkRequest createRequest) {
     var bulkContext = new AuthoritiesBulkContext(
         createRequest.getRecordsFileName(), localStorageProperties.getS3LocalSubPath());
-    var errorsCount = authorityS3Service.processAuthorities(bulkContext, this::upsertAuthorities);
+    var result = authorityS3Service.processAuthorities(bulkContext, this::upsertAuthorities);
 
     var authorityBulkCreateResponse = new AuthorityBulkResponse()
-      .errorsNumber(errorsCount);
-    if (errorsCount > 0) {
+      .errorsNumber(result.errorsCount())
+      .batchSplitsNumber(result.batchSplits())
+      .isolatedFailuresNumber(result.isolatedFailures());
+    if (result.errorsCount() > 0) {
       authorityBulkCreateResponse
         .errorRecordsFileName(bulkContext.getFailedEntitiesFilePath())
         .errorsFileName(bulkContext.getErrorsFilePath());
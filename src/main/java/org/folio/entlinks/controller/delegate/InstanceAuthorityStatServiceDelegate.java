@@ -4,11 +4,13 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.folio.entlinks.utils.DateUtils.fromTimestamp;
 
 import java.time.OffsetDateTime;
-import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.entlinks.client.UsersClient;
@@ -18,7 +20,9 @@ import org.folio.entlinks.domain.dto.AuthorityStatsDto;
 import org.folio.entlinks.domain.dto.AuthorityStatsDtoCollection;
 import org.folio.entlinks.domain.dto.LinkAction;
 import org.folio.entlinks.domain.entity.AuthorityDataStat;
-import org.folio.entlinks.domain.repository.AuthoritySourceFileRepository;
+import org.folio.entlinks.domain.entity.AuthoritySourceFile;
+import org.folio.entlinks.integration.internal.UsersService;
+import org.folio.entlinks.service.authority.AuthoritySourceFileCacheService;
 import org.folio.entlinks.service.links.AuthorityDataStatService;
 import org.folio.entlinks.utils.DateUtils;
 import org.springframework.stereotype.Component;
@@ -31,8 +35,8 @@ public class InstanceAuthorityStatServiceDelegate {
   private static final String NOT_SPECIFIED_SOURCE_FILE = "Not specified";
   private final AuthorityDataStatService dataStatService;
   private final DataStatsMapper dataStatMapper;
-  private final UsersClient usersClient;
-  private final AuthoritySourceFileRepository sourceFileRepository;
+  private final UsersService usersService;
+  private final AuthoritySourceFileCacheService sourceFileCacheService;
 
   public AuthorityStatsDtoCollection fetchAuthorityDataStats(OffsetDateTime fromDate, OffsetDateTime toDate,
                                                              LinkAction action, Integer limit) {
@@ -46,12 +50,13 @@ public class InstanceAuthorityStatServiceDelegate {
       dataStatList = dataStatList.subList(0, limit);
     }
 
-    var users = getUsers(dataStatList);
+    var sourceFiles = sourceFileCacheService.findByIds(getSourceFileIds(dataStatList));
+    var users = usersService.getUsersPersonal(getUserIds(dataStatList));
     var stats = dataStatList.stream()
       .map(source -> {
         var authorityDataStatDto = dataStatMapper.convertToDto(source);
         if (authorityDataStatDto != null) {
-          fillSourceFiles(authorityDataStatDto);
+          fillSourceFiles(authorityDataStatDto, sourceFiles);
           authorityDataStatDto.setMetadata(getMetadata(users, source));
         }
         return authorityDataStatDto;
@@ -61,46 +66,38 @@ public class InstanceAuthorityStatServiceDelegate {
     return authorityStatsCollection.stats(stats);
   }
 
-  private AuthorityControlMetadata getMetadata(UsersClient.UserCollection userCollection, AuthorityDataStat source) {
+  private AuthorityControlMetadata getMetadata(Map<UUID, UsersClient.Personal> users, AuthorityDataStat source) {
     var startedByUserId = source.getStartedByUserId();
     var metadata = new AuthorityControlMetadata();
     metadata.setStartedByUserId(startedByUserId);
     metadata.setStartedAt(DateUtils.fromTimestamp(source.getStartedAt()));
-    if (userCollection == null || userCollection.users() == null) {
+    var personal = startedByUserId == null ? null : users.get(startedByUserId);
+    if (personal == null) {
       return metadata;
     }
 
-    var user = userCollection.users()
-      .stream()
-      .filter(u -> UUID.fromString(u.id()).equals(startedByUserId))
-      .findFirst().orElse(null);
-    if (user == null) {
-      return metadata;
-    }
-
-    metadata.setStartedByUserFirstName(user.personal().firstName());
-    metadata.setStartedByUserLastName(user.personal().lastName());
+    metadata.setStartedByUserFirstName(personal.firstName());
+    metadata.setStartedByUserLastName(personal.lastName());
     return metadata;
   }
 
-  private UsersClient.UserCollection getUsers(List<AuthorityDataStat> dataStatList) {
-    String query = getUsersQueryString(dataStatList);
-    return query.isEmpty() ? new UsersClient.UserCollection(Collections.emptyList()) : usersClient.query(query);
+  private Set<UUID> getUserIds(List<AuthorityDataStat> dataStatList) {
+    return dataStatList.stream()
+      .map(AuthorityDataStat::getStartedByUserId)
+      .filter(Objects::nonNull)
+      .collect(Collectors.toSet());
   }
 
-  private String getUsersQueryString(List<AuthorityDataStat> dataStatList) {
-    var userIds = dataStatList.stream()
-      .map(AuthorityDataStat::getStartedByUserId)
+  private Set<UUID> getSourceFileIds(List<AuthorityDataStat> dataStatList) {
+    return dataStatList.stream()
+      .flatMap(dataStat -> Stream.of(dataStat.getAuthoritySourceFileOld(), dataStat.getAuthoritySourceFileNew()))
       .filter(Objects::nonNull)
-      .map(UUID::toString)
-      .distinct()
-      .collect(Collectors.joining(" or "));
-    return userIds.isEmpty() ? "" : "id=(" + userIds + ")";
+      .collect(Collectors.toSet());
   }
 
-  private String getSourceFileName(String uuid) {
+  private String getSourceFileName(String uuid, Map<UUID, AuthoritySourceFile> sourceFiles) {
     if (isNotBlank(uuid)) {
-      var sourceFile = sourceFileRepository.findById(UUID.fromString(uuid)).orElse(null);
+      var sourceFile = sourceFiles.get(UUID.fromString(uuid));
       if (sourceFile != null) {
         return sourceFile.getName();
       }
@@ -108,10 +105,10 @@ public class InstanceAuthorityStatServiceDelegate {
     return NOT_SPECIFIED_SOURCE_FILE;
   }
 
-  private void fillSourceFiles(AuthorityStatsDto authorityDataStatDto) {
+  private void fillSourceFiles(AuthorityStatsDto authorityDataStatDto, Map<UUID, AuthoritySourceFile> sourceFiles) {
     var sourceFileIdOld = authorityDataStatDto.getSourceFileOld();
     var sourceFileIdNew = authorityDataStatDto.getSourceFileNew();
-    authorityDataStatDto.setSourceFileOld(getSourceFileName(sourceFileIdOld));
-    authorityDataStatDto.setSourceFileNew(getSourceFileName(sourceFileIdNew));
+    authorityDataStatDto.setSourceFileOld(getSourceFileName(sourceFileIdOld, sourceFiles));
+    authorityDataStatDto.setSourceFileNew(getSourceFileName(sourceFileIdNew, sourceFiles));
   }
 }
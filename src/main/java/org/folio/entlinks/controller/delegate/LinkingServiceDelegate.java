@@ -1,10 +1,13 @@
 package org.folio.entlinks.controller.delegate;
 
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
 import java.time.OffsetDateTime;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -15,7 +18,12 @@ import org.folio.entlinks.domain.dto.BibStatsDto;
 import org.folio.entlinks.domain.dto.BibStatsDtoCollection;
 import org.folio.entlinks.domain.dto.InstanceLinkDto;
 import org.folio.entlinks.domain.dto.InstanceLinkDtoCollection;
+import org.folio.entlinks.domain.dto.InstanceLinksBulkError;
+import org.folio.entlinks.domain.dto.InstanceLinksBulkRequest;
+import org.folio.entlinks.domain.dto.InstanceLinksBulkResponse;
+import org.folio.entlinks.domain.dto.InstanceLinksFetchRequest;
 import org.folio.entlinks.domain.dto.LinkStatus;
+import org.folio.entlinks.domain.entity.InstanceAuthorityLink;
 import org.folio.entlinks.exception.RequestBodyValidationException;
 import org.folio.entlinks.integration.internal.InstanceStorageService;
 import org.folio.entlinks.service.consortium.ConsortiumTenantExecutor;
@@ -44,24 +52,45 @@ public class LinkingServiceDelegate {
     return mapper.convertToDto(links);
   }
 
+  public InstanceLinkDtoCollection getLinks(InstanceLinksFetchRequest fetchRequest) {
+    var links = linkingService.getLinksByInstanceIds(new LinkedHashSet<>(fetchRequest.getIds()));
+    if (!links.isEmpty()) {
+      linkingService.setNaturalIdForSharedAuthority(links);
+    }
+    return mapper.convertToDto(links);
+  }
+
+  /**
+   * Returns a page of linked bib update statistics ordered by update date and link id descending.
+   * The next page is requested with {@code next} and {@code nextId} of the response
+   * as {@code toDate} and {@code nextId}.
+   *
+   * @param nextId id of the first link of the page, requires {@code toDate}, ignored if null
+   */
   public BibStatsDtoCollection getLinkedBibUpdateStats(OffsetDateTime fromDate, OffsetDateTime toDate,
-                                                       LinkStatus status, int limit) {
+                                                       LinkStatus status, int limit, Long nextId) {
     validateDateRange(fromDate, toDate);
-    var links = linkingService.getLinks(status, fromDate, toDate, limit + 1);
+    validateNextId(toDate, nextId);
+    var links = linkingService.getLinks(status, fromDate, toDate, nextId, limit + 1);
     log.debug("Retrieved links count {}", links.size());
     if (!links.isEmpty()) {
       linkingService.setNaturalIdForSharedAuthority(links);
     }
     var bibStatsCollection = new BibStatsDtoCollection();
     var stats = statsMapper.convertToDto(links);
-    stats = filterOutShadowCopiesAndFillInstanceTitles(stats);
-    if (stats.size() > limit) {
-      var nextDate = stats.get(limit).getUpdatedAt();
-      bibStatsCollection.setNext(nextDate);
-      stats = stats.subList(0, limit);
+    var linkStats = new ArrayList<LinkStats>(stats.size());
+    for (int i = 0; i < stats.size(); i++) {
+      linkStats.add(new LinkStats(links.get(i).getId(), stats.get(i)));
+    }
+    var filteredStats = filterOutShadowCopiesAndFillInstanceTitles(linkStats);
+    if (filteredStats.size() > limit) {
+      var nextStats = filteredStats.get(limit);
+      bibStatsCollection.setNext(nextStats.stats().getUpdatedAt());
+      bibStatsCollection.setNextId(nextStats.linkId());
+      filteredStats = filteredStats.subList(0, limit);
     }
 
-    return bibStatsCollection.stats(stats);
+    return bibStatsCollection.stats(filteredStats.stream().map(LinkStats::stats).toList());
   }
 
   public void updateLinks(UUID instanceId, @NotNull InstanceLinkDtoCollection instanceLinkCollection) {
@@ -71,6 +100,35 @@ public class LinkingServiceDelegate {
     linkingService.updateLinks(instanceId, incomingLinks);
   }
 
+  public InstanceLinksBulkResponse updateLinks(@NotNull InstanceLinksBulkRequest bulkRequest) {
+    var errors = new ArrayList<InstanceLinksBulkError>();
+    var incomingLinksByInstanceId = new LinkedHashMap<UUID, List<InstanceAuthorityLink>>();
+    for (var instanceLinks : bulkRequest.getInstances()) {
+      var instanceId = instanceLinks.getInstanceId();
+      if (incomingLinksByInstanceId.containsKey(instanceId)) {
+        errors.add(bulkError(instanceId, "Instance links should be provided only once"));
+        continue;
+      }
+      try {
+        validateLinks(instanceId, instanceLinks.getLinks());
+        incomingLinksByInstanceId.put(instanceId, mapper.convertDto(instanceLinks.getLinks()));
+      } catch (RequestBodyValidationException e) {
+        log.warn("updateLinks:: invalid links for [instanceId: {}, error: {}]", instanceId, e.getMessage());
+        errors.add(bulkError(instanceId, e.getMessage()));
+      }
+    }
+
+    if (!incomingLinksByInstanceId.isEmpty()) {
+      linkingService.updateLinks(incomingLinksByInstanceId)
+        .forEach((instanceId, message) -> errors.add(bulkError(instanceId, message)));
+    }
+    return new InstanceLinksBulkResponse().errors(errors).errorsNumber(errors.size());
+  }
+
+  private InstanceLinksBulkError bulkError(UUID instanceId, String message) {
+    return new InstanceLinksBulkError().instanceId(instanceId).message(message);
+  }
+
   private void validateLinks(UUID instanceId, List<InstanceLinkDto> links) {
     validateInstanceId(instanceId, links);
   }
@@ -100,17 +158,25 @@ public class LinkingServiceDelegate {
     }
   }
 
-  private List<BibStatsDto> filterOutShadowCopiesAndFillInstanceTitles(List<BibStatsDto> bibStatsList) {
-    var instanceIds = bibStatsList.stream()
-      .map(BibStatsDto::getInstanceId)
+  private void validateNextId(OffsetDateTime toDate, Long nextId) {
+    if (nonNull(nextId) && isNull(toDate)) {
+      var params = List.of(new Parameter("nextId").value(nextId.toString()));
+      throw new RequestBodyValidationException("'to' date is required when 'nextId' is provided.", params);
+    }
+  }
+
+  private List<LinkStats> filterOutShadowCopiesAndFillInstanceTitles(List<LinkStats> linkStatsList) {
+    var instanceIds = linkStatsList.stream()
+      .map(linkStats -> linkStats.stats().getInstanceId())
       .map(UUID::toString)
       .distinct()
       .toList();
 
     var instanceData = instanceService.getInstanceData(instanceIds);
 
-    var bibStatsResult = new LinkedList<BibStatsDto>();
-    bibStatsList.forEach(bibStatsDto -> {
+    var bibStatsResult = new ArrayList<LinkStats>();
+    linkStatsList.forEach(linkStats -> {
+      var bibStatsDto = linkStats.stats();
       var instanceId = bibStatsDto.getInstanceId().toString();
       var instanceDataEntry = instanceData.get(instanceId);
       var isShadowCopy = instanceDataEntry == null
@@ -126,9 +192,11 @@ public class LinkingServiceDelegate {
       }
 
       bibStatsDto.setInstanceTitle(title);
-      bibStatsResult.add(bibStatsDto);
+      bibStatsResult.add(linkStats);
     });
 
     return bibStatsResult;
   }
+
+  private record LinkStats(Long linkId, BibStatsDto stats) { }
 }
@@ -11,6 +11,7 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import lombok.extern.log4j.Log4j2;
 import org.folio.entlinks.client.SourceStorageClient;
+import org.folio.entlinks.config.properties.LinksSuggestionsProperties;
 import org.folio.entlinks.controller.converter.SourceContentMapper;
 import org.folio.entlinks.domain.entity.Authority;
 import org.folio.entlinks.domain.repository.AuthorityJdbcRepository;
@@ -23,6 +24,7 @@ import org.folio.entlinks.service.links.InstanceAuthorityLinkingRulesService;
 import org.folio.entlinks.service.links.LinksSuggestionsService;
 import org.folio.entlinks.utils.FieldUtils;
 import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.scope.FolioExecutionContextService;
 import org.springframework.stereotype.Service;
 
 @Log4j2
@@ -41,9 +43,11 @@ public class LinksSuggestionsByAuthorityId extends LinksSuggestionsServiceDelega
                                        SourceContentMapper contentMapper,
                                        ConsortiumTenantExecutor executor,
                                        UserTenantsService tenantsService,
-                                       FolioExecutionContext context, AuthorityJdbcRepository jdbcRepository) {
+                                       FolioExecutionContext context, AuthorityJdbcRepository jdbcRepository,
+                                       FolioExecutionContextService executionService,
+                                       LinksSuggestionsProperties suggestionsProperties) {
     super(linkingRulesService, suggestionService, sourceStorageClient,
-      contentMapper, executor, tenantsService, context);
+      contentMapper, executor, tenantsService, context, executionService, suggestionsProperties);
     this.authorityRepository = repository;
     this.jdbcRepository = jdbcRepository;
   }
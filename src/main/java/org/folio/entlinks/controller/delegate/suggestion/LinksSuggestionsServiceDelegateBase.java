@@ -1,7 +1,6 @@
 package org.folio.entlinks.controller.delegate.suggestion;
 
 import static java.util.Objects.isNull;
-import static java.util.stream.Collectors.groupingBy;
 import static org.apache.commons.collections4.CollectionUtils.isEmpty;
 import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
 
@@ -9,17 +8,25 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.collections4.CollectionUtils;
 import org.folio.entlinks.client.SourceStorageClient;
+import org.folio.entlinks.config.properties.LinksSuggestionsProperties;
 import org.folio.entlinks.controller.converter.SourceContentMapper;
 import org.folio.entlinks.domain.dto.ParsedRecordContentCollection;
 import org.folio.entlinks.domain.dto.StrippedParsedRecordCollection;
 import org.folio.entlinks.domain.entity.Authority;
 import org.folio.entlinks.domain.entity.InstanceAuthorityLinkingRule;
+import org.folio.entlinks.exception.FolioIntegrationException;
 import org.folio.entlinks.integration.dto.AuthorityParsedContent;
 import org.folio.entlinks.integration.dto.FieldParsedContent;
 import org.folio.entlinks.integration.dto.SourceParsedContent;
@@ -29,6 +36,7 @@ import org.folio.entlinks.service.links.InstanceAuthorityLinkingRulesService;
 import org.folio.entlinks.service.links.LinksSuggestionsService;
 import org.folio.entlinks.service.links.model.AuthorityFieldConstants;
 import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.scope.FolioExecutionContextService;
 import org.springframework.stereotype.Service;
 
 /**
@@ -49,24 +57,36 @@ public abstract class LinksSuggestionsServiceDelegateBase<T> implements LinksSug
   private final ConsortiumTenantExecutor executor;
   private final UserTenantsService userTenantsService;
   private final FolioExecutionContext folioExecutionContext;
+  private final FolioExecutionContextService executionService;
+  private final LinksSuggestionsProperties suggestionsProperties;
 
   public ParsedRecordContentCollection suggestLinksForMarcRecords(
       ParsedRecordContentCollection contentCollection, Boolean ignoreAutoLinkingEnabled) {
     log.info("suggestLinksForMarcRecords:: {}: started for [{} bibs, ignoreAutoLinkingEnabled: {}]",
       this.getClass().getSimpleName(), contentCollection.getRecords().size(), ignoreAutoLinkingEnabled);
-    var rules = rulesToBibFieldMap(linkingRulesService.getLinkingRules());
+    var rules = linkingRulesService.getLinkingRulesByBibField();
     var marcBibsContent = contentMapper.convertToParsedContent(contentCollection);
 
     var authoritySearchIds = extractIdsOfLinkableFields(marcBibsContent, rules, ignoreAutoLinkingEnabled);
     log.info("suggestLinksForMarcRecords:: extracted [{} authority search ids]", authoritySearchIds.size());
 
-    var localAuthorities = findExistingAuthorities(authoritySearchIds);
-    var sharedAuthorities = findExistingAuthoritiesForCentralIfOnMember(authoritySearchIds);
+    var deadline = System.nanoTime() + suggestionsProperties.getTimeout().toNanos();
+    var sharedLookupTask = startSharedAuthoritiesLookupIfOnMember(authoritySearchIds);
+    AuthoritiesLookup localLookup;
+    try {
+      localLookup = lookupLocalAuthorities(authoritySearchIds);
+    } catch (RuntimeException e) {
+      sharedLookupTask.cancel(true);
+      throw e;
+    }
+    var sharedLookup = awaitSharedAuthoritiesLookup(sharedLookupTask, deadline);
     log.info("suggestLinksForMarcRecords:: authorities found [local: {}, shared: {}]",
-      localAuthorities.size(), sharedAuthorities == null ? 0 : sharedAuthorities.size());
+      localLookup.authorities().size(), sharedLookup.authorities().size());
 
-    if (isNotEmpty(localAuthorities) || isNotEmpty(sharedAuthorities)) {
-      var marcAuthoritiesContent = getAuthoritiesParsedContent(localAuthorities, sharedAuthorities);
+    if (isNotEmpty(localLookup.authorities()) || isNotEmpty(sharedLookup.authorities())) {
+      var marcAuthoritiesContent = Stream.of(sharedLookup.content(), localLookup.content())
+        .flatMap(List::stream)
+        .toList();
       suggestionService.fillLinkDetailsWithSuggestedAuthorities(marcBibsContent, marcAuthoritiesContent, rules,
           getSearchSubfield(), ignoreAutoLinkingEnabled);
     } else {
@@ -84,27 +104,60 @@ public abstract class LinksSuggestionsServiceDelegateBase<T> implements LinksSug
 
   protected abstract T extractId(Authority authorityData);
 
-  private List<Authority> findExistingAuthoritiesForCentralIfOnMember(Set<T> ids) {
+  /**
+   * Starts lookup of the central tenant authorities and their MARC records on a virtual thread,
+   * so it runs concurrently with the lookup of the local authorities.
+   * Lookup runs within the context of the current request, central tenant records are fetched as central tenant.
+   * */
+  private Future<AuthoritiesLookup> startSharedAuthoritiesLookupIfOnMember(Set<T> ids) {
     var tenant = folioExecutionContext.getTenantId();
     var centralTenant = userTenantsService.getCentralTenant(tenant);
     if (centralTenant.isEmpty() || centralTenant.get().equals(tenant)) {
-      return Collections.emptyList();
+      return CompletableFuture.completedFuture(AuthoritiesLookup.EMPTY);
     }
-    return findExistingAuthoritiesForTenant(centralTenant.get(), ids);
+
+    var okapiHeaders = folioExecutionContext.getOkapiHeaders();
+    var lookupTask = new FutureTask<AuthoritiesLookup>(() -> executionService.execute(tenant, okapiHeaders,
+      () -> lookupSharedAuthorities(centralTenant.get(), ids)));
+    Thread.ofVirtual().name("links-suggestions-" + tenant).start(lookupTask);
+    return lookupTask;
   }
 
-  private List<AuthorityParsedContent> getAuthoritiesParsedContent(List<Authority> localAuthorities,
-                                                                   List<Authority> sharedAuthorities) {
-    var marcRecordsForShadowCopyAuthorities = isEmpty(sharedAuthorities) ? new StrippedParsedRecordCollection() :
-        executor.executeAsCentralTenant(() -> fetchAuthorityParsedRecords(sharedAuthorities));
-    var marcRecordsForLocalCopyAuthorities = isEmpty(localAuthorities) ? new StrippedParsedRecordCollection() :
-      fetchAuthorityParsedRecords(localAuthorities);
-    return Stream.of(
-        contentMapper.convertToAuthorityParsedContent(marcRecordsForShadowCopyAuthorities, sharedAuthorities),
-        contentMapper.convertToAuthorityParsedContent(marcRecordsForLocalCopyAuthorities, localAuthorities)
-    )
-        .flatMap(List::stream)
-        .toList();
+  private AuthoritiesLookup awaitSharedAuthoritiesLookup(Future<AuthoritiesLookup> lookupTask, long deadline) {
+    try {
+      return lookupTask.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      lookupTask.cancel(true);
+      throw new FolioIntegrationException("Interrupted while fetching central tenant authorities", e);
+    } catch (TimeoutException e) {
+      lookupTask.cancel(true);
+      throw new FolioIntegrationException("Central tenant authorities were not fetched in time [timeout: "
+                                          + suggestionsProperties.getTimeout() + "]", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new FolioIntegrationException("Failed to fetch central tenant authorities", e.getCause());
+    }
+  }
+
+  private AuthoritiesLookup lookupLocalAuthorities(Set<T> ids) {
+    var authorities = findExistingAuthorities(ids);
+    if (isEmpty(authorities)) {
+      return AuthoritiesLookup.EMPTY;
+    }
+    var marcRecords = fetchAuthorityParsedRecords(authorities);
+    return new AuthoritiesLookup(authorities, contentMapper.convertToAuthorityParsedContent(marcRecords, authorities));
+  }
+
+  private AuthoritiesLookup lookupSharedAuthorities(String centralTenant, Set<T> ids) {
+    var authorities = findExistingAuthoritiesForTenant(centralTenant, ids);
+    if (isEmpty(authorities)) {
+      return AuthoritiesLookup.EMPTY;
+    }
+    var marcRecords = executor.executeAsCentralTenant(() -> fetchAuthorityParsedRecords(authorities));
+    return new AuthoritiesLookup(authorities, contentMapper.convertToAuthorityParsedContent(marcRecords, authorities));
   }
 
   private StrippedParsedRecordCollection fetchAuthorityParsedRecords(List<Authority> authorities) {
@@ -149,7 +202,8 @@ public abstract class LinksSuggestionsServiceDelegateBase<T> implements LinksSug
     return false;
   }
 
-  private Map<String, List<InstanceAuthorityLinkingRule>> rulesToBibFieldMap(List<InstanceAuthorityLinkingRule> rules) {
-    return rules.stream().collect(groupingBy(InstanceAuthorityLinkingRule::getBibField));
+  private record AuthoritiesLookup(List<Authority> authorities, List<AuthorityParsedContent> content) {
+
+    private static final AuthoritiesLookup EMPTY = new AuthoritiesLookup(List.of(), List.of());
   }
 }
@@ -34,7 +34,10 @@ import org.hibernate.type.SqlTypes;
 @AllArgsConstructor
 @Table(name = "instance_authority_link", indexes = {
   @Index(name = "idx_instance_authority_link_authority_id", columnList = "authority_id"),
-  @Index(name = "idx_instance_authority_link_instance_id", columnList = "instance_id")
+  @Index(name = "idx_instance_authority_link_authority_id_id", columnList = "authority_id, id"),
+  @Index(name = "idx_instance_authority_link_instance_id", columnList = "instance_id"),
+  @Index(name = "idx_instance_authority_link_updated_at_id", columnList = "updated_at, id"),
+  @Index(name = "idx_instance_authority_link_status_updated_at_id", columnList = "status, updated_at, id")
 })
 public class InstanceAuthorityLink extends AuditableEntity {
 
@@ -86,10 +89,4 @@ public class InstanceAuthorityLink extends AuditableEntity {
     InstanceAuthorityLink instanceLink = (InstanceAuthorityLink) o;
     return id != null && Objects.equals(id, instanceLink.id);
   }
-
-  public boolean isSameLink(InstanceAuthorityLink link) {
-    return authorityId.equals(link.getAuthorityId())
-      && instanceId.equals(link.instanceId)
-      && linkingRule.equals(link.getLinkingRule());
-  }
 }
@@ -8,9 +8,12 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -61,6 +64,31 @@ public class InstanceAuthorityLinkingRule {
   @Column(name = "auto_linking_enabled", nullable = false)
   private Boolean autoLinkingEnabled;
 
+  @Version
+  @Column(name = "_version", nullable = false)
+  private int version;
+
+  public InstanceAuthorityLinkingRule(InstanceAuthorityLinkingRule other) {
+    this.id = other.id;
+    this.bibField = other.bibField;
+    this.authorityField = other.authorityField;
+    this.authoritySubfields = Optional.ofNullable(other.authoritySubfields)
+      .map(char[]::clone)
+      .orElse(null);
+    this.subfieldModifications = Optional.ofNullable(other.subfieldModifications)
+      .map(modifications -> modifications.stream()
+        .map(modification -> new SubfieldModification()
+          .source(modification.getSource())
+          .target(modification.getTarget()))
+        .toList())
+      .orElse(null);
+    this.subfieldsExistenceValidations = Optional.ofNullable(other.subfieldsExistenceValidations)
+      .map(LinkedHashMap::new)
+      .orElse(null);
+    this.autoLinkingEnabled = other.autoLinkingEnabled;
+    this.version = other.version;
+  }
+
   @Override
   public int hashCode() {
     return getClass().hashCode();
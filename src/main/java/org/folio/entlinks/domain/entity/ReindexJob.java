@@ -9,6 +9,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import java.time.OffsetDateTime;
+import java.util.Map;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -16,6 +17,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.With;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 @Getter
 @Setter
@@ -45,4 +48,14 @@ public class ReindexJob {
 
   @Column(name = "submitted_date")
   private OffsetDateTime submittedDate;
+
+  @Column(name = "partitions")
+  private Integer partitions;
+
+  /**
+   * Last published authority id by partition index.
+   */
+  @JdbcTypeCode(SqlTypes.JSON)
+  @Column(name = "checkpoint")
+  private Map<Integer, UUID> checkpoint;
 }
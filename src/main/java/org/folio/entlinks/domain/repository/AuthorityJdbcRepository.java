@@ -2,6 +2,8 @@ package org.folio.entlinks.domain.repository;
 
 import static org.folio.entlinks.utils.JdbcUtils.getFullPath;
 
+import com.google.common.collect.Iterables;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -12,11 +14,31 @@ import org.folio.entlinks.domain.entity.Authority;
 import org.folio.entlinks.domain.mapper.AuthorityRowMapper;
 import org.folio.spring.FolioExecutionContext;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
 
+/**
+ * Queries authorities of the given tenant schema.
+ * Ids are bound as a single array parameter, so the statement text depends only on the schema
+ * and the same statement is reused by the database for any number of ids.
+ * */
 @Repository
 public class AuthorityJdbcRepository {
+
+  /**
+   * Max number of ids bound to a single statement, larger id sets are queried in chunks.
+   */
+  static final int MAX_IDS_PER_QUERY = 1000;
+
   private static final String AUTHORITY_TABLE = "authority";
+  private static final String UUID_ARRAY_TYPE = "uuid";
+  private static final String VARCHAR_ARRAY_TYPE = "varchar";
+  private static final String FIND_BY_IDS_QUERY = "SELECT * FROM %s WHERE id = ANY(?) AND deleted = false";
+  private static final String FIND_BY_NATURAL_IDS_QUERY =
+    "SELECT * FROM %s WHERE natural_id = ANY(?) AND deleted = false";
+  private static final String FIND_IDS_BY_IDS_QUERY = "SELECT id FROM %s WHERE id = ANY(?) AND deleted = false";
+  private static final String FIND_NATURAL_IDS_BY_IDS_QUERY =
+    "SELECT id, natural_id FROM %s WHERE id = ANY(?) AND deleted = false";
 
   private final JdbcTemplate jdbcTemplate;
   private final FolioExecutionContext folioExecutionContext;
@@ -26,53 +48,59 @@ public class AuthorityJdbcRepository {
     this.folioExecutionContext = folioExecutionContext;
   }
 
-  @SuppressWarnings("java:S2077") //dynamically formatted query is safe here
   public List<Authority> findAllByIdInAndDeletedFalse(Collection<UUID> ids, String tenantId) {
     if (ids == null || ids.isEmpty()) {
       return List.of();
     }
-    var sql = "SELECT * FROM %s WHERE id IN (%s) AND deleted = false".formatted(
-      getFullPath(folioExecutionContext, tenantId, AUTHORITY_TABLE),
-      String.join(",", ids.stream().map(id -> "'" + id + "'").toList()));
-    return jdbcTemplate.query(sql, new AuthorityRowMapper());
+    var rowMapper = new AuthorityRowMapper();
+    var authorities = new ArrayList<Authority>();
+    queryInChunks(FIND_BY_IDS_QUERY, tenantId, UUID_ARRAY_TYPE, ids,
+      rs -> authorities.add(rowMapper.mapRow(rs, authorities.size())));
+    return authorities;
   }
 
-  @SuppressWarnings("java:S2077") //dynamically formatted query is safe here
   public List<Authority> findByNaturalIdInAndDeletedFalse(Collection<String> ids, String tenantId) {
     if (ids == null || ids.isEmpty()) {
       return List.of();
     }
-    var sql = "SELECT * FROM %s WHERE natural_id IN (%s) AND deleted = false".formatted(
-      getFullPath(folioExecutionContext, tenantId, AUTHORITY_TABLE),
-      String.join(",", ids.stream().map(id -> "'" + id + "'").toList()));
-    return jdbcTemplate.query(sql, new AuthorityRowMapper());
+    var rowMapper = new AuthorityRowMapper();
+    var authorities = new ArrayList<Authority>();
+    queryInChunks(FIND_BY_NATURAL_IDS_QUERY, tenantId, VARCHAR_ARRAY_TYPE, ids,
+      rs -> authorities.add(rowMapper.mapRow(rs, authorities.size())));
+    return authorities;
   }
 
-  @SuppressWarnings("java:S2077") //dynamically formatted query is safe here
   public List<UUID> findExistingIdsByIdsAndDeletedFalse(Collection<UUID> ids, String tenantId) {
     if (ids == null || ids.isEmpty()) {
       return List.of();
     }
-    var sql = "SELECT id FROM %s WHERE id IN (%s) AND deleted = false".formatted(
-      getFullPath(folioExecutionContext, tenantId, AUTHORITY_TABLE),
-      String.join(",", ids.stream().map(id -> "'" + id + "'").toList()));
-    return jdbcTemplate.query(sql, (rs, rowNum) -> UUID.fromString(rs.getString("id")));
+    var existingIds = new ArrayList<UUID>();
+    queryInChunks(FIND_IDS_BY_IDS_QUERY, tenantId, UUID_ARRAY_TYPE, ids,
+      rs -> existingIds.add(UUID.fromString(rs.getString("id"))));
+    return existingIds;
   }
 
-  @SuppressWarnings("java:S2077") //dynamically formatted query is safe here
   public Map<UUID, String> findAuthorityNaturalIdsByIdsAndDeletedFalse(Collection<UUID> ids, String tenantId) {
     if (ids == null || ids.isEmpty()) {
       return Collections.emptyMap();
     }
-    var sql = "SELECT id, natural_id FROM %s WHERE id IN (%s) AND deleted = false".formatted(
-      getFullPath(folioExecutionContext, tenantId, AUTHORITY_TABLE),
-      String.join(",", ids.stream().map(id -> "'" + id + "'").toList()));
-    return jdbcTemplate.query(sql, rs -> {
-      var result = new HashMap<UUID, String>();
-      while (rs.next()) {
-        result.put(UUID.fromString(rs.getString("id")), rs.getString("natural_id"));
-      }
-      return result;
-    });
+    var result = new HashMap<UUID, String>();
+    queryInChunks(FIND_NATURAL_IDS_BY_IDS_QUERY, tenantId, UUID_ARRAY_TYPE, ids,
+      rs -> result.put(UUID.fromString(rs.getString("id")), rs.getString("natural_id")));
+    return result;
+  }
+
+  @SuppressWarnings("java:S2077") //dynamically formatted query is safe here
+  private void queryInChunks(String query, String tenantId, String arrayType, Collection<?> values,
+                             RowCallbackHandler rowHandler) {
+    var statement = getStatement(query, tenantId);
+    for (var chunk : Iterables.partition(values, MAX_IDS_PER_QUERY)) {
+      jdbcTemplate.query(statement,
+        ps -> ps.setArray(1, ps.getConnection().createArrayOf(arrayType, chunk.toArray())), rowHandler);
+    }
+  }
+
+  private String getStatement(String query, String tenantId) {
+    return query.formatted(getFullPath(folioExecutionContext, tenantId, AUTHORITY_TABLE));
   }
 }
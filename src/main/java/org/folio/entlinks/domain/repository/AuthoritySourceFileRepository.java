@@ -1,5 +1,6 @@
 package org.folio.entlinks.domain.repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.folio.entlinks.domain.entity.AuthoritySourceFile;
@@ -12,6 +13,9 @@ public interface AuthoritySourceFileRepository extends JpaCqlRepository<Authorit
 
   Optional<AuthoritySourceFile> findByName(String name);
 
+  @Query("SELECT DISTINCT f FROM AuthoritySourceFile f LEFT JOIN FETCH f.authoritySourceFileCodes")
+  List<AuthoritySourceFile> findAllWithCodes();
+
   @Query(value = "SELECT nextval(:sequenceName)", nativeQuery = true)
   long getNextSequenceNumber(String sequenceName);
 }
@@ -0,0 +1,142 @@
+package org.folio.entlinks.domain.repository;
+
+import static org.folio.entlinks.utils.JdbcUtils.getFullPath;
+
+import java.sql.Types;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.folio.entlinks.domain.entity.InstanceAuthorityLink;
+import org.folio.entlinks.domain.entity.InstanceAuthorityLinkStatus;
+import org.folio.entlinks.utils.DateUtils;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class InstanceLinkJdbcRepository {
+
+  static final String INSTANCE_AUTHORITY_LINK_TABLE = "instance_authority_link";
+  private static final String LINK_STATUS_TYPE = "linkstatus";
+  private static final int INSERT_BATCH_SIZE = 100;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final FolioExecutionContext folioExecutionContext;
+
+  public InstanceLinkJdbcRepository(JdbcTemplate jdbcTemplate, FolioExecutionContext folioExecutionContext) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.folioExecutionContext = folioExecutionContext;
+  }
+
+  /**
+   * Inserts links using JDBC batches. Entity identity generation prevents Hibernate from batching inserts.
+   * */
+  public void insertAll(Collection<InstanceAuthorityLink> links) {
+    if (links.isEmpty()) {
+      return;
+    }
+
+    var sql = """
+              INSERT INTO %s (authority_id, instance_id, linking_rule_id, status, error_cause, updated_at)
+              VALUES (?, ?, ?, ?, ?, ?);
+      """.formatted(getFullPath(folioExecutionContext, INSTANCE_AUTHORITY_LINK_TABLE));
+    var updatedAt = DateUtils.currentTs();
+    jdbcTemplate.batchUpdate(sql, links, INSERT_BATCH_SIZE, (ps, link) -> {
+      ps.setObject(1, link.getAuthorityId());
+      ps.setObject(2, link.getInstanceId());
+      ps.setInt(3, link.getLinkingRule().getId());
+      ps.setObject(4, link.getStatus().name(), Types.OTHER);
+      ps.setString(5, link.getErrorCause());
+      ps.setTimestamp(6, updatedAt);
+    });
+  }
+
+  /**
+   * Sets status and error cause of links with a single statement, link ids and values are bound as arrays.
+   * Links that already have the given status and error cause are not updated.
+   *
+   * @param updatesByLinkId new status and error cause by link id
+   * @return number of updated links
+   * */
+  @SuppressWarnings("java:S2077") //dynamically formatted query is safe here
+  public int updateStatusByIds(Map<Long, LinkStatusUpdate> updatesByLinkId) {
+    if (updatesByLinkId.isEmpty()) {
+      return 0;
+    }
+
+    var sql = """
+      UPDATE %s AS l
+      SET status = CAST(v.status AS %s), error_cause = v.error_cause, updated_at = ?
+      FROM unnest(?, ?, ?) AS v(id, status, error_cause)
+      WHERE l.id = v.id
+        AND (CAST(l.status AS text) IS DISTINCT FROM v.status OR l.error_cause IS DISTINCT FROM v.error_cause)"""
+      .formatted(getFullPath(folioExecutionContext, INSTANCE_AUTHORITY_LINK_TABLE),
+        getFullPath(folioExecutionContext, LINK_STATUS_TYPE));
+    var size = updatesByLinkId.size();
+    var ids = new Long[size];
+    var statuses = new String[size];
+    var errorCauses = new String[size];
+    var i = 0;
+    for (var entry : updatesByLinkId.entrySet()) {
+      ids[i] = entry.getKey();
+      statuses[i] = entry.getValue().status().name();
+      errorCauses[i] = entry.getValue().errorCause();
+      i++;
+    }
+    var updatedAt = DateUtils.currentTs();
+    return jdbcTemplate.update(sql, ps -> {
+      var connection = ps.getConnection();
+      ps.setTimestamp(1, updatedAt);
+      ps.setArray(2, connection.createArrayOf("bigint", ids));
+      ps.setArray(3, connection.createArrayOf("varchar", statuses));
+      ps.setArray(4, connection.createArrayOf("varchar", errorCauses));
+    });
+  }
+
+  /**
+   * Counts linked instances by authority id in each tenant schema with a single UNION ALL query.
+   * Authority ids are bound as a single array, so bind parameters grow only with the number of tenants.
+   * Tenants without links to the given authorities are not present in the result.
+   *
+   * @return links count by authority id by tenant id
+   * */
+  @SuppressWarnings("java:S2077") //dynamically formatted query is safe here
+  public Map<String, Map<UUID, Integer>> countLinksByAuthorityIds(Collection<String> tenantIds,
+                                                                 Collection<UUID> authorityIds) {
+    if (tenantIds.isEmpty() || authorityIds.isEmpty()) {
+      return Collections.emptyMap();
+    }
+
+    var tenantQuery = """
+      SELECT CAST(? AS text) AS tenant_id, authority_id, count(DISTINCT instance_id) AS total_links
+      FROM %s WHERE authority_id = ANY(?) GROUP BY authority_id""";
+    var tenants = List.copyOf(tenantIds);
+    var sql = tenants.stream()
+      .map(tenantId -> tenantQuery.formatted(
+        getFullPath(folioExecutionContext, tenantId, INSTANCE_AUTHORITY_LINK_TABLE)))
+      .collect(Collectors.joining(" UNION ALL "));
+    var ids = authorityIds.toArray();
+
+    return jdbcTemplate.query(sql, ps -> {
+      var idsArray = ps.getConnection().createArrayOf("uuid", ids);
+      var index = 1;
+      for (var tenantId : tenants) {
+        ps.setString(index++, tenantId);
+        ps.setArray(index++, idsArray);
+      }
+    }, rs -> {
+      var result = new HashMap<String, Map<UUID, Integer>>();
+      while (rs.next()) {
+        result.computeIfAbsent(rs.getString("tenant_id"), tenantId -> new HashMap<>())
+          .put(rs.getObject("authority_id", UUID.class), rs.getInt("total_links"));
+      }
+      return result;
+    });
+  }
+
+  public record LinkStatusUpdate(InstanceAuthorityLinkStatus status, String errorCause) { }
+}
@@ -1,6 +1,5 @@
 package org.folio.entlinks.domain.repository;
 
-import java.sql.Timestamp;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
@@ -9,16 +8,16 @@ import org.folio.entlinks.domain.entity.InstanceAuthorityLink;
 import org.folio.entlinks.domain.entity.InstanceAuthorityLinkStatus;
 import org.folio.entlinks.domain.entity.projection.InstanceLinkView;
 import org.folio.entlinks.domain.entity.projection.LinkCountView;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface InstanceLinkRepository extends JpaRepository<InstanceAuthorityLink, Long>,
-  JpaSpecificationExecutor<InstanceAuthorityLink> {
+  JpaSpecificationExecutor<InstanceAuthorityLink>, InstanceLinkStatsRepository {
 
   @Query(value = """
           select l as link, auth.naturalId as authorityNaturalId
@@ -32,38 +31,47 @@ public interface InstanceLinkRepository extends JpaRepository<InstanceAuthorityL
           select l as link, auth.naturalId as authorityNaturalId
           from InstanceAuthorityLink l
           left join Authority auth on l.authorityId = auth.id
-          where l.status = coalesce(:status, l.status)
-            and l.updatedAt >= coalesce(:fromDate, l.updatedAt)
-            and l.updatedAt <= coalesce(:toDate, l.updatedAt)
-      """,
-    countQuery = """
-          select count(l)
-          from InstanceAuthorityLink l
-          where l.status = coalesce(:status, l.status)
-            and l.updatedAt >= coalesce(:fromDate, l.updatedAt)
-            and l.updatedAt <= coalesce(:toDate, l.updatedAt)
+          where l.instanceId in :instanceIds
       """)
-  Page<InstanceLinkView> findLinksWithAuthorityNaturalId(@Param("status") InstanceAuthorityLinkStatus status,
-                                                         @Param("fromDate") Timestamp fromDate,
-                                                         @Param("toDate") Timestamp toDate,
-                                                         Pageable pageable);
+  List<InstanceLinkView> findByInstanceIdIn(@Param("instanceIds") Collection<UUID> instanceIds);
 
-  @Query("select l from InstanceAuthorityLink l where l.authorityId = :id order by l.id")
-  Page<InstanceAuthorityLink> findByAuthorityId(@Param("id") UUID id, Pageable pageable);
+  List<InstanceAuthorityLink> findByAuthorityIdAndIdGreaterThanOrderById(UUID authorityId, Long id, Limit limit);
 
   @Query("select l.authorityId as id, count(distinct l.instanceId) as totalLinks"
     + " from InstanceAuthorityLink l where l.authorityId in :authorityIds"
     + " group by id")
   List<LinkCountView> countLinksByAuthorityIds(@Param("authorityIds") Set<UUID> authorityIds);
 
+  @Query("select i.id from InstanceAuthorityLink i where i.authorityId in :authorityIds and i.id > :afterId "
+    + "order by i.id")
+  List<Long> findIdsByAuthorityIds(@Param("authorityIds") Collection<UUID> authorityIds,
+                                   @Param("afterId") long afterId, Limit limit);
+
+  @Query("select i.id from InstanceAuthorityLink i where i.authorityId in :authorityIds and i.id > :afterId "
+    + "and (i.status <> :status or i.errorCause is not null) order by i.id")
+  List<Long> findIdsByAuthorityIdsAndStatusChanged(@Param("authorityIds") Collection<UUID> authorityIds,
+                                                   @Param("status") InstanceAuthorityLinkStatus status,
+                                                   @Param("afterId") long afterId, Limit limit);
+
+  @Transactional
   @Modifying
-  @Query("delete from InstanceAuthorityLink i where i.authorityId in :authorityIds")
-  void deleteByAuthorityIds(@Param("authorityIds") Collection<UUID> authorityIds);
+  @Query("delete from InstanceAuthorityLink i where i.authorityId in :authorityIds "
+    + "and i.id > :fromId and i.id <= :toId")
+  int deleteByAuthorityIdsAndIdRange(@Param("authorityIds") Collection<UUID> authorityIds,
+                                     @Param("fromId") long fromId, @Param("toId") long toId);
 
+  /**
+   * Sets the status and clears the error cause of links in the given id range.
+   * Links that already have the status and no error cause are not touched.
+   *
+   * @return number of updated links
+   */
+  @Transactional
   @Modifying
-  @Query("update InstanceAuthorityLink i set i.status = :status, i.errorCause = :errorCause "
-    + "where i.authorityId in :authorityIds")
-  void updateStatusByAuthorityIds(@Param("authorityIds") Collection<UUID> authorityIds,
-                                   @Param("status") InstanceAuthorityLinkStatus status,
-                                   @Param("errorCause") String errorCause);
+  @Query("update InstanceAuthorityLink i set i.status = :status, i.errorCause = null "
+    + "where i.authorityId in :authorityIds and i.id > :fromId and i.id <= :toId "
+    + "and (i.status <> :status or i.errorCause is not null)")
+  int updateStatusByAuthorityIdsAndIdRange(@Param("authorityIds") Collection<UUID> authorityIds,
+                                           @Param("status") InstanceAuthorityLinkStatus status,
+                                           @Param("fromId") long fromId, @Param("toId") long toId);
 }
@@ -0,0 +1,25 @@
+package org.folio.entlinks.domain.repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+import org.folio.entlinks.domain.entity.InstanceAuthorityLink;
+import org.folio.entlinks.domain.entity.InstanceAuthorityLinkStatus;
+
+public interface InstanceLinkStatsRepository {
+
+  /**
+   * Finds the latest updated links with natural ids of their authorities.
+   * Links are ordered by update date and id descending, so the next page is requested with the update date
+   * and id of the first link that did not fit into the page as {@code toDate} and {@code toId}.
+   *
+   * @param status   link status to filter by, ignored if null
+   * @param fromDate lowest update date, inclusive, ignored if null
+   * @param toDate   highest update date, inclusive, ignored if null
+   * @param toId     highest id of links updated at {@code toDate}, inclusive, ignored if null or toDate is null
+   * @param limit    max number of links
+   * @return links with authority natural id filled in
+   */
+  List<InstanceAuthorityLink> findLinksWithAuthorityNaturalId(InstanceAuthorityLinkStatus status,
+                                                              Timestamp fromDate, Timestamp toDate, Long toId,
+                                                              int limit);
+}
@@ -0,0 +1,66 @@
+package org.folio.entlinks.domain.repository;
+
+import jakarta.persistence.EntityManager;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import org.folio.entlinks.domain.entity.InstanceAuthorityLink;
+import org.folio.entlinks.domain.entity.InstanceAuthorityLinkStatus;
+
+/**
+ * Builds the query with predicates only for the given filters, so that the database is able to use
+ * the index on status, update date and id instead of scanning all links of the tenant.
+ * */
+public class InstanceLinkStatsRepositoryImpl implements InstanceLinkStatsRepository {
+
+  private static final String SELECT_LINKS = """
+    select l, auth.naturalId
+    from InstanceAuthorityLink l
+    left join Authority auth on l.authorityId = auth.id""";
+  private static final String ORDER_BY_UPDATED_AT_AND_ID = " order by l.updatedAt desc, l.id desc";
+
+  private final EntityManager em;
+
+  public InstanceLinkStatsRepositoryImpl(EntityManager em) {
+    this.em = em;
+  }
+
+  @Override
+  public List<InstanceAuthorityLink> findLinksWithAuthorityNaturalId(InstanceAuthorityLinkStatus status,
+                                                                     Timestamp fromDate, Timestamp toDate,
+                                                                     Long toId, int limit) {
+    var conditions = new ArrayList<String>();
+    var parameters = new HashMap<String, Object>();
+    if (status != null) {
+      conditions.add("l.status = :status");
+      parameters.put("status", status);
+    }
+    if (fromDate != null) {
+      conditions.add("l.updatedAt >= :fromDate");
+      parameters.put("fromDate", fromDate);
+    }
+    if (toDate != null && toId != null) {
+      conditions.add("(l.updatedAt, l.id) <= (:toDate, :toId)");
+      parameters.put("toDate", toDate);
+      parameters.put("toId", toId);
+    } else if (toDate != null) {
+      conditions.add("l.updatedAt <= :toDate");
+      parameters.put("toDate", toDate);
+    }
+
+    var jpql = conditions.isEmpty()
+               ? SELECT_LINKS + ORDER_BY_UPDATED_AT_AND_ID
+               : SELECT_LINKS + " where " + String.join(" and ", conditions) + ORDER_BY_UPDATED_AT_AND_ID;
+    var query = em.createQuery(jpql, Object[].class).setMaxResults(limit);
+    parameters.forEach(query::setParameter);
+
+    return query.getResultList().stream()
+      .map(row -> {
+        var link = (InstanceAuthorityLink) row[0];
+        link.setAuthorityNaturalId((String) row[1]);
+        return link;
+      })
+      .toList();
+  }
+}
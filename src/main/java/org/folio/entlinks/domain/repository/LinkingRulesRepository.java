@@ -3,8 +3,15 @@ package org.folio.entlinks.domain.repository;
 import java.util.List;
 import org.folio.entlinks.domain.entity.InstanceAuthorityLinkingRule;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface LinkingRulesRepository extends JpaRepository<InstanceAuthorityLinkingRule, Integer> {
 
   List<InstanceAuthorityLinkingRule> findByAuthorityField(String authorityField);
+
+  /**
+   * Returns version of all linking rules, it is changed on every linking rule update.
+   * */
+  @Query("select coalesce(sum(r.version), 0) from InstanceAuthorityLinkingRule r")
+  long getRulesVersion();
 }
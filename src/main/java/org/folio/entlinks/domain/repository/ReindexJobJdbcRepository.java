@@ -0,0 +1,101 @@
+package org.folio.entlinks.domain.repository;
+
+import static org.folio.entlinks.domain.entity.ReindexJobStatus.ID_PUBLISHING_CANCELLED;
+import static org.folio.entlinks.domain.entity.ReindexJobStatus.ID_PUBLISHING_FAILED;
+import static org.folio.entlinks.domain.entity.ReindexJobStatus.IN_PROGRESS;
+import static org.folio.entlinks.domain.entity.ReindexJobStatus.PENDING_CANCEL;
+import static org.folio.entlinks.utils.JdbcUtils.getFullPath;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.folio.entlinks.domain.entity.ReindexJobStatus;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class ReindexJobJdbcRepository {
+
+  static final String REINDEX_JOB_TABLE = "reindex_job";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final FolioExecutionContext folioExecutionContext;
+
+  public ReindexJobJdbcRepository(JdbcTemplate jdbcTemplate, FolioExecutionContext folioExecutionContext) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.folioExecutionContext = folioExecutionContext;
+  }
+
+  /**
+   * Increments published count and stores partition checkpoint in a single statement.
+   * Update time of the job is refreshed, so the job is not considered interrupted while it makes progress.
+   * Progress is not saved for jobs that are pending cancel.
+   *
+   * @return false when the job is pending cancel or not found
+   * */
+  public boolean updateProgress(UUID jobId, int partition, UUID lastId, int publishedCount) {
+    var sql = """
+              UPDATE %s
+              SET published = coalesce(published, 0) + ?,
+                  checkpoint = coalesce(checkpoint, '{}'::jsonb) || jsonb_build_object(?::text, ?::text),
+                  updated_at = now()
+              WHERE id = ? AND job_status <> ?;
+      """.formatted(getFullPath(folioExecutionContext, REINDEX_JOB_TABLE));
+    var updated = jdbcTemplate.update(sql, publishedCount, String.valueOf(partition), lastId.toString(), jobId,
+      PENDING_CANCEL.name());
+    return updated > 0;
+  }
+
+  /**
+   * Sets status of the job only when its current status is one of the expected statuses.
+   *
+   * @return false when the job is not found or its current status is not expected
+   * */
+  public boolean updateStatus(UUID jobId, ReindexJobStatus status, Collection<ReindexJobStatus> expectedStatuses) {
+    return updateStatus(jobId, status, expectedStatuses, List.of(), Duration.ZERO);
+  }
+
+  /**
+   * Sets status of the job only when its current status is one of the expected statuses,
+   * or one of the stale statuses and the job was not updated for the given time.
+   *
+   * @return false when the job is not found or its current status is not expected
+   * */
+  public boolean updateStatus(UUID jobId, ReindexJobStatus status, Collection<ReindexJobStatus> expectedStatuses,
+                              Collection<ReindexJobStatus> staleStatuses, Duration staleTimeout) {
+    var sql = """
+              UPDATE %s
+              SET job_status = ?, updated_at = now()
+              WHERE id = ?
+                AND (job_status = ANY(?) OR (job_status = ANY(?) AND updated_at < now() - ? * interval '1 second'));
+      """.formatted(getFullPath(folioExecutionContext, REINDEX_JOB_TABLE));
+    var expected = expectedStatuses.stream().map(ReindexJobStatus::name).toArray();
+    var stale = staleStatuses.stream().map(ReindexJobStatus::name).toArray();
+    var updated = jdbcTemplate.update(sql, ps -> {
+      ps.setString(1, status.name());
+      ps.setObject(2, jobId);
+      ps.setArray(3, ps.getConnection().createArrayOf("varchar", expected));
+      ps.setArray(4, ps.getConnection().createArrayOf("varchar", stale));
+      ps.setLong(5, staleTimeout.toSeconds());
+    });
+    return updated > 0;
+  }
+
+  /**
+   * Finishes the job that is in progress as failed, or as cancelled when it is pending cancel.
+   *
+   * @return false when the job is not found or already finished
+   * */
+  public boolean updateStatusToFailed(UUID jobId) {
+    var sql = """
+              UPDATE %s
+              SET job_status = CASE WHEN job_status = ? THEN ? ELSE ? END, updated_at = now()
+              WHERE id = ? AND job_status IN (?, ?);
+      """.formatted(getFullPath(folioExecutionContext, REINDEX_JOB_TABLE));
+    var updated = jdbcTemplate.update(sql, PENDING_CANCEL.name(), ID_PUBLISHING_CANCELLED.name(),
+      ID_PUBLISHING_FAILED.name(), jobId, IN_PROGRESS.name(), PENDING_CANCEL.name());
+    return updated > 0;
+  }
+}
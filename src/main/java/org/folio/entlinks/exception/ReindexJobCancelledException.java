@@ -0,0 +1,8 @@
+package org.folio.entlinks.exception;
+
+public class ReindexJobCancelledException extends IllegalStateException {
+
+  public ReindexJobCancelledException() {
+    super("The job has been cancelled");
+  }
+}
@@ -1,8 +1,12 @@
 package org.folio.entlinks.integration.dto;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.commons.lang3.StringUtils;
 
@@ -11,19 +15,30 @@ public class AuthorityParsedContent extends SourceParsedContent {
   private final String naturalId;
   private final UUID sourceFileId;
 
+  private final @Getter(AccessLevel.NONE) Map<String, List<FieldParsedContent>> fieldsByTag;
+
   public AuthorityParsedContent(UUID id, String naturalId, String leader,
                                 List<FieldParsedContent> fields, UUID sourceFileId) {
     super(id, leader, fields);
     this.naturalId = naturalId;
     this.sourceFileId = sourceFileId;
+    this.fieldsByTag = toFieldsByTag(fields);
   }
 
   public Optional<FieldParsedContent> getFieldByTag(String fieldTag) {
+    return getFieldsByTag(fieldTag).stream().findFirst();
+  }
+
+  public List<FieldParsedContent> getFieldsByTag(String fieldTag) {
     if (StringUtils.isEmpty(fieldTag)) {
-      return Optional.empty();
+      return List.of();
     }
-    return getFields().stream()
-      .filter(fieldParsedContent -> fieldParsedContent.getTag().equals(fieldTag))
-      .findFirst();
+    return fieldsByTag.getOrDefault(fieldTag, List.of());
+  }
+
+  private Map<String, List<FieldParsedContent>> toFieldsByTag(List<FieldParsedContent> fields) {
+    return fields.stream()
+      .filter(field -> Objects.nonNull(field.getTag()))
+      .collect(Collectors.groupingBy(FieldParsedContent::getTag));
   }
 }
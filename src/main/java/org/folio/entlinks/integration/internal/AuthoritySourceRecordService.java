@@ -1,49 +1,97 @@
 package org.folio.entlinks.integration.internal;
 
-import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+import com.google.common.collect.Iterables;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.apache.commons.io.IOUtils;
 import org.folio.entlinks.client.SourceStorageClient;
-import org.folio.entlinks.domain.dto.SourceParsedRecord;
-import org.folio.entlinks.domain.dto.SourceRecord;
+import org.folio.entlinks.domain.dto.FieldContentValue;
+import org.folio.entlinks.domain.dto.StrippedParsedRecord;
+import org.folio.entlinks.domain.dto.StrippedParsedRecordCollection;
 import org.folio.entlinks.exception.FolioIntegrationException;
 import org.folio.entlinks.integration.dto.AuthoritySourceRecord;
-import org.marc4j.MarcJsonReader;
+import org.marc4j.marc.DataField;
+import org.marc4j.marc.MarcFactory;
 import org.marc4j.marc.Record;
 import org.springframework.stereotype.Service;
-import tools.jackson.databind.ObjectMapper;
 
 @Log4j2
 @Service
 @RequiredArgsConstructor
 public class AuthoritySourceRecordService {
 
+  /**
+   * Heading fields range requested from SRS, authority changes are propagated only for 1XX fields.
+   */
+  private static final String HEADING_FIELD_FROM = "100";
+  private static final String HEADING_FIELD_TO = "199";
+  private static final int FETCH_BATCH_SIZE = 100;
+  private static final char BLANK_INDICATOR = ' ';
+
+  private final MarcFactory marcFactory = MarcFactory.newInstance();
   private final SourceStorageClient sourceStorageClient;
-  private final ObjectMapper objectMapper;
 
-  public AuthoritySourceRecord getAuthoritySourceRecordById(UUID authorityId) {
-    log.info("Fetching source record [authorityId: {}]", authorityId);
-    SourceRecord sourceRecord = fetchSourceRecord(authorityId);
-    var content = extractMarcRecord(sourceRecord.getParsedRecord());
-    return new AuthoritySourceRecord(authorityId, sourceRecord.getSnapshotId(), content);
+  /**
+   * Fetches heading fields of authority source records in batches.
+   * Snapshot id is not provided by SRS batch API so it's not filled for returned records.
+   *
+   * @param authorityIds ids of authorities to fetch source records for
+   * @return source records by authority id, authorities without source record are absent in the result
+   */
+  public Map<UUID, AuthoritySourceRecord> getAuthoritySourceRecordsByIds(Collection<UUID> authorityIds) {
+    log.info("Fetching source records [count: {}, batch size: {}]", authorityIds.size(), FETCH_BATCH_SIZE);
+    var result = new HashMap<UUID, AuthoritySourceRecord>();
+    for (var batch : Iterables.partition(new LinkedHashSet<>(authorityIds), FETCH_BATCH_SIZE)) {
+      for (var parsedRecord : fetchParsedRecords(batch).getRecords()) {
+        var authorityId = parsedRecord.getExternalIdsHolder().getAuthorityId();
+        result.put(authorityId, new AuthoritySourceRecord(authorityId, null, toMarcRecord(parsedRecord)));
+      }
+    }
+    log.debug("Fetched source records [requested: {}, found: {}]", authorityIds.size(), result.size());
+    return result;
   }
 
-  private SourceRecord fetchSourceRecord(UUID authorityId) {
+  private StrippedParsedRecordCollection fetchParsedRecords(List<UUID> authorityIds) {
     try {
-      return sourceStorageClient.getMarcAuthorityById(authorityId);
+      var request = sourceStorageClient.buildBatchFetchRequestForAuthority(Set.copyOf(authorityIds),
+        HEADING_FIELD_FROM, HEADING_FIELD_TO);
+      return sourceStorageClient.fetchParsedRecords(request);
     } catch (Exception e) {
-      throw new FolioIntegrationException("Failed to fetch source record [id: " + authorityId + "]", e);
+      throw new FolioIntegrationException("Failed to fetch source records [ids: " + authorityIds + "]", e);
     }
   }
 
-  private Record extractMarcRecord(SourceParsedRecord parsedRecord) {
-    try (var input = IOUtils.toInputStream(objectMapper.writeValueAsString(parsedRecord), UTF_8)) {
-      return new MarcJsonReader(input).next();
+  private Record toMarcRecord(StrippedParsedRecord parsedRecord) {
+    try {
+      var content = parsedRecord.getParsedRecord().getContent();
+      var marcRecord = marcFactory.newRecord(content.getLeader());
+      for (var field : content.getFields()) {
+        field.forEach((tag, value) -> marcRecord.addVariableField(toDataField(tag, value)));
+      }
+      return marcRecord;
     } catch (Exception e) {
-      throw new FolioIntegrationException("Failed to get content of source record", e);
+      throw new FolioIntegrationException("Failed to get content of source record [id: " + parsedRecord.getId() + "]",
+        e);
+    }
+  }
+
+  private DataField toDataField(String tag, FieldContentValue value) {
+    var dataField = marcFactory.newDataField(tag, toIndicator(value.getInd1()), toIndicator(value.getInd2()));
+    for (var subfield : value.getSubfields()) {
+      subfield.forEach((code, data) -> dataField.addSubfield(marcFactory.newSubfield(code.charAt(0), data)));
     }
+    return dataField;
+  }
+
+  private char toIndicator(String indicator) {
+    return isEmpty(indicator) ? BLANK_INDICATOR : indicator.charAt(0);
   }
 }
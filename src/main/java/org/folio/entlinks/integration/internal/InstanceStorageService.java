@@ -1,11 +1,15 @@
 package org.folio.entlinks.integration.internal;
 
 import com.google.common.collect.Lists;
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.tuple.Pair;
@@ -13,8 +17,17 @@ import org.folio.entlinks.client.InstanceStorageClient;
 import org.folio.entlinks.client.InstanceStorageClient.InventoryInstanceDto;
 import org.folio.entlinks.client.InstanceStorageClient.InventoryInstanceDtoCollection;
 import org.folio.entlinks.config.properties.InstanceStorageProperties;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.scope.FolioExecutionContextService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
 import org.springframework.stereotype.Service;
 
+/**
+ * Fetches title and source of instances from inventory storage.
+ * Instances missing in the local cache are requested in batches, batches are fetched concurrently on virtual threads
+ * within the context of the current request. Batches that failed are logged and skipped.
+ * */
 @Log4j2
 @Service
 @RequiredArgsConstructor
@@ -24,17 +37,83 @@ public class InstanceStorageService {
   private static final String CQL_DELIMITER = " or ";
   private final InstanceStorageProperties instanceStorageProperties;
   private final InstanceStorageClient client;
+  private final FolioExecutionContext folioExecutionContext;
+  private final FolioExecutionContextService executionService;
+  private final @Qualifier("instanceDataCache") Cache cache;
 
   public Map<String, Pair<String, String>> getInstanceData(List<String> instanceIds) {
+    var startTime = System.nanoTime();
+    var tenantId = folioExecutionContext.getTenantId();
+    var instanceData = HashMap.<String, Pair<String, String>>newHashMap(instanceIds.size());
+    var missingIds = new ArrayList<String>();
+    for (var instanceId : instanceIds) {
+      var instance = cache.get(cacheKey(tenantId, instanceId), InventoryInstanceDto.class);
+      if (instance == null) {
+        missingIds.add(instanceId);
+      } else {
+        instanceData.put(instance.id(), Pair.of(instance.title(), instance.source()));
+      }
+    }
+    if (missingIds.isEmpty()) {
+      return instanceData;
+    }
+
     int batchSize = instanceStorageProperties.getBatchSize();
-    log.info("Fetching instance data [count: {}, with batch size: {}]", instanceIds.size(), batchSize);
-    log.trace("Fetching instance data for [instance ids: {}]", instanceIds);
-    return Lists.partition(instanceIds, batchSize).stream()
-      .map(ids -> fetchInstances(buildCql(ids), ids.size()))
-      .filter(Optional::isPresent)
-      .map(collection -> collection.get().instances())
-      .flatMap(Collection::stream)
-      .collect(Collectors.toMap(InventoryInstanceDto::id, dto -> Pair.of(dto.title(), dto.source())));
+    log.info("Fetching instance data [count: {}, cached: {}, with batch size: {}]",
+      missingIds.size(), instanceData.size(), batchSize);
+    log.trace("Fetching instance data for [instance ids: {}]", missingIds);
+    var batches = Lists.partition(missingIds, batchSize);
+    var results = batches.size() == 1
+                  ? List.of(fetchInstances(batches.getFirst()))
+                  : fetchInstancesConcurrently(tenantId, batches);
+
+    var failedBatches = 0;
+    for (var result : results) {
+      if (result.isEmpty()) {
+        failedBatches++;
+        continue;
+      }
+      for (var instance : result.get()) {
+        cache.put(cacheKey(tenantId, instance.id()), instance);
+        instanceData.put(instance.id(), Pair.of(instance.title(), instance.source()));
+      }
+    }
+
+    if (failedBatches > 0) {
+      log.warn("Instance data is incomplete [failed batches: {} of {}]", failedBatches, batches.size());
+    }
+    log.info("Fetched instance data [requested: {}, found: {}, batches: {}, failed batches: {}, duration: {} ms]",
+      instanceIds.size(), instanceData.size(), batches.size(), failedBatches, millisSince(startTime));
+    return instanceData;
+  }
+
+  private List<Optional<List<InventoryInstanceDto>>> fetchInstancesConcurrently(String tenantId,
+                                                                                List<List<String>> batches) {
+    var okapiHeaders = folioExecutionContext.getOkapiHeaders();
+    var parallelism = Math.min(batches.size(), instanceStorageProperties.getParallelism());
+    var executor = Executors.newFixedThreadPool(parallelism, Thread.ofVirtual().name("instance-storage-", 0).factory());
+    var futures = new ArrayList<Future<Optional<List<InventoryInstanceDto>>>>(batches.size());
+    try {
+      for (var batch : batches) {
+        futures.add(executor.submit(() -> executionService.execute(tenantId, okapiHeaders,
+          () -> fetchInstances(batch))));
+      }
+    } finally {
+      executor.shutdown();
+    }
+    return futures.stream().map(this::awaitInstances).toList();
+  }
+
+  private Optional<List<InventoryInstanceDto>> awaitInstances(Future<Optional<List<InventoryInstanceDto>>> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      future.cancel(true);
+    } catch (ExecutionException e) {
+      log.warn("Failed to fetch instances", e.getCause());
+    }
+    return Optional.empty();
   }
 
   private String buildCql(List<String> instanceIds) {
@@ -42,13 +121,30 @@ public class InstanceStorageService {
     return String.format(CQL_TEMPLATE, instanceIdsString);
   }
 
-  private Optional<InventoryInstanceDtoCollection> fetchInstances(String query, int limit) {
+  private Optional<List<InventoryInstanceDto>> fetchInstances(List<String> instanceIds) {
+    var query = buildCql(instanceIds);
+    var limit = instanceIds.size();
+    var startTime = System.nanoTime();
     try {
       log.info("Fetching instances for query: {}, limit: {}", query, limit);
-      return Optional.of(client.getInstanceStorageInstances(query, limit));
+      var instances = Optional.ofNullable(client.getInstanceStorageInstances(query, limit))
+        .map(InventoryInstanceDtoCollection::instances)
+        .orElseGet(List::of);
+      log.debug("Fetched instances [limit: {}, found: {}, duration: {} ms]",
+        limit, instances.size(), millisSince(startTime));
+      return Optional.of(instances);
     } catch (Exception e) {
-      log.warn("Failed to fetch instances for query: {}, limit: {}", query, limit, e);
+      log.warn("Failed to fetch instances for query: {}, limit: {}, duration: {} ms",
+        query, limit, millisSince(startTime), e);
       return Optional.empty();
     }
   }
+
+  private String cacheKey(String tenantId, String instanceId) {
+    return tenantId + ':' + instanceId;
+  }
+
+  private static long millisSince(long startTime) {
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+  }
 }
@@ -35,7 +35,7 @@ public class MarcSpecificationUpdateService {
       .map(this::toSubfieldCreationRequest)
       .toList();
 
-    eventProducer.sendMessages(requestEvents);
+    eventProducer.sendMessages(requestEvents).join();
   }
 
   private UpdateRequestEvent toSubfieldCreationRequest(String tag) {
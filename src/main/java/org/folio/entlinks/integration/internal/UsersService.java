@@ -0,0 +1,92 @@
+package org.folio.entlinks.integration.internal;
+
+import com.google.common.collect.Lists;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.entlinks.client.UsersClient;
+import org.folio.entlinks.client.UsersClient.Personal;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.stereotype.Service;
+
+/**
+ * Resolves personal data of users shown together with module data.
+ * Found users are kept in the local cache per tenant, users missing in the cache are requested in batches.
+ * */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class UsersService {
+
+  /**
+   * Max number of ids in a single users query, keeps the query url within the length limits.
+   */
+  static final int MAX_IDS_PER_QUERY = 50;
+
+  private static final String CQL_TEMPLATE = "id=(%s)";
+  private static final String CQL_DELIMITER = " or ";
+
+  private final UsersClient usersClient;
+  private final FolioExecutionContext folioExecutionContext;
+  private final @Qualifier("usersCache") Cache cache;
+
+  /**
+   * Returns personal data of the given users.
+   *
+   * @param userIds ids of users, null values are ignored
+   * @return personal data by user id, users that are not found are absent in the result
+   */
+  public Map<UUID, Personal> getUsersPersonal(Collection<UUID> userIds) {
+    var tenantId = folioExecutionContext.getTenantId();
+    var result = new HashMap<UUID, Personal>();
+    var missingIds = new ArrayList<UUID>();
+    for (var userId : new LinkedHashSet<>(userIds)) {
+      if (userId == null) {
+        continue;
+      }
+      var personal = cache.get(cacheKey(tenantId, userId), Personal.class);
+      if (personal == null) {
+        missingIds.add(userId);
+      } else {
+        result.put(userId, personal);
+      }
+    }
+    if (missingIds.isEmpty()) {
+      return result;
+    }
+
+    log.debug("Fetching users [tenantId: {}, cached: {}, missing: {}]", tenantId, result.size(), missingIds.size());
+    for (var user : fetchUsers(missingIds)) {
+      if (user != null && user.id() != null && user.personal() != null) {
+        var userId = UUID.fromString(user.id());
+        cache.put(cacheKey(tenantId, userId), user.personal());
+        result.put(userId, user.personal());
+      }
+    }
+    return result;
+  }
+
+  private List<UsersClient.User> fetchUsers(List<UUID> userIds) {
+    var users = new ArrayList<UsersClient.User>();
+    for (var batch : Lists.partition(userIds, MAX_IDS_PER_QUERY)) {
+      var query = CQL_TEMPLATE.formatted(String.join(CQL_DELIMITER, batch.stream().map(UUID::toString).toList()));
+      var userCollection = usersClient.query(query, batch.size());
+      if (userCollection != null && userCollection.users() != null) {
+        users.addAll(userCollection.users());
+      }
+    }
+    return users;
+  }
+
+  private String cacheKey(String tenantId, UUID userId) {
+    return tenantId + ':' + userId;
+  }
+}
@@ -1,10 +1,10 @@
 package org.folio.entlinks.integration.kafka;
 
-import java.util.Objects;
 import lombok.extern.log4j.Log4j2;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.folio.entlinks.integration.dto.event.AuthorityDeleteEventSubType;
 import org.folio.entlinks.integration.dto.event.AuthorityDomainEvent;
+import org.folio.entlinks.utils.AuthorityChangeUtils;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.kafka.listener.adapter.RecordFilterStrategy;
 
@@ -16,13 +16,17 @@ public class AuthorityChangeFilterStrategy implements RecordFilterStrategy<Strin
    * <ul>
    *    <li>CREATE</li>
    *    <li>REINDEX</li>
-   *    <li>UPDATE (if there are no changes)</li>
+   *    <li>UPDATE (if there are no changes in heading fields and natural id)</li>
    *    <li>DELETE (if it's a HARD_DELETE)</li>
+   *    <li>events skipped by deserializer based on the event type header</li>
    * </ul>.
    */
   @Override
   public boolean filter(@NotNull ConsumerRecord<String, AuthorityDomainEvent> consumerRecord) {
     var authorityEvent = consumerRecord.value();
+    if (authorityEvent == null) {
+      return true;
+    }
 
     return switch (authorityEvent.getType()) {
       case UPDATE -> {
@@ -39,6 +43,6 @@ public class AuthorityChangeFilterStrategy implements RecordFilterStrategy<Strin
   }
 
   private boolean authorityHasChanges(AuthorityDomainEvent authorityEvent) {
-    return !Objects.equals(authorityEvent.getOldEntity(), authorityEvent.getNewEntity());
+    return AuthorityChangeUtils.hasAuthorityChanges(authorityEvent.getOldEntity(), authorityEvent.getNewEntity());
   }
 }
@@ -6,17 +6,23 @@ import static org.folio.spring.integration.XOkapiHeaders.URL;
 import static org.folio.spring.integration.XOkapiHeaders.USER_ID;
 import static org.folio.spring.tools.config.RetryTemplateConfiguration.DEFAULT_KAFKA_RETRY_TEMPLATE_NAME;
 
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.logging.log4j.message.FormattedMessageFactory;
+import org.folio.entlinks.config.properties.AuthorityListenerProperties;
 import org.folio.entlinks.integration.dto.event.AuthorityDomainEvent;
 import org.folio.entlinks.service.messaging.authority.InstanceAuthorityLinkUpdateService;
 import org.folio.spring.scope.FolioExecutionContextService;
@@ -26,12 +32,30 @@ import org.springframework.stereotype.Component;
 
 @Log4j2
 @Component
-@RequiredArgsConstructor
 public class AuthorityEventListener {
 
   private final InstanceAuthorityLinkUpdateService instanceAuthorityLinkUpdateService;
   private final FolioExecutionContextService executionService;
   private final MessageBatchProcessor messageBatchProcessor;
+  private final AuthorityListenerProperties authorityListenerProperties;
+  private final ExecutorService executor;
+
+  public AuthorityEventListener(InstanceAuthorityLinkUpdateService instanceAuthorityLinkUpdateService,
+                                FolioExecutionContextService executionService,
+                                MessageBatchProcessor messageBatchProcessor,
+                                AuthorityListenerProperties authorityListenerProperties) {
+    this.instanceAuthorityLinkUpdateService = instanceAuthorityLinkUpdateService;
+    this.executionService = executionService;
+    this.messageBatchProcessor = messageBatchProcessor;
+    this.authorityListenerProperties = authorityListenerProperties;
+    this.executor = Executors.newFixedThreadPool(authorityListenerProperties.getParallelism(),
+      Thread.ofVirtual().name("authority-listener-", 0).factory());
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdown();
+  }
 
   @KafkaListener(id = "mod-entities-links-authority-listener",
                  containerFactory = "authorityListenerFactory",
@@ -41,28 +65,97 @@ public class AuthorityEventListener {
   public void handleEvents(List<ConsumerRecord<String, AuthorityDomainEvent>> consumerRecords) {
     log.info("Processing authorities from Kafka events [number of records: {}]", consumerRecords.size());
 
+    var tasks = new ArrayList<Runnable>();
     consumerRecords.stream()
       .collect(Collectors.groupingBy(consumerRecord -> consumerRecord.value().getTenant()))
-      .forEach(this::handleAuthorityEventsForTenant);
+      .forEach((tenant, records) -> tasks.addAll(prepareAuthorityEventsForTenant(tenant, records)));
+    processInParallel(tasks);
   }
 
-  private void handleAuthorityEventsForTenant(String tenant,
-                                              List<ConsumerRecord<String, AuthorityDomainEvent>> records) {
+  private List<Runnable> prepareAuthorityEventsForTenant(String tenant,
+                                                         List<ConsumerRecord<String, AuthorityDomainEvent>> records) {
     var url = extractHeaderValue(URL, records.getFirst().headers())
       .orElseThrow(() -> new IllegalStateException("URL header is missing"));
-    records.stream()
-      .collect(Collectors.groupingBy(consumerRecord ->
-        extractHeaderValue(USER_ID, consumerRecord.headers())))
-      .forEach((userId, consumerRecords) -> {
-        var events = consumerRecords.stream()
-          .map(consumerRecord -> {
-            var value = consumerRecord.value();
-            value.setId(UUID.fromString(consumerRecord.key()));
-            return value;
-          })
-          .toList();
-        handleAuthorityEventsForUser(tenant, userId, url, events);
-      });
+    var tasks = new ArrayList<Runnable>();
+    for (var authorityGroup : groupByAuthorityId(records)) {
+      tasks.add(() -> splitByUserId(authorityGroup)
+        .forEach(userEvents -> handleAuthorityEventsForUser(tenant, userEvents.userId(), url, userEvents.events())));
+    }
+    return tasks;
+  }
+
+  /**
+   * Splits records of a tenant into groups by authority id regardless of the user that made the change,
+   * records of an authority belong to a single group and keep their order.
+   * */
+  private List<List<ConsumerRecord<String, AuthorityDomainEvent>>> groupByAuthorityId(
+    List<ConsumerRecord<String, AuthorityDomainEvent>> records) {
+    var groupsCount = Math.min(records.size(), authorityListenerProperties.getParallelism());
+    var groups = new ArrayList<List<ConsumerRecord<String, AuthorityDomainEvent>>>(groupsCount);
+    for (int i = 0; i < groupsCount; i++) {
+      groups.add(new ArrayList<>());
+    }
+    for (var consumerRecord : records) {
+      groups.get(Math.floorMod(consumerRecord.key().hashCode(), groupsCount)).add(consumerRecord);
+    }
+    return groups.stream().filter(group -> !group.isEmpty()).toList();
+  }
+
+  /**
+   * Splits records of a group into consecutive runs of the same user, so the runs are processed one by one
+   * in the order of records and each run is processed in the context of its user.
+   * */
+  private List<UserEvents> splitByUserId(List<ConsumerRecord<String, AuthorityDomainEvent>> records) {
+    var result = new ArrayList<UserEvents>();
+    for (var consumerRecord : records) {
+      var userId = extractHeaderValue(USER_ID, consumerRecord.headers());
+      var event = consumerRecord.value();
+      event.setId(UUID.fromString(consumerRecord.key()));
+      if (result.isEmpty() || !result.getLast().userId().equals(userId)) {
+        result.add(new UserEvents(userId, new ArrayList<>()));
+      }
+      result.getLast().events().add(event);
+    }
+    return result;
+  }
+
+  /**
+   * Processes groups of authority events on the shared pool of virtual threads,
+   * at most the configured number of groups of all consumed batches at once.
+   * Returns only when all groups are processed, so offsets of the batch are committed after all of them.
+   * Failure of a group does not stop other groups and is rethrown when all groups are finished.
+   * */
+  private void processInParallel(List<Runnable> tasks) {
+    if (tasks.size() <= 1) {
+      tasks.forEach(Runnable::run);
+      return;
+    }
+
+    var futures = new ArrayList<Future<?>>(tasks.size());
+    tasks.forEach(task -> futures.add(executor.submit(task)));
+
+    RuntimeException failure = null;
+    for (var future : futures) {
+      try {
+        future.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        futures.forEach(notFinished -> notFinished.cancel(true));
+        throw new IllegalStateException("Interrupted while processing authority events", e);
+      } catch (ExecutionException e) {
+        var cause = e.getCause() instanceof RuntimeException runtimeException
+                    ? runtimeException
+                    : new IllegalStateException(e.getCause());
+        if (failure == null) {
+          failure = cause;
+        } else {
+          failure.addSuppressed(cause);
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
   }
 
   private void handleAuthorityEventsForUser(String tenant, Optional<String> userIdOptional,
@@ -89,4 +182,6 @@ public class AuthorityEventListener {
       "Failed to process authority event [eventType: {}, id: {}, tenant: {}]", event.getType(), event.getId(),
       event.getTenant()), e);
   }
+
+  private record UserEvents(Optional<String> userId, List<AuthorityDomainEvent> events) { }
 }
@@ -0,0 +1,39 @@
+package org.folio.entlinks.integration.kafka;
+
+import static org.folio.kafka.headers.FolioKafkaHeaders.TENANT_ID;
+import static org.springframework.kafka.support.KafkaHeaders.RECEIVED_KEY;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.entlinks.service.authority.AuthoritySourceFileCacheService;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts locally cached authority source files of a tenant on authority source file domain events,
+ * so source file changes made on other module instances are visible without waiting for cache expiration.
+ * Every module instance consumes the events with its own consumer group.
+ * */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class AuthoritySourceFileEventListener {
+
+  private final AuthoritySourceFileCacheService cacheService;
+
+  @KafkaListener(id = "mod-entities-links-authority-source-file-listener",
+                 containerFactory = "authoritySourceFileListenerFactory",
+                 topicPattern = "#{folioKafkaProperties.listener['authority-source-file'].topicPattern}",
+                 groupId = "#{folioKafkaProperties.listener['authority-source-file'].groupId}",
+                 concurrency = "#{folioKafkaProperties.listener['authority-source-file'].concurrency}")
+  public void handleEvent(@Header(name = RECEIVED_KEY, required = false) String key,
+                          @Header(name = TENANT_ID, required = false) String tenantId) {
+    log.info("Processing authority source file event [key: {}, tenantId: {}]", key, tenantId);
+    if (tenantId == null) {
+      log.warn("Cannot process authority source file event. tenantId header is missing.");
+      return;
+    }
+    cacheService.evict(tenantId);
+  }
+}
@@ -8,7 +8,9 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.extern.log4j.Log4j2;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.codehaus.plexus.util.StringUtils;
@@ -17,18 +19,33 @@ import org.folio.entlinks.utils.DateUtils;
 import org.folio.spring.FolioExecutionContext;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 
 @Log4j2
-@RequiredArgsConstructor
 public class EventProducer<T> {
 
+  private static final int DEFAULT_MAX_IN_FLIGHT = 1000;
+
   private final KafkaTemplate<String, T> template;
   private final String topicName;
+  private final Semaphore inFlightPermits;
+  private final AtomicLong sentCount = new AtomicLong();
+  private final AtomicLong failedCount = new AtomicLong();
 
   @Autowired
   private FolioExecutionContext context;
 
-  public void sendMessage(String key, T msgBody, Object... headers) {
+  public EventProducer(KafkaTemplate<String, T> template, String topicName) {
+    this(template, topicName, DEFAULT_MAX_IN_FLIGHT);
+  }
+
+  public EventProducer(KafkaTemplate<String, T> template, String topicName, int maxInFlight) {
+    this.template = template;
+    this.topicName = topicName;
+    this.inFlightPermits = new Semaphore(maxInFlight);
+  }
+
+  public CompletableFuture<SendResult<String, T>> sendMessage(String key, T msgBody, Object... headers) {
     log.debug("Sending event to Kafka [topic: {}]", topicName);
     log.debug("Sending event to Kafka [topic: {}, body: {}]", topicName, msgBody);
     if (headers.length % 2 != 0) {
@@ -40,18 +57,63 @@ public class EventProducer<T> {
       headersMap.put(headers[i].toString(), List.of(headers[i + 1].toString()));
     }
     var producerRecord = toProducerRecord(key, msgBody, headersMap);
-    template.send(producerRecord);
+    return send(producerRecord);
   }
 
-  public void sendMessages(List<T> msgBodies) {
+  /**
+   * Sends events without waiting for acknowledgement of each event.
+   * Sending is blocked only when max number of not acknowledged events is reached.
+   * Totals of sent and failed events of the topic are logged when all events are completed.
+   *
+   * @return future completed when all events are acknowledged, or completed exceptionally if any event failed
+   * */
+  public CompletableFuture<Void> sendMessages(List<T> msgBodies) {
     if (log.isTraceEnabled()) {
       log.trace("Sending events to Kafka [topic: {}, bodies: {}]", topicName, msgBodies);
     } else {
       log.info("Sending events to Kafka [topic: {}, number: {}]", topicName, msgBodies.size());
     }
-    msgBodies.stream()
+    var futures = msgBodies.stream()
       .map(this::toProducerRecord)
-      .forEach(template::send);
+      .map(this::send)
+      .toArray(CompletableFuture[]::new);
+    return CompletableFuture.allOf(futures).whenComplete((result, throwable) ->
+      log.info("Sent events to Kafka [topic: {}, number: {}, total sent: {}, total failed: {}]",
+        topicName, msgBodies.size(), sentCount.get(), failedCount.get()));
+  }
+
+  /**
+   * Returns number of acknowledged events sent to the topic.
+   * */
+  long getSentCount() {
+    return sentCount.get();
+  }
+
+  /**
+   * Returns number of events that failed to be sent to the topic.
+   * */
+  long getFailedCount() {
+    return failedCount.get();
+  }
+
+  private CompletableFuture<SendResult<String, T>> send(ProducerRecord<String, T> producerRecord) {
+    inFlightPermits.acquireUninterruptibly();
+    try {
+      return template.send(producerRecord).whenComplete((result, throwable) -> {
+        inFlightPermits.release();
+        if (throwable == null) {
+          sentCount.incrementAndGet();
+        } else {
+          failedCount.incrementAndGet();
+          log.warn("Failed to send event to Kafka [topic: {}, total sent: {}, total failed: {}]",
+            producerRecord.topic(), sentCount.get(), failedCount.get(), throwable);
+        }
+      });
+    } catch (RuntimeException e) {
+      inFlightPermits.release();
+      failedCount.incrementAndGet();
+      throw e;
+    }
   }
 
   private ProducerRecord<String, T> toProducerRecord(T msgBody) {
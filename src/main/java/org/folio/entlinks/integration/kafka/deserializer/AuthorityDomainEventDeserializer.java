@@ -0,0 +1,103 @@
+package org.folio.entlinks.integration.kafka.deserializer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.log4j.Log4j2;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.folio.entlinks.integration.dto.event.AuthorityDomainEvent;
+import org.folio.entlinks.integration.dto.event.DomainEventType;
+
+/**
+ * Skips deserialization of authority domain events that are never processed by the module.
+ * Type of the event is taken from the "domain-event-type" header, so CREATE and REINDEX events
+ * are dropped without parsing the authority JSON. Skipped records have null value.
+ * Events without the header are deserialized as usual.
+ * Numbers of skipped and deserialized events are logged after every {@value #REPORT_INTERVAL} events and on close.
+ */
+@Log4j2
+public class AuthorityDomainEventDeserializer implements Deserializer<AuthorityDomainEvent> {
+
+  private static final String DOMAIN_EVENT_TYPE_HEADER = "domain-event-type";
+  private static final Set<DomainEventType> SKIPPED_EVENT_TYPES =
+    EnumSet.of(DomainEventType.CREATE, DomainEventType.REINDEX);
+  private static final long REPORT_INTERVAL = 10_000;
+
+  private final Deserializer<AuthorityDomainEvent> delegate;
+  private final AtomicLong skippedCount = new AtomicLong();
+  private final AtomicLong deserializedCount = new AtomicLong();
+  private final AtomicLong processedCount = new AtomicLong();
+
+  public AuthorityDomainEventDeserializer(Deserializer<AuthorityDomainEvent> delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public void configure(Map<String, ?> configs, boolean isKey) {
+    delegate.configure(configs, isKey);
+  }
+
+  @Override
+  public AuthorityDomainEvent deserialize(String topic, byte[] data) {
+    deserializedCount.incrementAndGet();
+    reportCounts(topic);
+    return delegate.deserialize(topic, data);
+  }
+
+  @Override
+  public AuthorityDomainEvent deserialize(String topic, Headers headers, byte[] data) {
+    if (isSkipped(headers)) {
+      var skipped = skippedCount.incrementAndGet();
+      log.trace("Skip deserialization of authority event [topic: {}, skipped: {}]", topic, skipped);
+      reportCounts(topic);
+      return null;
+    }
+    deserializedCount.incrementAndGet();
+    reportCounts(topic);
+    return delegate.deserialize(topic, headers, data);
+  }
+
+  @Override
+  public void close() {
+    log.info("Authority events deserializer closed [skipped: {}, deserialized: {}]",
+      skippedCount.get(), deserializedCount.get());
+    delegate.close();
+  }
+
+  /**
+   * Returns number of events that were dropped without deserialization.
+   * */
+  long getSkippedCount() {
+    return skippedCount.get();
+  }
+
+  /**
+   * Returns number of events that were deserialized.
+   * */
+  long getDeserializedCount() {
+    return deserializedCount.get();
+  }
+
+  private void reportCounts(String topic) {
+    if (processedCount.incrementAndGet() % REPORT_INTERVAL == 0) {
+      log.info("Authority events deserialization [topic: {}, skipped: {}, deserialized: {}]",
+        topic, skippedCount.get(), deserializedCount.get());
+    }
+  }
+
+  private boolean isSkipped(Headers headers) {
+    if (headers == null) {
+      return false;
+    }
+    var header = headers.lastHeader(DOMAIN_EVENT_TYPE_HEADER);
+    if (header == null || header.value() == null) {
+      return false;
+    }
+    var eventType = new String(header.value(), UTF_8);
+    return SKIPPED_EVENT_TYPES.stream().anyMatch(type -> type.name().equals(eventType));
+  }
+}
@@ -0,0 +1,10 @@
+package org.folio.entlinks.service.authority;
+
+/**
+ * Outcome of the bulk authorities processing.
+ *
+ * @param errorsCount       number of records that were not saved, including records with invalid format
+ * @param batchSplits       number of times a failed batch was split in halves
+ * @param isolatedFailures  number of records that failed to be saved and were isolated from their batch
+ */
+public record AuthoritiesBulkResult(int errorsCount, int batchSplits, int isolatedFailures) { }
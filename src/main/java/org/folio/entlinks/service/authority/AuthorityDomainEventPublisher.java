@@ -1,5 +1,6 @@
 package org.folio.entlinks.service.authority;
 
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.entlinks.domain.dto.AuthorityDto;
@@ -78,16 +79,21 @@ public class AuthorityDomainEventPublisher {
     eventProducer.sendMessage(id.toString(), domainEvent, DOMAIN_EVENT_TYPE_HEADER, DomainEventType.DELETE);
   }
 
-  public void publishReindexEvent(AuthorityDto authority, ReindexContext context) {
+  /**
+   * Sends reindex event without waiting for acknowledgement.
+   *
+   * @return future completed when the event is acknowledged
+   * */
+  public CompletableFuture<?> publishReindexEvent(AuthorityDto authority, ReindexContext context) {
     var id = authority.getId();
     if (id == null) {
       log.warn("publishReindexEvent::persisted Authority cannot have null id: {}", authority);
-      return;
+      return CompletableFuture.completedFuture(null);
     }
 
     log.debug("publishReindexEvent::process authority id={}", id);
     var domainEvent = DomainEvent.reindexEvent(id, authority, context.getTenantId());
-    eventProducer.sendMessage(id.toString(), domainEvent,
+    return eventProducer.sendMessage(id.toString(), domainEvent,
       REINDEX_JOB_ID_HEADER, context.getJobId(), DOMAIN_EVENT_TYPE_HEADER, DomainEventType.REINDEX);
   }
 }
@@ -1,14 +1,14 @@
 package org.folio.entlinks.service.authority;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.folio.entlinks.config.properties.AuthorityBulkProperties;
 import org.folio.entlinks.controller.converter.AuthorityMapper;
 import org.folio.entlinks.domain.dto.AuthorityDto;
 import org.folio.entlinks.domain.entity.Authority;
@@ -26,44 +26,85 @@ public class AuthorityS3Service {
   private final BulkAuthorityS3Client s3Client;
   private final ObjectMapper objectMapper;
   private final AuthorityMapper mapper;
-
-  public int processAuthorities(AuthoritiesBulkContext bulkContext,
+  private final AuthorityBulkProperties bulkProperties;
+
+  /**
+   * Streams the bulk file and passes authorities to the consumer in chunks,
+   * so only one chunk of records is kept in memory and each chunk is upserted in its own transaction.
+   * Invalid and failed records are written to the local error files as they occur.
+   * A failed chunk is split in halves recursively until failed records are isolated.
+   * */
+  public AuthoritiesBulkResult processAuthorities(AuthoritiesBulkContext bulkContext,
                                 Consumer<List<Authority>> bulkConsumer) {
     log.info("processAuthorities::Processing bulk authority request [filename: {}]", bulkContext.getInitialFilePath());
-    AtomicInteger errorCounter = new AtomicInteger();
-    var stringAuthorities = s3Client.readFile(bulkContext.getInitialFilePath());
-    var invalidFormatAuthorities = new LinkedList<Map.Entry<String, Exception>>();
-    var authorities = parseAuthorities(stringAuthorities, invalidFormatAuthorities);
-    var failedAuthorities = new LinkedList<Map.Entry<Authority, Exception>>();
-
-    try {
-      bulkConsumer.accept(authorities);
-    } catch (Exception e) {
-      log.error("processAuthorities::Batch failed: [message: {}]", e.getMessage());
-      log.debug("processAuthorities::Batch failed", e);
-
-      for (var authority : authorities) {
-        try {
-          bulkConsumer.accept(List.of(authority));
-        } catch (Exception ex) {
-          failedAuthorities.add(Map.entry(authority, ex));
+    var chunkSize = bulkProperties.getChunkSize();
+    var chunk = new ArrayList<String>(chunkSize);
+    var processed = 0;
+
+    try (var failures = new BulkFailures(bulkContext);
+         var stringAuthorities = s3Client.readFile(bulkContext.getInitialFilePath())) {
+      var iterator = stringAuthorities.iterator();
+      while (iterator.hasNext()) {
+        chunk.add(iterator.next());
+        if (chunk.size() == chunkSize || !iterator.hasNext()) {
+          processChunk(chunk, bulkContext, bulkConsumer, failures);
+          processed += chunk.size();
+          chunk.clear();
         }
       }
+      var result = failures.toResult();
+      log.info("processAuthorities::Bulk authority request processed [filename: {}, records: {}, result: {}]",
+        bulkContext.getInitialFilePath(), processed, result);
+      if (result.errorsCount() > 0) {
+        failures.close();
+        s3Client.uploadErrorFiles(bulkContext);
+      }
+      return result;
+    } finally {
+      try {
+        bulkContext.deleteLocalFiles();
+      } catch (IOException e) {
+        log.error("processAuthorities::Exception during temp files deletion: ", e);
+      }
     }
+  }
 
-    processFailures(invalidFormatAuthorities, failedAuthorities, errorCounter, bulkContext);
+  private void processChunk(List<String> stringAuthorities, AuthoritiesBulkContext bulkContext,
+                            Consumer<List<Authority>> bulkConsumer, BulkFailures failures) {
+    var authorities = parseAuthorities(stringAuthorities, bulkContext, failures);
+    if (!authorities.isEmpty()) {
+      acceptSplittingOnFailure(authorities, bulkConsumer, failures);
+    }
+  }
 
+  /**
+   * Retries halves of the failed batch, so k failed records in a batch of n
+   * require about 2k*log(n) transactions instead of n.
+   * */
+  private void acceptSplittingOnFailure(List<Authority> authorities, Consumer<List<Authority>> bulkConsumer,
+                                        BulkFailures failures) {
     try {
-      bulkContext.deleteLocalFiles();
-    } catch (IOException e) {
-      log.error("processAuthorities::Exception during temp files deletion: ", e);
+      bulkConsumer.accept(authorities);
+    } catch (Exception e) {
+      if (authorities.size() == 1) {
+        log.debug("processAuthorities::Authority failed [id: {}, message: {}]",
+          authorities.getFirst().getId(), e.getMessage());
+        failures.writeIsolated(mapper.toDto(authorities.getFirst()), e, a -> a.getId().toString());
+        return;
+      }
+      log.warn("processAuthorities::Batch failed, splitting [size: {}, message: {}]",
+        authorities.size(), e.getMessage());
+      log.debug("processAuthorities::Batch failed", e);
+      failures.countSplit();
+      var middle = authorities.size() / 2;
+      acceptSplittingOnFailure(authorities.subList(0, middle), bulkConsumer, failures);
+      acceptSplittingOnFailure(authorities.subList(middle, authorities.size()), bulkConsumer, failures);
     }
-    return errorCounter.get();
   }
 
-  private List<Authority> parseAuthorities(List<String> stringAuthorities,
-                                           List<Map.Entry<String, Exception>> invalidFormatAuthorities) {
-    var authorities = new LinkedList<Authority>();
+  private List<Authority> parseAuthorities(List<String> stringAuthorities, AuthoritiesBulkContext bulkContext,
+                                           BulkFailures failures) {
+    var authorities = new ArrayList<Authority>(stringAuthorities.size());
 
     for (String stringAuthority : stringAuthorities) {
       try {
@@ -71,39 +112,12 @@ public class AuthorityS3Service {
         var authority = mapper.toEntity(authorityDto);
         authorities.add(authority);
       } catch (Exception ex) {
-        invalidFormatAuthorities.add(Map.entry(stringAuthority, ex));
-      }
-    }
-
-    return authorities;
-  }
-
-  private void processFailures(List<Map.Entry<String, Exception>> invalidFormatAuthorities,
-                               List<Map.Entry<Authority, Exception>> failedAuthorities,
-                               AtomicInteger errorCounter, AuthoritiesBulkContext bulkContext) {
-
-    if (invalidFormatAuthorities.isEmpty() && failedAuthorities.isEmpty()) {
-      return;
-    }
-
-    log.warn("processFailures:: [file: {}, invalid format count: {}, process failures count: {}]",
-      bulkContext.getInitialFilePath(), invalidFormatAuthorities.size(), failedAuthorities.size());
-    try (var writer = new EntitiesErrorFileWriter(bulkContext.getLocalFailedEntitiesFile(),
-      bulkContext.getLocalErrorsFile(), objectMapper)) {
-      for (var authority : invalidFormatAuthorities) {
-        errorCounter.incrementAndGet();
-        writer.write(authority.getKey(), authority.getValue(),
+        failures.write(stringAuthority, ex,
           a -> stringAuthorityIdGetter(bulkContext.getInitialFilePath(), a));
       }
-      for (var authority : failedAuthorities) {
-        errorCounter.incrementAndGet();
-        writer.write(mapper.toDto(authority.getKey()), authority.getValue(), a -> a.getId().toString());
-      }
-    } catch (Exception ex) {
-      log.error("processFailures::Processing bulk authority request failed.", ex);
     }
 
-    s3Client.uploadErrorFiles(bulkContext);
+    return authorities;
   }
 
   private String stringAuthorityIdGetter(String initialFilePath, String stringAuthority) {
@@ -124,4 +138,62 @@ public class AuthorityS3Service {
       throw new FolioIntegrationException("Unexpected json parsing exception", e);
     }
   }
+
+  /**
+   * Counts failed records and batch splits and appends failed records to the local error files.
+   * Files are created only when the first failure occurs.
+   * */
+  private final class BulkFailures implements AutoCloseable {
+
+    private final AuthoritiesBulkContext bulkContext;
+    private EntitiesErrorFileWriter writer;
+    private int errorsCount;
+    private int batchSplits;
+    private int isolatedFailures;
+
+    private BulkFailures(AuthoritiesBulkContext bulkContext) {
+      this.bulkContext = bulkContext;
+    }
+
+    private void countSplit() {
+      batchSplits++;
+    }
+
+    private <T> void writeIsolated(T entity, Exception ex, Function<T, String> entityIdentifierGetter) {
+      isolatedFailures++;
+      write(entity, ex, entityIdentifierGetter);
+    }
+
+    private <T> void write(T entity, Exception ex, Function<T, String> entityIdentifierGetter) {
+      errorsCount++;
+      try {
+        if (writer == null) {
+          log.warn("processFailures:: writing failed records [file: {}]", bulkContext.getInitialFilePath());
+          writer = new EntitiesErrorFileWriter(bulkContext.getLocalFailedEntitiesFile(),
+            bulkContext.getLocalErrorsFile(), objectMapper);
+        }
+        writer.write(entity, ex, entityIdentifierGetter);
+      } catch (Exception e) {
+        log.error("processFailures::Processing bulk authority request failed.", e);
+      }
+    }
+
+    private AuthoritiesBulkResult toResult() {
+      return new AuthoritiesBulkResult(errorsCount, batchSplits, isolatedFailures);
+    }
+
+    @Override
+    public void close() {
+      if (writer == null) {
+        return;
+      }
+      try {
+        writer.close();
+      } catch (Exception e) {
+        log.error("processFailures::Closing bulk authority error files failed.", e);
+      } finally {
+        writer = null;
+      }
+    }
+  }
 }
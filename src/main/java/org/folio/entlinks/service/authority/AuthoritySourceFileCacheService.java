@@ -0,0 +1,153 @@
+package org.folio.entlinks.service.authority;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.log4j.Log4j2;
+import org.folio.entlinks.domain.entity.AuthoritySourceFile;
+import org.folio.entlinks.domain.repository.AuthoritySourceFileRepository;
+import org.folio.entlinks.exception.AuthoritySourceFileNotFoundException;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.stereotype.Service;
+
+/**
+ * Read-only lookup of authority source files for the hot paths.
+ * All source files of a tenant are loaded at once and kept in the local cache,
+ * the entry is evicted on source file create, update and delete.
+ * Other instances of the module evict the entry on source file domain events and on expiration.
+ * Source files created elsewhere are not published as domain events, so on a missed id or code
+ * source files are reloaded, but not more often than once per 10 seconds,
+ * misses within the interval are served from the loaded source files.
+ * Returned source files are shared between threads and must not be modified.
+ * */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class AuthoritySourceFileCacheService {
+
+  private final AuthoritySourceFileRepository repository;
+  private final FolioExecutionContext folioExecutionContext;
+  private final @Qualifier("authoritySourceFilesCache") Cache cache;
+  @Setter(AccessLevel.PACKAGE)
+  private Duration missReloadInterval = Duration.ofSeconds(10);
+
+  public AuthoritySourceFile findById(UUID id) {
+    return id == null ? null : find(snapshot -> snapshot.byId().get(id));
+  }
+
+  /**
+   * Finds source files by ids using a single cache lookup.
+   *
+   * @param ids source file ids, null values are ignored
+   * @return found source files by id, ids that are not found are absent in the result
+   */
+  public Map<UUID, AuthoritySourceFile> findByIds(Collection<UUID> ids) {
+    if (ids.isEmpty()) {
+      return Map.of();
+    }
+    var snapshot = getSnapshot();
+    var result = findByIds(snapshot, ids);
+    if (result.size() < ids.stream().filter(Objects::nonNull).distinct().count()) {
+      var reloaded = reloadSnapshotOnMiss(snapshot);
+      if (reloaded != snapshot) {
+        result = findByIds(reloaded, ids);
+      }
+    }
+    return result;
+  }
+
+  public AuthoritySourceFile getById(UUID id) {
+    var sourceFile = findById(id);
+    if (sourceFile == null) {
+      throw new AuthoritySourceFileNotFoundException(id);
+    }
+    return sourceFile;
+  }
+
+  public AuthoritySourceFile findByCode(String code) {
+    return code == null ? null : find(snapshot -> snapshot.byCode().get(code));
+  }
+
+  /**
+   * Evicts source files of the current tenant.
+   * When called within a transaction the entry is evicted after commit.
+   * */
+  public void evict() {
+    evict(folioExecutionContext.getTenantId());
+  }
+
+  /**
+   * Evicts source files of the given tenant.
+   * */
+  public void evict(String tenantId) {
+    log.debug("Evicting authority source files [tenantId: {}]", tenantId);
+    cache.evict(tenantId);
+  }
+
+  private AuthoritySourceFile find(Function<SourceFilesSnapshot, AuthoritySourceFile> lookup) {
+    var snapshot = getSnapshot();
+    var sourceFile = lookup.apply(snapshot);
+    if (sourceFile != null) {
+      return sourceFile;
+    }
+    var reloaded = reloadSnapshotOnMiss(snapshot);
+    return reloaded == snapshot ? null : lookup.apply(reloaded);
+  }
+
+  private Map<UUID, AuthoritySourceFile> findByIds(SourceFilesSnapshot snapshot, Collection<UUID> ids) {
+    var result = HashMap.<UUID, AuthoritySourceFile>newHashMap(ids.size());
+    for (var id : ids) {
+      var sourceFile = id == null ? null : snapshot.byId().get(id);
+      if (sourceFile != null) {
+        result.put(id, sourceFile);
+      }
+    }
+    return result;
+  }
+
+  private SourceFilesSnapshot getSnapshot() {
+    var tenantId = folioExecutionContext.getTenantId();
+    return cache.get(tenantId, () -> loadSnapshot(tenantId));
+  }
+
+  private SourceFilesSnapshot reloadSnapshotOnMiss(SourceFilesSnapshot snapshot) {
+    if (System.nanoTime() - snapshot.loadedAt() < missReloadInterval.toNanos()) {
+      return snapshot;
+    }
+    var tenantId = folioExecutionContext.getTenantId();
+    var reloaded = loadSnapshot(tenantId);
+    cache.put(tenantId, reloaded);
+    return reloaded;
+  }
+
+  private SourceFilesSnapshot loadSnapshot(String tenantId) {
+    var sourceFiles = repository.findAllWithCodes();
+    log.info("Loaded authority source files [tenantId: {}, count: {}]", tenantId, sourceFiles.size());
+    return SourceFilesSnapshot.of(sourceFiles);
+  }
+
+  private record SourceFilesSnapshot(Map<UUID, AuthoritySourceFile> byId, Map<String, AuthoritySourceFile> byCode,
+                                     long loadedAt) {
+
+    private static SourceFilesSnapshot of(List<AuthoritySourceFile> sourceFiles) {
+      var byId = HashMap.<UUID, AuthoritySourceFile>newHashMap(sourceFiles.size());
+      var byCode = HashMap.<String, AuthoritySourceFile>newHashMap(sourceFiles.size());
+      for (var loaded : sourceFiles) {
+        var sourceFile = new AuthoritySourceFile(loaded);
+        byId.put(sourceFile.getId(), sourceFile);
+        sourceFile.getAuthoritySourceFileCodes().forEach(code -> byCode.put(code.getCode(), sourceFile));
+      }
+      return new SourceFilesSnapshot(Map.copyOf(byId), Map.copyOf(byCode), System.nanoTime());
+    }
+  }
+}
@@ -46,6 +46,7 @@ public class AuthoritySourceFileService implements AuthoritySourceFileServiceI {
   private final AuthoritySourceFileMapper mapper;
   private final JdbcTemplate jdbcTemplate;
   private final FolioExecutionContext folioExecutionContext;
+  private final AuthoritySourceFileCacheService cacheService;
 
   @Override
   public Page<AuthoritySourceFile> getAll(Integer offset, Integer limit, String cql) {
@@ -97,7 +98,9 @@ public class AuthoritySourceFileService implements AuthoritySourceFileServiceI {
 
     initOnCreate(entity);
 
-    return repository.save(entity);
+    var saved = repository.save(entity);
+    evictCache();
+    return saved;
   }
 
   @Override
@@ -126,6 +129,7 @@ public class AuthoritySourceFileService implements AuthoritySourceFileServiceI {
     log.debug("deleteById:: Attempt to delete AuthoritySourceFile by [id: {}]", id);
     validateOnDelete(id);
     repository.deleteById(id);
+    evictCache();
   }
 
   @Override
@@ -171,6 +175,10 @@ public class AuthoritySourceFileService implements AuthoritySourceFileServiceI {
     jdbcRepository.dropSequence(sequenceName);
   }
 
+  protected void evictCache() {
+    cacheService.evict();
+  }
+
   protected void validateOnDelete(UUID id) {
     var sourceFile = repository.findById(id).orElseThrow(() -> new AuthoritySourceFileNotFoundException(id));
     if (FOLIO.equals(sourceFile.getSource())) {
@@ -201,6 +209,7 @@ public class AuthoritySourceFileService implements AuthoritySourceFileServiceI {
     copyModifiableFields(existingEntity, modified);
 
     AuthoritySourceFile saved = repository.saveAndFlush(existingEntity);
+    evictCache();
     if (publishConsumer != null) {
       publishConsumer.accept(saved, detachedExisting);
     }
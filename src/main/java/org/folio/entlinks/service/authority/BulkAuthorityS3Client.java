@@ -3,7 +3,8 @@ package org.folio.entlinks.service.authority;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.util.List;
+import java.io.UncheckedIOException;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.s3.client.FolioS3Client;
@@ -20,15 +21,19 @@ public class BulkAuthorityS3Client {
 
   private final FolioS3Client s3Client;
 
+  /**
+   * Opens the file for lazy line-by-line reading. Only opening of the file is retried,
+   * the returned stream must be closed by the caller to release the S3 connection.
+   * */
   @Retryable(
     maxRetriesString = "${folio.remote-storage.retryCount}",
     delayString = "${folio.remote-storage.retryDelayMs}")
-  public List<String> readFile(String remoteFileName) {
+  public Stream<String> readFile(String remoteFileName) {
     log.info("readFile::Reading lines from the file [filename: {}]", remoteFileName);
-    try (var inputStream = s3Client.read(remoteFileName);
-         var reader = new BufferedReader(new InputStreamReader(inputStream))) {
-      return reader.lines().toList();
-    } catch (IOException e) {
+    try {
+      var reader = new BufferedReader(new InputStreamReader(s3Client.read(remoteFileName)));
+      return reader.lines().onClose(() -> closeReader(reader, remoteFileName));
+    } catch (Exception e) {
       log.error("readFile::Error reading file [filename: {}]", remoteFileName, e);
       throw new IllegalStateException("Error reading file: " + remoteFileName, e);
     }
@@ -43,4 +48,12 @@ public class BulkAuthorityS3Client {
     s3Client.upload(bulkContext.getLocalFailedEntitiesFilePath(), bulkContext.getFailedEntitiesFilePath());
     s3Client.upload(bulkContext.getLocalErrorsFilePath(), bulkContext.getErrorsFilePath());
   }
+
+  private void closeReader(BufferedReader reader, String remoteFileName) {
+    try {
+      reader.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Error closing file: " + remoteFileName, e);
+    }
+  }
 }
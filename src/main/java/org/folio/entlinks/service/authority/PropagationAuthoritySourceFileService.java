@@ -29,8 +29,10 @@ public class PropagationAuthoritySourceFileService extends AuthoritySourceFileSe
                                                AuthorityRepository authorityRepository,
                                                AuthoritySourceFileMapper mapper,
                                                JdbcTemplate jdbcTemplate,
-                                               FolioExecutionContext folioExecutionContext) {
-    super(repository, jdbcRepository, authorityRepository, mapper, jdbcTemplate, folioExecutionContext);
+                                               FolioExecutionContext folioExecutionContext,
+                                               AuthoritySourceFileCacheService cacheService) {
+    super(repository, jdbcRepository, authorityRepository, mapper, jdbcTemplate, folioExecutionContext,
+      cacheService);
     this.jdbcRepository = jdbcRepository;
     this.repository = repository;
   }
@@ -49,6 +51,7 @@ public class PropagationAuthoritySourceFileService extends AuthoritySourceFileSe
     log.debug("create:: Attempting to create AuthoritySourceFile [entity: {}]", entity);
 
     jdbcRepository.insert(entity);
+    evictCache();
 
     return entity;
   }
@@ -80,6 +83,7 @@ public class PropagationAuthoritySourceFileService extends AuthoritySourceFileSe
     }
 
     jdbcRepository.update(modified, existingEntity.getVersion());
+    evictCache();
 
     if (publishConsumer != null) {
       publishConsumer.accept(modified, existingEntity);
@@ -94,5 +98,6 @@ public class PropagationAuthoritySourceFileService extends AuthoritySourceFileSe
     validateOnDelete(id);
 
     jdbcRepository.delete(id);
+    evictCache();
   }
 }
@@ -62,8 +62,7 @@ public class AuthorityRuleValidationService {
 
   public boolean validateAuthorityFields(AuthorityParsedContent authorityContent, InstanceAuthorityLinkingRule rule) {
     log.info("validateAuthorityFields::Starting validation for AuthorityParsedContent {}", authorityContent.getId());
-    var authorityFields = authorityContent.getFields().stream().filter(fieldParsedContent ->
-      fieldParsedContent.getTag().equals(rule.getAuthorityField())).toList();
+    var authorityFields = authorityContent.getFieldsByTag(rule.getAuthorityField());
 
     if (validateAuthorityFields(authorityFields)) {
       var authorityField = authorityFields.getFirst();
@@ -1,12 +1,17 @@
 package org.folio.entlinks.service.links;
 
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.entlinks.domain.entity.InstanceAuthorityLinkingRule;
 import org.folio.entlinks.domain.repository.LinkingRulesRepository;
 import org.folio.entlinks.exception.LinkingRuleNotFoundException;
+import org.folio.entlinks.service.links.model.LinkingRulesSnapshot;
 import org.folio.entlinks.service.links.validator.LinkingRuleValidator;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,15 +23,19 @@ public class InstanceAuthorityLinkingRulesService {
 
   private final LinkingRulesRepository repository;
   private final LinkingRuleValidator validator;
+  private final FolioExecutionContext folioExecutionContext;
+  private final @Qualifier("linkingRulesCache") Cache cache;
 
   public List<InstanceAuthorityLinkingRule> getLinkingRules() {
-    log.info("Loading linking rules");
-    return repository.findAll(Sort.by("id").ascending());
+    return getSnapshot().rules();
+  }
+
+  public Map<String, List<InstanceAuthorityLinkingRule>> getLinkingRulesByBibField() {
+    return getSnapshot().rulesByBibField();
   }
 
   public List<InstanceAuthorityLinkingRule> getLinkingRulesByAuthorityField(String authorityField) {
-    log.info("Loading linking rules for [authorityField: {}]", authorityField);
-    return repository.findByAuthorityField(authorityField);
+    return getSnapshot().getByAuthorityField(authorityField);
   }
 
   public InstanceAuthorityLinkingRule getLinkingRule(Integer ruleId) {
@@ -44,6 +53,29 @@ public class InstanceAuthorityLinkingRulesService {
     updateSubfieldsIfPresent(existingRule, linkingRulePatch);
 
     repository.save(existingRule);
+    cache.evict(folioExecutionContext.getTenantId());
+  }
+
+  /**
+   * Rules are cached per tenant together with the rules version. Cache entry is evicted after the rule update
+   * is committed, other module instances reload the rules when the version read on every call is changed.
+   * Cached rules are detached copies, so they are not affected by changes of the loaded entities.
+   * */
+  private LinkingRulesSnapshot getSnapshot() {
+    var tenantId = folioExecutionContext.getTenantId();
+    var version = repository.getRulesVersion();
+    var cached = cache.get(tenantId, VersionedSnapshot.class);
+    if (cached != null && cached.version() == version) {
+      return cached.snapshot();
+    }
+
+    log.info("Loading linking rules [tenantId: {}, version: {}]", tenantId, version);
+    var rules = repository.findAll(Sort.by("id").ascending()).stream()
+      .map(InstanceAuthorityLinkingRule::new)
+      .toList();
+    var snapshot = LinkingRulesSnapshot.of(rules);
+    cache.put(tenantId, new VersionedSnapshot(version, snapshot));
+    return snapshot;
   }
 
   private void updateAutoLinkingIfPresent(InstanceAuthorityLinkingRule existing,
@@ -61,5 +93,7 @@ public class InstanceAuthorityLinkingRulesService {
       existing.setAuthoritySubfields(newSubfields);
     }
   }
+
+  private record VersionedSnapshot(long version, LinkingRulesSnapshot snapshot) { }
 }
 
@@ -7,30 +7,34 @@ import static org.folio.entlinks.utils.DateUtils.toTimestamp;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedHashSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.folio.entlinks.config.properties.InstanceAuthorityChangeProperties;
 import org.folio.entlinks.domain.dto.LinkStatus;
 import org.folio.entlinks.domain.dto.LinkUpdateReport;
 import org.folio.entlinks.domain.entity.InstanceAuthorityLink;
 import org.folio.entlinks.domain.entity.InstanceAuthorityLinkStatus;
 import org.folio.entlinks.domain.entity.projection.LinkCountView;
+import org.folio.entlinks.domain.repository.InstanceLinkJdbcRepository;
+import org.folio.entlinks.domain.repository.InstanceLinkJdbcRepository.LinkStatusUpdate;
 import org.folio.entlinks.domain.repository.InstanceLinkRepository;
 import org.folio.entlinks.exception.AuthorityNotFoundException;
 import org.folio.entlinks.service.authority.AuthorityService;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.folio.entlinks.service.links.model.LinksDiff;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,7 +44,9 @@ import org.springframework.transaction.annotation.Transactional;
 public class InstanceAuthorityLinkingService {
 
   private final InstanceLinkRepository instanceLinkRepository;
+  private final InstanceLinkJdbcRepository instanceLinkJdbcRepository;
   private final AuthorityService authorityService;
+  private final InstanceAuthorityChangeProperties instanceAuthorityChangeProperties;
 
   public List<InstanceAuthorityLink> getLinksByInstanceId(UUID instanceId) {
     log.info("Loading links for [instanceId: {}]", instanceId);
@@ -53,13 +59,25 @@ public class InstanceAuthorityLinkingService {
         .toList();
   }
 
+  public List<InstanceAuthorityLink> getLinksByInstanceIds(Collection<UUID> instanceIds) {
+    log.info("Loading links for [instanceIds amount: {}]", instanceIds.size());
+    return instanceLinkRepository.findByInstanceIdIn(instanceIds).stream()
+        .map(view -> {
+          var link = view.getLink();
+          link.setAuthorityNaturalId(view.getAuthorityNaturalId());
+          return link;
+        })
+        .toList();
+  }
+
   /**
-   * Get paginated links for the given authorityId. Authority naturalId is not populated in the returned links.
+   * Get links for the given authorityId ordered by link id, starting after the given link id.
+   * Authority naturalId is not populated in the returned links.
    * */
-  public Page<InstanceAuthorityLink> getLinksByAuthorityId(UUID authorityId, Pageable pageable) {
-    log.info("Loading links for [authorityId: {}, page size: {}, page num: {}]", authorityId,
-      pageable.getPageSize(), pageable.getOffset());
-    return instanceLinkRepository.findByAuthorityId(authorityId, pageable);
+  public List<InstanceAuthorityLink> getLinksByAuthorityId(UUID authorityId, long afterLinkId, int limit) {
+    log.info("Loading links for [authorityId: {}, after link id: {}, limit: {}]", authorityId, afterLinkId, limit);
+    return instanceLinkRepository.findByAuthorityIdAndIdGreaterThanOrderById(authorityId, afterLinkId,
+      Limit.of(limit));
   }
 
   public List<InstanceAuthorityLink> getLinksByIds(List<Integer> ids) {
@@ -87,10 +105,66 @@ public class InstanceAuthorityLinkingService {
     verifyAuthoritiesExist(authorityIds);
 
     var existedLinks = getLinksByInstanceId(instanceId);
-    var linksToDelete = subtract(existedLinks, incomingLinks);
-    var linksToSave = getLinksToSave(incomingLinks, existedLinks, linksToDelete);
-    instanceLinkRepository.deleteAllInBatch(linksToDelete);
-    instanceLinkRepository.saveAll(linksToSave);
+    var linksDiff = LinksDiff.of(existedLinks, incomingLinks);
+    log.debug("updateLinks:: for [instanceId: {}, links to create: {}, links to delete: {}]",
+      instanceId, linksDiff.linksToCreate().size(), linksDiff.linksToDelete().size());
+    if (!linksDiff.linksToDelete().isEmpty()) {
+      instanceLinkRepository.deleteAllInBatch(linksDiff.linksToDelete());
+    }
+    instanceLinkJdbcRepository.insertAll(linksDiff.linksToCreate());
+  }
+
+  /**
+   * Updates links of multiple instances in a single transaction.
+   * Authorities existence is verified once for all instances, existing links are loaded with a single query.
+   * Instances referencing not existing authorities are skipped and reported as failed.
+   *
+   * @param incomingLinksByInstanceId incoming links by instance id
+   * @return error messages by instance id for instances which links were not updated
+   * */
+  @Transactional
+  public Map<UUID, String> updateLinks(Map<UUID, List<InstanceAuthorityLink>> incomingLinksByInstanceId) {
+    log.info("updateLinks:: for [instances amount: {}]", incomingLinksByInstanceId.size());
+
+    var authorityIds = incomingLinksByInstanceId.values().stream()
+        .flatMap(List::stream)
+        .map(InstanceAuthorityLink::getAuthorityId)
+        .collect(Collectors.toSet());
+    var missingAuthorityIds = Set.copyOf(findMissingAuthorityIds(authorityIds));
+
+    var failedInstances = new LinkedHashMap<UUID, String>();
+    var validLinksByInstanceId = new LinkedHashMap<UUID, List<InstanceAuthorityLink>>();
+    incomingLinksByInstanceId.forEach((instanceId, links) -> {
+      var instanceMissingIds = links.stream()
+          .map(InstanceAuthorityLink::getAuthorityId)
+          .filter(missingAuthorityIds::contains)
+          .distinct()
+          .toList();
+      if (instanceMissingIds.isEmpty()) {
+        validLinksByInstanceId.put(instanceId, links);
+      } else {
+        failedInstances.put(instanceId, new AuthorityNotFoundException(instanceMissingIds).getMessage());
+      }
+    });
+
+    var existedLinksByInstanceId = getLinksByInstanceIds(validLinksByInstanceId.keySet()).stream()
+        .collect(Collectors.groupingBy(InstanceAuthorityLink::getInstanceId));
+    var linksToCreate = new ArrayList<InstanceAuthorityLink>();
+    var linksToDelete = new ArrayList<InstanceAuthorityLink>();
+    validLinksByInstanceId.forEach((instanceId, incomingLinks) -> {
+      var existedLinks = existedLinksByInstanceId.getOrDefault(instanceId, List.of());
+      var linksDiff = LinksDiff.of(existedLinks, incomingLinks);
+      linksToCreate.addAll(linksDiff.linksToCreate());
+      linksToDelete.addAll(linksDiff.linksToDelete());
+    });
+
+    log.info("updateLinks:: [updated instances: {}, failed instances: {}, links to create: {}, links to delete: {}]",
+      validLinksByInstanceId.size(), failedInstances.size(), linksToCreate.size(), linksToDelete.size());
+    if (!linksToDelete.isEmpty()) {
+      instanceLinkRepository.deleteAllInBatch(linksToDelete);
+    }
+    instanceLinkJdbcRepository.insertAll(linksToCreate);
+    return failedInstances;
   }
 
   public Map<UUID, Integer> countLinksByAuthorityIds(Set<UUID> authorityIds) {
@@ -103,44 +177,94 @@ public class InstanceAuthorityLinkingService {
       .collect(Collectors.toMap(LinkCountView::getId, LinkCountView::getTotalLinks));
   }
 
-  @Transactional
-  public void deleteByAuthorityIdIn(Set<UUID> authorityIds) {
+  /**
+   * Counts links for the given authorities in every given tenant with a single query.
+   * When the query fails, links are counted for each tenant separately to find out which tenants are failing,
+   * then the first failure is rethrown, so the changes are not silently lost for the failed tenants.
+   * Tenants without links to the given authorities are not present in the result.
+   *
+   * @throws DataAccessException when links can't be counted for any of the given tenants
+   * */
+  public Map<String, Map<UUID, Integer>> countLinksByAuthorityIds(Collection<String> tenantIds,
+                                                                 Set<UUID> authorityIds) {
+    log.info("Count links for [tenants amount: {}, authority ids amount: {}]", tenantIds.size(), authorityIds.size());
+    try {
+      return instanceLinkJdbcRepository.countLinksByAuthorityIds(tenantIds, authorityIds);
+    } catch (DataAccessException e) {
+      log.warn("Failed to count links for all tenants, counting links per tenant", e);
+    }
+
+    var result = new HashMap<String, Map<UUID, Integer>>();
+    DataAccessException failure = null;
+    for (var tenantId : tenantIds) {
+      try {
+        result.putAll(instanceLinkJdbcRepository.countLinksByAuthorityIds(List.of(tenantId), authorityIds));
+      } catch (DataAccessException e) {
+        log.error("Failed to count links for tenant [tenantId: {}]", tenantId, e);
+        if (failure == null) {
+          failure = e;
+        } else {
+          failure.addSuppressed(e);
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+    return result;
+  }
+
+  /**
+   * Deletes links of the given authorities in id ranges, each range is deleted in a separate transaction.
+   *
+   * @return number of deleted links
+   */
+  public int deleteByAuthorityIdIn(Set<UUID> authorityIds) {
     if (log.isDebugEnabled()) {
       log.info("Delete links for [authority ids: {}]", authorityIds);
     } else {
       log.info("Delete links for [authority ids amount: {}]", authorityIds.size());
     }
-    instanceLinkRepository.deleteByAuthorityIds(authorityIds);
+    var deleted = mutateInChunks(
+      (afterId, limit) -> instanceLinkRepository.findIdsByAuthorityIds(authorityIds, afterId, limit),
+      (fromId, toId) -> instanceLinkRepository.deleteByAuthorityIdsAndIdRange(authorityIds, fromId, toId));
+    log.info("Deleted links for [authority ids amount: {}, deleted: {}]", authorityIds.size(), deleted);
+    return deleted;
   }
 
-  @Transactional
-  public void setActualStatusByAuthorityIds(Collection<UUID> authorityIds) {
+  /**
+   * Sets actual status for links of the given authorities that have another status or an error cause.
+   * Links are updated in id ranges, each range is updated in a separate transaction.
+   *
+   * @return number of updated links
+   */
+  public int setActualStatusByAuthorityIds(Collection<UUID> authorityIds) {
     if (log.isDebugEnabled()) {
       log.info("Set actual status for links with [authorityIds: {}]", authorityIds);
     } else {
       log.info("Set actual status for links with [authorityIds amount: {}]", authorityIds.size());
     }
-    instanceLinkRepository.updateStatusByAuthorityIds(authorityIds, InstanceAuthorityLinkStatus.ACTUAL, null);
+    var status = InstanceAuthorityLinkStatus.ACTUAL;
+    var updated = mutateInChunks(
+      (afterId, limit) -> instanceLinkRepository.findIdsByAuthorityIdsAndStatusChanged(authorityIds, status,
+        afterId, limit),
+      (fromId, toId) -> instanceLinkRepository.updateStatusByAuthorityIdsAndIdRange(authorityIds, status,
+        fromId, toId));
+    log.info("Set actual status for links with [authorityIds amount: {}, updated: {}]", authorityIds.size(), updated);
+    return updated;
   }
 
   public List<InstanceAuthorityLink> getLinks(LinkStatus status, OffsetDateTime fromDate,
-                                              OffsetDateTime toDate, int limit) {
-    log.info("Fetching links for [status: {}, fromDate: {}, toDate: {}, limit: {}]",
-        status, fromDate, toDate, limit);
+                                              OffsetDateTime toDate, Long toId, int limit) {
+    log.info("Fetching links for [status: {}, fromDate: {}, toDate: {}, toId: {}, limit: {}]",
+        status, fromDate, toDate, toId, limit);
 
     var linkStatus = status == null ? null : InstanceAuthorityLinkStatus.valueOf(status.getValue());
     var linkFromDate = fromDate == null ? null : toTimestamp(fromDate);
     var linkToDate = toDate == null ? null : toTimestamp(toDate);
-    var pageable = PageRequest.of(0, limit, Sort.by(Sort.Order.desc("updatedAt")));
 
-    return instanceLinkRepository.findLinksWithAuthorityNaturalId(linkStatus, linkFromDate, linkToDate, pageable)
-        .stream()
-        .map(view -> {
-          var link = view.getLink();
-          link.setAuthorityNaturalId(view.getAuthorityNaturalId());
-          return link;
-        })
-        .toList();
+    return instanceLinkRepository.findLinksWithAuthorityNaturalId(linkStatus, linkFromDate, linkToDate, toId,
+      limit);
   }
 
   /**
@@ -169,39 +293,47 @@ public class InstanceAuthorityLinkingService {
         .ifPresent(link::setAuthorityNaturalId));
   }
 
-  @Transactional
+  /**
+   * Applies statuses of the reports to links with a single statement.
+   * Reports are applied in the given order, so if several reports refer to the same link the last one wins.
+   * */
   public void updateForReports(UUID jobId, List<LinkUpdateReport> reports) {
     log.info("updateForReports:: [jobId: {}, reports count: {}]", jobId, reports.size());
     log.debug("updateForReports:: [reports: {}]", reports);
 
-    reports.forEach(report -> {
+    var updatesByLinkId = new LinkedHashMap<Long, LinkStatusUpdate>();
+    for (var report : reports) {
       var linkIds = report.getLinkIds();
-      var status = mapReportStatus(report);
-      log.debug("Update links status for [status: {}, linkIds: {}, jobId: {}]", status, linkIds, jobId);
-      if (CollectionUtils.isNotEmpty(linkIds)) {
-        var links = getLinksByIds(linkIds);
-
-        links.forEach(link -> {
-          link.setStatus(status);
-          link.setErrorCause(StringUtils.trimToNull(report.getFailCause()));
-        });
-
-        saveAll(report.getInstanceId(), links);
+      if (CollectionUtils.isEmpty(linkIds)) {
+        continue;
       }
-    });
-  }
-
-  private void saveAll(UUID instanceId, List<InstanceAuthorityLink> links) {
-    log.info("Save links for [instanceId: {}, links amount: {}]", instanceId, links.size());
-    log.debug("Save links for [instanceId: {}, links: {}]", instanceId, links);
+      var update = new LinkStatusUpdate(mapReportStatus(report), StringUtils.trimToNull(report.getFailCause()));
+      log.debug("Update links status for [status: {}, linkIds: {}, jobId: {}]", update.status(), linkIds, jobId);
+      linkIds.stream()
+        .filter(Objects::nonNull)
+        .forEach(linkId -> updatesByLinkId.put(linkId.longValue(), update));
+    }
+    if (updatesByLinkId.isEmpty()) {
+      return;
+    }
 
-    instanceLinkRepository.saveAll(links);
+    var updated = instanceLinkJdbcRepository.updateStatusByIds(updatesByLinkId);
+    log.info("updateForReports:: links updated [jobId: {}, links count: {}, updated: {}]",
+      jobId, updatesByLinkId.size(), updated);
   }
 
   /**
    * Verification of authorities existence on links update needed since there's no foreign key constraint.
    * */
   private void verifyAuthoritiesExist(Set<UUID> authorityIds) {
+    var missingIds = findMissingAuthorityIds(authorityIds);
+    if (!missingIds.isEmpty()) {
+      log.warn("verifyAuthoritiesExist:: authorities not found for [ids: {}]", missingIds);
+      throw new AuthorityNotFoundException(missingIds);
+    }
+  }
+
+  private List<UUID> findMissingAuthorityIds(Set<UUID> authorityIds) {
     var authoritiesExist = authorityService.authoritiesExist(authorityIds);
     var sharedAuthoritiesExist = authorityService.authoritiesExistForCentralIfOnMember(authorityIds);
 
@@ -210,35 +342,10 @@ public class InstanceAuthorityLinkingService {
         authoritiesExist.merge(key, value, Boolean::logicalOr));
     }
 
-    var missingIds = authoritiesExist.entrySet().stream()
+    return authoritiesExist.entrySet().stream()
       .filter(entry -> !entry.getValue())
       .map(Map.Entry::getKey)
       .toList();
-    if (!missingIds.isEmpty()) {
-      log.warn("verifyAuthoritiesExist:: authorities not found for [ids: {}]", missingIds);
-      throw new AuthorityNotFoundException(missingIds);
-    }
-  }
-
-  /**
-   * Find existing links that need to be updated so existing ids are used.
-   * Add incoming links that need to be created.
-   * */
-  private List<InstanceAuthorityLink> getLinksToSave(List<InstanceAuthorityLink> incomingLinks,
-                                                     List<InstanceAuthorityLink> existedLinks,
-                                                     List<InstanceAuthorityLink> linksToDelete) {
-    var linksToCreate = subtract(incomingLinks, existedLinks);
-    var linksToUpdate = subtract(existedLinks, linksToDelete);
-    var linksToSave = new ArrayList<>(linksToCreate);
-    linksToSave.addAll(linksToUpdate);
-    return linksToSave;
-  }
-
-  private List<InstanceAuthorityLink> subtract(Collection<InstanceAuthorityLink> source,
-                                               Collection<InstanceAuthorityLink> target) {
-    return new LinkedHashSet<>(source).stream()
-      .filter(t -> target.stream().noneMatch(link -> link.isSameLink(t)))
-      .toList();
   }
 
   private InstanceAuthorityLinkStatus mapReportStatus(LinkUpdateReport report) {
@@ -247,4 +354,26 @@ public class InstanceAuthorityLinkingService {
       case FAIL -> InstanceAuthorityLinkStatus.ERROR;
     };
   }
+
+  /**
+   * Runs the mutation over consecutive id ranges, each range contains at most the configured number of links.
+   * Range bounds are taken from ids of links that are going to be mutated, so empty ranges are never mutated.
+   * */
+  private int mutateInChunks(BiFunction<Long, Limit, List<Long>> idsFinder,
+                             BiFunction<Long, Long, Integer> rangeMutation) {
+    var chunkSize = instanceAuthorityChangeProperties.getMutationChunkSize();
+    var mutated = 0;
+    var afterId = 0L;
+    List<Long> ids;
+    do {
+      ids = idsFinder.apply(afterId, Limit.of(chunkSize));
+      if (ids.isEmpty()) {
+        break;
+      }
+      var toId = ids.getLast();
+      mutated += rangeMutation.apply(afterId, toId);
+      afterId = toId;
+    } while (ids.size() == chunkSize);
+    return mutated;
+  }
 }
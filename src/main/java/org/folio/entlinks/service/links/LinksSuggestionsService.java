@@ -18,7 +18,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -31,8 +30,8 @@ import org.folio.entlinks.integration.dto.AuthorityParsedContent;
 import org.folio.entlinks.integration.dto.FieldParsedContent;
 import org.folio.entlinks.integration.dto.ParsedSubfield;
 import org.folio.entlinks.integration.dto.SourceParsedContent;
-import org.folio.entlinks.service.authority.AuthoritySourceFileService;
-import org.folio.entlinks.utils.FieldUtils;
+import org.folio.entlinks.service.authority.AuthoritySourceFileCacheService;
+import org.folio.entlinks.service.links.model.AuthorityMatchIndex;
 import org.springframework.stereotype.Service;
 
 /**
@@ -44,7 +43,7 @@ import org.springframework.stereotype.Service;
 public class LinksSuggestionsService {
 
   private final AuthorityRuleValidationService authorityRuleValidationService;
-  private final AuthoritySourceFileService authoritySourceFileService;
+  private final AuthoritySourceFileCacheService sourceFileCacheService;
 
   /**
    * Validate bib-authority fields by linking rules and fill bib fields with suggested links.
@@ -59,11 +58,12 @@ public class LinksSuggestionsService {
                                                       Map<String, List<InstanceAuthorityLinkingRule>> rules,
                                                       char linkingMatchSubfield,
                                                       boolean ignoreAutoLinkingEnabled) {
+    var authorityIndex = AuthorityMatchIndex.of(marcAuthoritiesContent);
     marcBibsContent.stream()
       .flatMap(bibContent -> bibContent.getFields().stream())
       .forEach(bibField -> Optional.ofNullable(rules.get(bibField.getTag()))
         .ifPresent(bibFieldRules -> suggestAuthorityForBibFields(
-          List.of(bibField), marcAuthoritiesContent, bibFieldRules, linkingMatchSubfield, ignoreAutoLinkingEnabled)));
+          List.of(bibField), authorityIndex, bibFieldRules, linkingMatchSubfield, ignoreAutoLinkingEnabled)));
   }
 
   /**
@@ -95,14 +95,14 @@ public class LinksSuggestionsService {
   }
 
   private void suggestAuthorityForBibFields(List<FieldParsedContent> bibFields,
-                                            List<AuthorityParsedContent> marcAuthoritiesContent,
+                                            AuthorityMatchIndex authorityIndex,
                                             List<InstanceAuthorityLinkingRule> rules,
                                             char linkingMatchSubfield,
                                             boolean ignoreAutoLinkingEnabled) {
     if (isNotEmpty(rules) && isNotEmpty(bibFields)) {
       for (FieldParsedContent bibField : bibFields) {
         if (isBibFieldLinkable(bibField, linkingMatchSubfield)) {
-          suggestAuthorityForBibField(bibField, marcAuthoritiesContent, rules, ignoreAutoLinkingEnabled);
+          suggestAuthorityForBibField(bibField, authorityIndex, rules, ignoreAutoLinkingEnabled);
         }
       }
     }
@@ -115,7 +115,7 @@ public class LinksSuggestionsService {
   }
 
   private void suggestAuthorityForBibField(FieldParsedContent bibField,
-                                           List<AuthorityParsedContent> marcAuthoritiesContent,
+                                           AuthorityMatchIndex authorityIndex,
                                            List<InstanceAuthorityLinkingRule> rules,
                                            boolean ignoreAutoLinkingEnabled) {
     var suitableRules = rules.stream()
@@ -128,9 +128,10 @@ public class LinksSuggestionsService {
       return;
     }
 
+    var candidates = authorityIndex.findCandidates(bibField);
     LinkDetails errorDetails = null;
     for (var rule : suitableRules) {
-      var suitableAuthorities = filterSuitableAuthorities(bibField, marcAuthoritiesContent, rule);
+      var suitableAuthorities = filterSuitableAuthorities(candidates, rule);
       if (suitableAuthorities.size() == 1) {
         var authority = suitableAuthorities.getFirst();
         var linkDetails = getLinkDetails(bibField, authority, rule);
@@ -253,40 +254,14 @@ public class LinksSuggestionsService {
       return authority.getNaturalId();
     }
 
-    var authoritySourceFile = authoritySourceFileService.getById(sourceFileId);
+    var authoritySourceFile = sourceFileCacheService.getById(sourceFileId);
     return getSubfield0Value(authority.getNaturalId(), authoritySourceFile);
   }
 
-  private List<AuthorityParsedContent> filterSuitableAuthorities(FieldParsedContent bibField,
-                                                                 List<AuthorityParsedContent> marcAuthoritiesContent,
+  private List<AuthorityParsedContent> filterSuitableAuthorities(List<AuthorityParsedContent> candidates,
                                                                  InstanceAuthorityLinkingRule rule) {
-    return marcAuthoritiesContent.stream()
-      .filter(authorityContent -> validateSubfields(authorityContent, bibField))
+    return candidates.stream()
       .filter(authorityContent -> authorityRuleValidationService.validateAuthorityFields(authorityContent, rule))
       .toList();
   }
-
-  private boolean validateSubfields(AuthorityParsedContent marcAuthorityContent, FieldParsedContent bibField) {
-    return isNaturalIdMatched(marcAuthorityContent, bibField) || isIdMatched(marcAuthorityContent, bibField);
-  }
-
-  private boolean isNaturalIdMatched(AuthorityParsedContent marcAuthorityContent,
-                                     FieldParsedContent bibField) {
-    return Optional.ofNullable(bibField.getNaturalIdSubfields())
-      .map(subfields -> subfields.stream()
-        .filter(Objects::nonNull)
-        .map(ParsedSubfield::value)
-        .map(FieldUtils::trimSubfield0Value)
-        .anyMatch(zeroValue -> zeroValue.equals(marcAuthorityContent.getNaturalId())))
-      .orElse(false);
-  }
-
-  private boolean isIdMatched(AuthorityParsedContent marcAuthorityContent, FieldParsedContent bibField) {
-    return Optional.ofNullable(bibField.getIdSubfields())
-      .map(subfields -> subfields.stream()
-        .filter(Objects::nonNull)
-        .map(ParsedSubfield::value)
-        .anyMatch(nineValue -> nineValue.equals(marcAuthorityContent.getId().toString())))
-      .orElse(false);
-  }
 }
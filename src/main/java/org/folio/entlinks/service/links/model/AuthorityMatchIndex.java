@@ -0,0 +1,69 @@
+package org.folio.entlinks.service.links.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import org.folio.entlinks.integration.dto.AuthorityParsedContent;
+import org.folio.entlinks.integration.dto.FieldParsedContent;
+import org.folio.entlinks.integration.dto.ParsedSubfield;
+import org.folio.entlinks.utils.FieldUtils;
+
+/**
+ * Authorities of a single suggestion request indexed by natural id and by id,
+ * so bib field candidates are resolved by its $0 and $9 values instead of scanning all authorities.
+ * */
+public record AuthorityMatchIndex(Map<String, List<AuthorityParsedContent>> byNaturalId,
+                                  Map<String, List<AuthorityParsedContent>> byId) {
+
+  public static AuthorityMatchIndex of(List<AuthorityParsedContent> authorities) {
+    return new AuthorityMatchIndex(
+      index(authorities, AuthorityParsedContent::getNaturalId),
+      index(authorities, authority -> authority.getId() == null ? null : authority.getId().toString()));
+  }
+
+  /**
+   * Finds authorities which natural id matches bib field's $0 or which id matches bib field's $9.
+   *
+   * @param bibField bib field to find authorities for
+   * @return distinct matched authorities, each authority is returned once even if both subfields are matched
+   */
+  public List<AuthorityParsedContent> findCandidates(FieldParsedContent bibField) {
+    var candidates = new LinkedHashSet<AuthorityParsedContent>();
+    addCandidates(candidates, byNaturalId, bibField.getNaturalIdSubfields(), FieldUtils::trimSubfield0Value);
+    addCandidates(candidates, byId, bibField.getIdSubfields(), Function.identity());
+    return List.copyOf(candidates);
+  }
+
+  private static void addCandidates(Set<AuthorityParsedContent> candidates,
+                                    Map<String, List<AuthorityParsedContent>> index,
+                                    List<ParsedSubfield> subfields,
+                                    Function<String, String> valueMapper) {
+    if (subfields == null) {
+      return;
+    }
+    for (var subfield : subfields) {
+      if (subfield != null && subfield.value() != null) {
+        var matched = index.get(valueMapper.apply(subfield.value()));
+        if (matched != null) {
+          candidates.addAll(matched);
+        }
+      }
+    }
+  }
+
+  private static Map<String, List<AuthorityParsedContent>> index(
+    List<AuthorityParsedContent> authorities, Function<AuthorityParsedContent, String> keyExtractor) {
+    var index = HashMap.<String, List<AuthorityParsedContent>>newHashMap(authorities.size());
+    for (var authority : authorities) {
+      var key = keyExtractor.apply(authority);
+      if (key != null) {
+        index.computeIfAbsent(key, k -> new ArrayList<>(1)).add(authority);
+      }
+    }
+    return index;
+  }
+}
@@ -0,0 +1,36 @@
+package org.folio.entlinks.service.links.model;
+
+import static java.util.stream.Collectors.collectingAndThen;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toUnmodifiableList;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.folio.entlinks.domain.entity.InstanceAuthorityLinkingRule;
+
+/**
+ * Linking rules of a tenant with indexes by bib field and by authority field.
+ * Snapshot is not modifiable, so it is shared between threads without copying.
+ * */
+public record LinkingRulesSnapshot(List<InstanceAuthorityLinkingRule> rules,
+                                   Map<String, List<InstanceAuthorityLinkingRule>> rulesByBibField,
+                                   Map<String, List<InstanceAuthorityLinkingRule>> rulesByAuthorityField) {
+
+  public static LinkingRulesSnapshot of(List<InstanceAuthorityLinkingRule> rules) {
+    return new LinkingRulesSnapshot(List.copyOf(rules),
+      index(rules, InstanceAuthorityLinkingRule::getBibField),
+      index(rules, InstanceAuthorityLinkingRule::getAuthorityField));
+  }
+
+  public List<InstanceAuthorityLinkingRule> getByAuthorityField(String authorityField) {
+    return rulesByAuthorityField.getOrDefault(authorityField, List.of());
+  }
+
+  private static Map<String, List<InstanceAuthorityLinkingRule>> index(
+    List<InstanceAuthorityLinkingRule> rules, Function<InstanceAuthorityLinkingRule, String> keyExtractor) {
+    return rules.stream()
+      .collect(collectingAndThen(groupingBy(keyExtractor, toUnmodifiableList()), Collections::unmodifiableMap));
+  }
+}
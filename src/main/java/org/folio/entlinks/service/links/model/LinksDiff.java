@@ -0,0 +1,52 @@
+package org.folio.entlinks.service.links.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.UUID;
+import org.folio.entlinks.domain.entity.InstanceAuthorityLink;
+
+/**
+ * Difference between existing and incoming links.
+ * Links are matched by authority id, instance id and linking rule id. Matched links are left as they are,
+ * so they are neither in links to create nor in links to delete.
+ * */
+public record LinksDiff(List<InstanceAuthorityLink> linksToCreate,
+                        List<InstanceAuthorityLink> linksToDelete) {
+
+  public static LinksDiff of(Collection<InstanceAuthorityLink> existedLinks,
+                             Collection<InstanceAuthorityLink> incomingLinks) {
+    var linksToDelete = new ArrayList<InstanceAuthorityLink>();
+    var existedByKey = LinkedHashMap.<LinkKey, InstanceAuthorityLink>newLinkedHashMap(existedLinks.size());
+    for (var link : existedLinks) {
+      if (existedByKey.putIfAbsent(LinkKey.of(link), link) != null) {
+        linksToDelete.add(link);
+      }
+    }
+
+    var linksToCreate = new ArrayList<InstanceAuthorityLink>();
+    var incomingKeys = HashSet.<LinkKey>newHashSet(incomingLinks.size());
+    for (var link : incomingLinks) {
+      var key = LinkKey.of(link);
+      if (incomingKeys.add(key) && existedByKey.remove(key) == null) {
+        linksToCreate.add(link);
+      }
+    }
+    linksToDelete.addAll(existedByKey.values());
+
+    return new LinksDiff(linksToCreate, linksToDelete);
+  }
+
+  public boolean isEmpty() {
+    return linksToCreate.isEmpty() && linksToDelete.isEmpty();
+  }
+
+  private record LinkKey(UUID authorityId, UUID instanceId, Integer linkingRuleId) {
+
+    private static LinkKey of(InstanceAuthorityLink link) {
+      return new LinkKey(link.getAuthorityId(), link.getInstanceId(), link.getLinkingRule().getId());
+    }
+  }
+}
@@ -3,12 +3,23 @@ package org.folio.entlinks.service.messaging.authority;
 import static org.folio.entlinks.service.messaging.authority.model.AuthorityChangeType.UPDATE;
 import static org.folio.entlinks.utils.AuthorityChangeUtils.getAuthorityChanges;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 import lombok.extern.log4j.Log4j2;
+import org.folio.entlinks.config.properties.ConsortiumProperties;
 import org.folio.entlinks.domain.dto.LinksChangeEvent;
 import org.folio.entlinks.domain.entity.AuthorityDataStatAction;
 import org.folio.entlinks.integration.dto.event.AuthorityDeleteEventSubType;
@@ -40,6 +51,7 @@ public class InstanceAuthorityLinkUpdateService {
   private final ConsortiumTenantsService consortiumTenantsService;
   private final FolioExecutionContext folioExecutionContext;
   private final FolioExecutionContextService executionService;
+  private final ConsortiumProperties consortiumProperties;
 
   public InstanceAuthorityLinkUpdateService(AuthorityDataStatService authorityDataStatService,
                                             AuthorityMappingRulesProcessingService mappingRulesProcessingService,
@@ -49,7 +61,8 @@ public class InstanceAuthorityLinkUpdateService {
                                             AuthoritySourceRecordService sourceRecordService,
                                             ConsortiumTenantsService consortiumTenantsService,
                                             FolioExecutionContext folioExecutionContext,
-                                            FolioExecutionContextService executionService) {
+                                            FolioExecutionContextService executionService,
+                                            ConsortiumProperties consortiumProperties) {
     this.authorityDataStatService = authorityDataStatService;
     this.mappingRulesProcessingService = mappingRulesProcessingService;
     this.linkingService = linkingService;
@@ -60,6 +73,7 @@ public class InstanceAuthorityLinkUpdateService {
     this.consortiumTenantsService = consortiumTenantsService;
     this.folioExecutionContext = folioExecutionContext;
     this.executionService = executionService;
+    this.consortiumProperties = consortiumProperties;
   }
 
   public void handleAuthoritiesChanges(List<AuthorityDomainEvent> events) {
@@ -73,12 +87,49 @@ public class InstanceAuthorityLinkUpdateService {
       .map(event -> toAuthorityChangeHolder(event, fieldTagRelation, linksNumberByAuthorityId))
       .filter(AuthorityChangeHolder::changesExist)
       .toList();
-    fillChangeHoldersWithSourceRecord(changeHolders);
-
+    // every consumed edit is recorded, net changes report links updates under the stat of their last edit
     prepareAndSaveAuthorityDataStats(changeHolders);
 
-    processEventsByChangeType(changeHolders);
-    processChangesForConsortiumMemberTenants(incomingAuthorityIds, changeHolders);
+    var netChangeHolders = coalesceChanges(changeHolders);
+    fillChangeHoldersWithSourceRecord(netChangeHolders);
+    processEventsByChangeType(netChangeHolders);
+    processChangesForConsortiumMemberTenants(incomingAuthorityIds, netChangeHolders);
+  }
+
+  /**
+   * Folds changes of the same authority into net changes, changes are expected in the order of their offsets.
+   * Consecutive updates are folded into a single update from the first old entity to the last new entity,
+   * updates followed by a delete are dropped. Net updates that do not change the authority are dropped as well.
+   * */
+  private List<AuthorityChangeHolder> coalesceChanges(List<AuthorityChangeHolder> changeHolders) {
+    var netChanges = new ArrayList<AuthorityChangeHolder>(changeHolders.size());
+    var pendingUpdateIndexes = new HashMap<UUID, Integer>();
+    for (var changeHolder : changeHolders) {
+      var authorityId = changeHolder.getAuthorityId();
+      var eventType = changeHolder.getEvent().getType();
+      var pendingUpdateIndex = pendingUpdateIndexes.remove(authorityId);
+      if (pendingUpdateIndex != null && eventType == DomainEventType.UPDATE) {
+        netChanges.set(pendingUpdateIndex, netChanges.get(pendingUpdateIndex).mergeWith(changeHolder));
+        pendingUpdateIndexes.put(authorityId, pendingUpdateIndex);
+        continue;
+      }
+      if (pendingUpdateIndex != null && eventType == DomainEventType.DELETE) {
+        netChanges.set(pendingUpdateIndex, null);
+      }
+      netChanges.add(changeHolder);
+      if (eventType == DomainEventType.UPDATE) {
+        pendingUpdateIndexes.put(authorityId, netChanges.size() - 1);
+      }
+    }
+
+    var result = netChanges.stream()
+      .filter(changeHolder -> changeHolder != null && changeHolder.changesExist())
+      .toList();
+    if (result.size() < changeHolders.size()) {
+      log.info("Coalesced authority changes [tenantId: {}, changes: {}, net changes: {}]",
+        folioExecutionContext.getTenantId(), changeHolders.size(), result.size());
+    }
+    return result;
   }
 
   private void fillChangeHoldersWithSourceRecord(List<AuthorityChangeHolder> changeHolders) {
@@ -86,8 +137,9 @@ public class InstanceAuthorityLinkUpdateService {
         .filter(holder -> holder.getChangeType().equals(UPDATE) && !holder.isOnlyNaturalIdChanged())
         .collect(Collectors.groupingBy(AuthorityChangeHolder::getAuthorityId));
     if (!changeHoldersForSourceRecord.isEmpty()) {
+      var sourceRecords = sourceRecordService.getAuthoritySourceRecordsByIds(changeHoldersForSourceRecord.keySet());
       changeHoldersForSourceRecord.forEach((authorityId, authorityChangeHolders) -> {
-        var sourceRecord = sourceRecordService.getAuthoritySourceRecordById(authorityId);
+        var sourceRecord = sourceRecords.get(authorityId);
         authorityChangeHolders.forEach(changeHolder -> changeHolder.setSourceRecord(sourceRecord));
       });
     }
@@ -98,18 +150,23 @@ public class InstanceAuthorityLinkUpdateService {
       .filter(this::isProcessableChange)
       .collect(Collectors.groupingBy(AuthorityChangeHolder::getChangeType));
 
+    var sendFutures = new ArrayList<CompletableFuture<Void>>();
     for (var eventsByTypeEntry : changesByType.entrySet()) {
       var type = eventsByTypeEntry.getKey();
       var handler = changeHandlers.get(type);
       if (handler == null) {
         log.warn("No suitable handler found [tenantId: {}, event type: {}]",
             folioExecutionContext.getTenantId(), type);
-        return;
+        break;
       } else {
-        var linksEvents = handler.handle(eventsByTypeEntry.getValue());
-        sendEvents(linksEvents, type);
+        var sentBefore = sendFutures.size();
+        handler.handle(eventsByTypeEntry.getValue(), linksEvent -> sendFutures.add(sendEvent(linksEvent)));
+        log.info("Sent {} {} events to Kafka for tenant {}", sendFutures.size() - sentBefore, type,
+            folioExecutionContext.getTenantId());
       }
     }
+    // wait for delivery of all events, so the authority events are acknowledged only after links events are sent
+    CompletableFuture.allOf(sendFutures.toArray(CompletableFuture[]::new)).join();
   }
 
   private boolean isProcessableChange(AuthorityChangeHolder changeHolder) {
@@ -147,6 +204,11 @@ public class InstanceAuthorityLinkUpdateService {
    * This method handles consortium central tenant authority changes for all members so member tenants can reflect those
    * changes in their local bibs in case they're linked to a shared authority.
    * Links count is recalculated for each member tenant to reflect central count + local count.
+   * Links of all member tenants are counted with a single query and member tenants without links are skipped.
+   * Failure to count links of any member tenant fails the batch, so it is retried.
+   * Member tenants are processed in parallel on virtual threads. Failure or timeout of a member tenant doesn't affect
+   * processing of other member tenants, the first failure is rethrown when all member tenants are finished,
+   * so the batch is not acknowledged and is retried.
   * */
   private void processChangesForConsortiumMemberTenants(Set<UUID> authorityIds,
                                                         List<AuthorityChangeHolder> changeHolders) {
@@ -155,23 +217,94 @@ public class InstanceAuthorityLinkUpdateService {
       return;
     }
     log.debug("processChangesForConsortiumMemberTenants:: for authorities [{}]", authorityIds);
-    consortiumTenants.forEach(memberTenant -> {
-      var changeHolderCopies = changeHolders.stream().map(AuthorityChangeHolder::copy).toList();
-
-      executionService.execute(memberTenant, folioExecutionContext, () -> {
-        var linksNumberByAuthorityId = linkingService.countLinksByAuthorityIds(authorityIds);
+    var linksNumberByTenant = linkingService.countLinksByAuthorityIds(consortiumTenants, authorityIds);
+    var linkedTenants = consortiumTenants.stream()
+      .filter(linksNumberByTenant::containsKey)
+      .toList();
+    log.info("processChangesForConsortiumMemberTenants:: member tenants with links [{} of {}]",
+      linkedTenants.size(), consortiumTenants.size());
+    if (linkedTenants.isEmpty()) {
+      return;
+    }
 
+    var okapiHeaders = folioExecutionContext.getOkapiHeaders();
+    var parallelism = Math.min(linkedTenants.size(), consortiumProperties.getMemberTenantsParallelism());
+    var executor = Executors.newFixedThreadPool(parallelism, Thread.ofVirtual().name("member-tenant-", 0).factory());
+    var futures = new LinkedHashMap<String, Future<?>>();
+    try {
+      for (var memberTenant : linkedTenants) {
+        var linksNumberByAuthorityId = linksNumberByTenant.get(memberTenant);
+        var changeHolderCopies = changeHolders.stream().map(AuthorityChangeHolder::copy).toList();
         changeHolderCopies.forEach(changeHolder -> {
           var linksCount = linksNumberByAuthorityId.getOrDefault(changeHolder.getAuthorityId(), 0);
           changeHolder.setNumberOfLinks(linksCount);
         });
-        processEventsByChangeType(changeHolderCopies);
-        return null;
-      });
-    });
+        futures.put(memberTenant, executor.submit(() ->
+          processChangesForMemberTenant(memberTenant, okapiHeaders, changeHolderCopies)));
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    var deadline = System.nanoTime() + consortiumProperties.getMemberTenantsTimeout().toNanos();
+    RuntimeException failure = null;
+    for (var entry : futures.entrySet()) {
+      var memberFailure = awaitMemberTenant(entry.getKey(), entry.getValue(), deadline, authorityIds);
+      if (memberFailure == null) {
+        continue;
+      }
+      if (failure == null) {
+        failure = memberFailure;
+      } else {
+        failure.addSuppressed(memberFailure);
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
     log.debug("Finished processing authority changes for shadow copies of authorities: [{}]", authorityIds);
   }
 
+  private void processChangesForMemberTenant(String memberTenant, Map<String, Collection<String>> okapiHeaders,
+                                             List<AuthorityChangeHolder> changeHolders) {
+    var startTime = System.nanoTime();
+    executionService.execute(memberTenant, okapiHeaders, () -> {
+      processEventsByChangeType(changeHolders);
+      return null;
+    });
+    log.info("processChangesForMemberTenant:: processed [tenantId: {}, changes: {}, duration: {} ms]",
+      memberTenant, changeHolders.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+  }
+
+  /**
+   * Waits for the member tenant until the deadline.
+   *
+   * @return failure of the member tenant or null if the member tenant processed changes successfully
+   * */
+  private RuntimeException awaitMemberTenant(String memberTenant, Future<?> future, long deadline,
+                                             Set<UUID> authorityIds) {
+    try {
+      future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+      return null;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      future.cancel(true);
+      return new IllegalStateException("Interrupted while processing authority changes for member tenant "
+        + memberTenant, e);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      log.error("Member tenant did not process authority changes in time [tenantId: {}, authorities: {}]",
+        memberTenant, authorityIds);
+      return new IllegalStateException("Member tenant did not process authority changes in time: " + memberTenant);
+    } catch (ExecutionException e) {
+      log.error("Member tenant failed to process authority changes [tenantId: {}, authorities: {}]",
+        memberTenant, authorityIds, e.getCause());
+      return e.getCause() instanceof RuntimeException runtimeException
+             ? runtimeException
+             : new IllegalStateException(e.getCause());
+    }
+  }
+
   private AuthorityChangeHolder toAuthorityChangeHolder(AuthorityDomainEvent event,
                                                         Map<AuthorityChangeField, String> fieldTagRelation,
                                                         Map<UUID, Integer> linksNumberByAuthorityId) {
@@ -180,9 +313,11 @@ public class InstanceAuthorityLinkUpdateService {
       linksNumberByAuthorityId.getOrDefault(event.getId(), 0));
   }
 
-  private void sendEvents(List<LinksChangeEvent> events, AuthorityChangeType type) {
-    log.info("Sending {} {} events to Kafka for tenant {}", events.size(), type,
-        folioExecutionContext.getTenantId());
-    eventProducer.sendMessages(events);
+  /**
+   * Sends the event without waiting for acknowledgement.
+   * Returned future does not reference the sent event, so acknowledged events are not held in memory.
+   * */
+  private CompletableFuture<Void> sendEvent(LinksChangeEvent event) {
+    return eventProducer.sendMessage(null, event).thenAccept(result -> { });
   }
 }
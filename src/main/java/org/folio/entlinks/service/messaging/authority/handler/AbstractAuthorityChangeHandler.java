@@ -1,8 +1,8 @@
 package org.folio.entlinks.service.messaging.authority.handler;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import org.folio.entlinks.config.properties.InstanceAuthorityChangeProperties;
@@ -11,8 +11,6 @@ import org.folio.entlinks.domain.dto.LinksChangeEvent;
 import org.folio.entlinks.domain.entity.InstanceAuthorityLink;
 import org.folio.entlinks.service.links.InstanceAuthorityLinkingService;
 import org.folio.entlinks.utils.LinkEventsUtils;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 
 @RequiredArgsConstructor
 public abstract class AbstractAuthorityChangeHandler implements AuthorityChangeHandler {
@@ -20,20 +18,26 @@ public abstract class AbstractAuthorityChangeHandler implements AuthorityChangeH
   private final InstanceAuthorityChangeProperties instanceAuthorityChangeProperties;
   private final InstanceAuthorityLinkingService linkingService;
 
-  protected List<LinksChangeEvent> handleLinksByPartitions(UUID authorityId,
-                                                           Function<List<InstanceAuthorityLink>,
-                                                             LinksChangeEvent> function) {
-    List<LinksChangeEvent> linksEvents = new ArrayList<>();
-    Pageable pageable = PageRequest.of(0, instanceAuthorityChangeProperties.getNumPartitions());
-    do {
-      var linksPage = linkingService.getLinksByAuthorityId(authorityId, pageable);
-      var instanceLinks = linksPage.getContent();
-
-      linksEvents.add(function.apply(instanceLinks));
-
-      pageable = linksPage.nextPageable();
-    } while (pageable.isPaged());
-    return linksEvents;
+  /**
+   * Reads links of the authority in partitions ordered by link id, each partition starts after the last link
+   * of the previous one. Event of each partition is passed to the consumer right after it is built,
+   * so links of the authority are never held in memory all at once.
+   * One event is built even if the authority has no links.
+   * */
+  protected void handleLinksByPartitions(UUID authorityId,
+                                         Function<List<InstanceAuthorityLink>, LinksChangeEvent> function,
+                                         Consumer<LinksChangeEvent> eventConsumer) {
+    var partitionSize = instanceAuthorityChangeProperties.getNumPartitions();
+    var instanceLinks = linkingService.getLinksByAuthorityId(authorityId, 0L, partitionSize);
+    eventConsumer.accept(function.apply(instanceLinks));
+    while (instanceLinks.size() == partitionSize) {
+      var lastLinkId = instanceLinks.getLast().getId();
+      instanceLinks = linkingService.getLinksByAuthorityId(authorityId, lastLinkId, partitionSize);
+      if (instanceLinks.isEmpty()) {
+        return;
+      }
+      eventConsumer.accept(function.apply(instanceLinks));
+    }
   }
 
   protected LinksChangeEvent constructEvent(UUID jobId, UUID authorityId,
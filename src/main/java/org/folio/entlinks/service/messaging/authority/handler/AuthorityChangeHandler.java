@@ -1,13 +1,17 @@
 package org.folio.entlinks.service.messaging.authority.handler;
 
 import java.util.List;
+import java.util.function.Consumer;
 import org.folio.entlinks.domain.dto.LinksChangeEvent;
 import org.folio.entlinks.service.messaging.authority.model.AuthorityChangeHolder;
 import org.folio.entlinks.service.messaging.authority.model.AuthorityChangeType;
 
 public interface AuthorityChangeHandler {
 
-  List<LinksChangeEvent> handle(List<AuthorityChangeHolder> changes);
+  /**
+   * Handles authority changes, each links event is passed to the consumer as soon as it is built.
+   */
+  void handle(List<AuthorityChangeHolder> changes, Consumer<LinksChangeEvent> eventConsumer);
 
   LinksChangeEvent.TypeEnum getReplyEventType();
 
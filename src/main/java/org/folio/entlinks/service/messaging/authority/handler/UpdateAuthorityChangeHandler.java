@@ -4,11 +4,13 @@ import static java.util.Collections.singletonList;
 import static org.folio.entlinks.utils.FieldUtils.getSubfield0Value;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import lombok.extern.log4j.Log4j2;
 import org.folio.entlinks.config.properties.InstanceAuthorityChangeProperties;
 import org.folio.entlinks.domain.dto.FieldChange;
@@ -17,11 +19,11 @@ import org.folio.entlinks.domain.dto.LinksChangeEvent;
 import org.folio.entlinks.domain.dto.SubfieldChange;
 import org.folio.entlinks.domain.entity.InstanceAuthorityLink;
 import org.folio.entlinks.domain.entity.InstanceAuthorityLinkingRule;
-import org.folio.entlinks.domain.repository.AuthoritySourceFileRepository;
 import org.folio.entlinks.exception.AuthorityBatchProcessingException;
 import org.folio.entlinks.exception.FolioIntegrationException;
 import org.folio.entlinks.integration.dto.AuthoritySourceRecord;
 import org.folio.entlinks.integration.kafka.EventProducer;
+import org.folio.entlinks.service.authority.AuthoritySourceFileCacheService;
 import org.folio.entlinks.service.links.InstanceAuthorityLinkingRulesService;
 import org.folio.entlinks.service.links.InstanceAuthorityLinkingService;
 import org.folio.entlinks.service.messaging.authority.AuthorityMappingRulesProcessingService;
@@ -34,20 +36,20 @@ import org.springframework.stereotype.Component;
 @Component
 public class UpdateAuthorityChangeHandler extends AbstractAuthorityChangeHandler {
 
-  private final AuthoritySourceFileRepository sourceFileRepository;
+  private final AuthoritySourceFileCacheService sourceFileCacheService;
   private final AuthorityMappingRulesProcessingService mappingRulesProcessingService;
   private final InstanceAuthorityLinkingRulesService linkingRulesService;
   private final EventProducer<LinkUpdateReport> eventProducer;
   private final InstanceAuthorityLinkingService linkingService;
 
   public UpdateAuthorityChangeHandler(InstanceAuthorityChangeProperties instanceAuthorityChangeProperties,
-                                      AuthoritySourceFileRepository sourceFileRepository,
+                                      AuthoritySourceFileCacheService sourceFileCacheService,
                                       AuthorityMappingRulesProcessingService mappingRulesProcessingService,
                                       InstanceAuthorityLinkingRulesService linkingRulesService,
                                       InstanceAuthorityLinkingService linkingService,
                                       EventProducer<LinkUpdateReport> eventProducer) {
     super(instanceAuthorityChangeProperties, linkingService);
-    this.sourceFileRepository = sourceFileRepository;
+    this.sourceFileCacheService = sourceFileCacheService;
     this.mappingRulesProcessingService = mappingRulesProcessingService;
     this.linkingRulesService = linkingRulesService;
     this.eventProducer = eventProducer;
@@ -55,16 +57,18 @@ public class UpdateAuthorityChangeHandler extends AbstractAuthorityChangeHandler
   }
 
   @Override
-  public List<LinksChangeEvent> handle(List<AuthorityChangeHolder> changes) {
+  public void handle(List<AuthorityChangeHolder> changes, Consumer<LinksChangeEvent> eventConsumer) {
     if (changes == null || changes.isEmpty()) {
-      return Collections.emptyList();
+      return;
     }
 
-    List<LinksChangeEvent> linksEvents = new ArrayList<>();
+    Set<UUID> authorityIds = new HashSet<>();
+    List<CompletableFuture<Void>> reportFutures = new ArrayList<>();
     for (var change : changes) {
       try {
         if (change.getNumberOfLinks() > 0) {
-          linksEvents.addAll(handle0(change));
+          handle0(change, eventConsumer);
+          authorityIds.add(change.getAuthorityId());
         }
       } catch (AuthorityBatchProcessingException e) {
         log.warn("Skipping authority change processing.", e);
@@ -72,15 +76,13 @@ public class UpdateAuthorityChangeHandler extends AbstractAuthorityChangeHandler
         report.setFailCause(e.getMessage());
         report.setJobId(change.getAuthorityDataStatId());
         report.setStatus(LinkUpdateReport.StatusEnum.FAIL);
-        eventProducer.sendMessages(singletonList(report));
+        reportFutures.add(eventProducer.sendMessages(singletonList(report)));
       }
     }
-
-    var authorityIds = linksEvents.stream().map(LinksChangeEvent::getAuthorityId).collect(Collectors.toSet());
+    CompletableFuture.allOf(reportFutures.toArray(CompletableFuture[]::new)).join();
 
     //update status to actual for links in case they have fail status from previous updates
     linkingService.setActualStatusByAuthorityIds(authorityIds);
-    return linksEvents;
   }
 
   @Override
@@ -93,25 +95,27 @@ public class UpdateAuthorityChangeHandler extends AbstractAuthorityChangeHandler
     return AuthorityChangeType.UPDATE;
   }
 
-  private List<LinksChangeEvent> handle0(AuthorityChangeHolder changeHolder) throws AuthorityBatchProcessingException {
+  private void handle0(AuthorityChangeHolder changeHolder, Consumer<LinksChangeEvent> eventConsumer)
+    throws AuthorityBatchProcessingException {
     if (changeHolder.isOnlyNaturalIdChanged()) {
-      return handleNaturalIdChange(changeHolder);
+      handleNaturalIdChange(changeHolder, eventConsumer);
     } else {
-      return handleFieldChange(changeHolder);
+      handleFieldChange(changeHolder, eventConsumer);
     }
   }
 
-  private List<LinksChangeEvent> handleNaturalIdChange(AuthorityChangeHolder changeHolder) {
+  private void handleNaturalIdChange(AuthorityChangeHolder changeHolder, Consumer<LinksChangeEvent> eventConsumer) {
     var authorityId = changeHolder.getAuthorityId();
     var naturalId = changeHolder.getNewNaturalId();
 
     var subfield0Change = getSubfield0Change(naturalId, changeHolder.getNewSourceFileId());
 
-    return handleLinksByPartitions(authorityId,
+    handleLinksByPartitions(authorityId,
       instanceLinks -> {
         var fieldChanges = getFieldChangesForNaturalId(subfield0Change, instanceLinks);
         return constructEvent(changeHolder.getAuthorityDataStatId(), authorityId, instanceLinks, fieldChanges);
-      }
+      },
+      eventConsumer
     );
   }
 
@@ -124,7 +128,7 @@ public class UpdateAuthorityChangeHandler extends AbstractAuthorityChangeHandler
       .toList();
   }
 
-  private List<LinksChangeEvent> handleFieldChange(AuthorityChangeHolder changeHolder)
+  private void handleFieldChange(AuthorityChangeHolder changeHolder, Consumer<LinksChangeEvent> eventConsumer)
     throws AuthorityBatchProcessingException {
     var authorityId = changeHolder.getAuthorityId();
 
@@ -144,8 +148,9 @@ public class UpdateAuthorityChangeHandler extends AbstractAuthorityChangeHandler
       .map(FieldChangeHolder::toFieldChange)
       .toList();
 
-    return handleLinksByPartitions(authorityId,
-      instanceLinks -> constructEvent(changeHolder.getAuthorityDataStatId(), authorityId, instanceLinks, fieldChanges)
+    handleLinksByPartitions(authorityId,
+      instanceLinks -> constructEvent(changeHolder.getAuthorityDataStatId(), authorityId, instanceLinks, fieldChanges),
+      eventConsumer
     );
   }
 
@@ -176,7 +181,7 @@ public class UpdateAuthorityChangeHandler extends AbstractAuthorityChangeHandler
   }
 
   private SubfieldChange getSubfield0Change(String naturalId, UUID sourceFileId) {
-    var sourceFile = sourceFileId == null ? null : sourceFileRepository.findById(sourceFileId).orElse(null);
+    var sourceFile = sourceFileCacheService.findById(sourceFileId);
     var subfield0Value = getSubfield0Value(naturalId, sourceFile);
     return new SubfieldChange().code("0").value(subfield0Value);
   }
@@ -1,5 +1,6 @@
 package org.folio.entlinks.service.messaging.authority.model;
 
+import static org.folio.entlinks.utils.AuthorityChangeUtils.getAuthorityChanges;
 import static org.folio.entlinks.utils.ObjectUtils.transformIfNotNull;
 
 import java.util.ArrayList;
@@ -15,6 +16,7 @@ import org.folio.entlinks.domain.entity.AuthorityDataStat;
 import org.folio.entlinks.domain.entity.AuthorityDataStatAction;
 import org.folio.entlinks.integration.dto.AuthoritySourceRecord;
 import org.folio.entlinks.integration.dto.event.AuthorityDomainEvent;
+import org.folio.entlinks.integration.dto.event.DomainEventType;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -181,6 +183,23 @@ public class AuthorityChangeHolder {
     return changes.size() > 2 || changes.size() == 2 && !changes.containsKey(AuthorityChangeField.NATURAL_ID);
   }
 
+  /**
+   * Returns net change of this update followed by the given update of the same authority.
+   * The net change goes from the old entity of this change to the new entity of the next one
+   * and keeps data stat id of the next change, so links updates are reported for the last recorded edit.
+   * */
+  public AuthorityChangeHolder mergeWith(AuthorityChangeHolder next) {
+    var nextEvent = next.getEvent();
+    var mergedEvent = new AuthorityDomainEvent(event.getId(), event.getOldEntity(), nextEvent.getNewEntity(),
+      DomainEventType.UPDATE, nextEvent.getTenant());
+    mergedEvent.setTs(nextEvent.getTs());
+    var merged = new AuthorityChangeHolder(mergedEvent,
+      getAuthorityChanges(mergedEvent.getNewEntity(), mergedEvent.getOldEntity()), next.fieldTagRelation,
+      next.getNumberOfLinks());
+    merged.setAuthorityDataStatId(next.getAuthorityDataStatId());
+    return merged;
+  }
+
   public AuthorityChangeHolder copy() {
     var copy = new AuthorityChangeHolder(event, changes, fieldTagRelation);
     copy.setAuthorityDataStatId(authorityDataStatId);
@@ -24,10 +24,18 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.folio.entlinks.config.properties.ReindexProperties;
 import org.folio.entlinks.controller.converter.AuthorityMapper;
 import org.folio.entlinks.domain.entity.Authority;
 import org.folio.entlinks.domain.entity.AuthorityIdentifier;
@@ -35,13 +43,14 @@ import org.folio.entlinks.domain.entity.AuthorityNote;
 import org.folio.entlinks.domain.entity.AuthoritySourceFile;
 import org.folio.entlinks.domain.entity.HeadingRef;
 import org.folio.entlinks.domain.entity.ReindexJob;
+import org.folio.entlinks.exception.ReindexJobCancelledException;
 import org.folio.entlinks.service.authority.AuthorityDomainEventPublisher;
 import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.scope.FolioExecutionContextService;
 import org.springframework.context.annotation.Scope;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 import tools.jackson.core.type.TypeReference;
 import tools.jackson.databind.ObjectMapper;
 
@@ -51,8 +60,6 @@ import tools.jackson.databind.ObjectMapper;
 @RequiredArgsConstructor
 public class AuthorityReindexJobRunner implements ReindexJobRunner {
 
-  static final int BATCH_SIZE = 50;
-
   private static final TypeReference<HeadingRef[]> HEADING_TYPE_REF = new TypeReference<>() { };
   private static final TypeReference<AuthorityIdentifier[]> IDENTIFIER_TYPE_REF = new TypeReference<>() { };
   private static final TypeReference<AuthorityNote[]> NOTE_TYPE_REF = new TypeReference<>() { };
@@ -60,14 +67,15 @@ public class AuthorityReindexJobRunner implements ReindexJobRunner {
 
   private final JdbcTemplate jdbcTemplate;
   private final FolioExecutionContext folioExecutionContext;
+  private final FolioExecutionContextService executionService;
   private final ReindexService reindexService;
+  private final ReindexProperties reindexProperties;
   private final AuthorityDomainEventPublisher eventPublisher;
   private final AuthorityMapper mapper;
   private final ObjectMapper objectMapper;
 
   @Async
   @Override
-  @Transactional
   public void startReindex(ReindexJob reindexJob) {
     log.info("reindex::started");
     var reindexContext = new ReindexContext(reindexJob, folioExecutionContext);
@@ -75,43 +83,116 @@ public class AuthorityReindexJobRunner implements ReindexJobRunner {
     log.info("reindex::ended");
   }
 
-  @Transactional(readOnly = true)
+  /**
+   * Splits authority ids into ranges and streams each range with keyset pagination on its own virtual thread.
+   * Ranges continue from the job checkpoint if the job is resumed.
+   * Job is marked as failed if any range fails after all resume attempts.
+   * */
   public void streamAuthorities(ReindexContext context) {
+    var reindexJob = context.reindexJob();
     var totalRecords = jdbcTemplate.queryForObject(countQuery(context.getTenantId()), Integer.class);
-    log.info("reindex::count={}", totalRecords);
-    var progressTracker = new ReindexJobProgressTracker(totalRecords == null ? 0 : totalRecords);
-
-    jdbcTemplate.setFetchSize(BATCH_SIZE);
-    try (var authorityStream = jdbcTemplate.queryForStream(selectQuery(context.getTenantId()),
-      (rs, rowNum) -> toAuthorityEntity(rs))) {
-
-      var batch = new ArrayList<Authority>(BATCH_SIZE);
-      authorityStream.forEach(authority -> {
-        batch.add(authority);
-        if (batch.size() >= BATCH_SIZE) {
-          processBatch(batch, context, progressTracker);
-          batch.clear();
-        }
-      });
-      if (!batch.isEmpty()) {
-        processBatch(batch, context, progressTracker);
+    var partitions = ReindexPartition.split(Objects.requireNonNullElse(reindexJob.getPartitions(),
+      reindexProperties.getPartitions()));
+    var checkpoint = Objects.requireNonNullElse(reindexJob.getCheckpoint(), Map.<Integer, UUID>of());
+    log.info("reindex::count={}, partitions={}, checkpoint={}", totalRecords, partitions.size(), checkpoint);
+    var progressTracker = new ReindexJobProgressTracker(totalRecords == null ? 0 : totalRecords,
+      Objects.requireNonNullElse(reindexJob.getPublished(), 0));
+    var aborted = new AtomicBoolean(false);
+    var okapiHeaders = folioExecutionContext.getOkapiHeaders();
+
+    var futures = new ArrayList<Future<?>>(partitions.size());
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (var partition : partitions) {
+        var lastId = checkpoint.get(partition.index());
+        futures.add(executor.submit(() -> executionService.execute(context.getTenantId(), okapiHeaders, () -> {
+          streamPartition(partition, lastId, context, progressTracker, aborted);
+          return null;
+        })));
       }
-    } catch (Exception e) {
-      log.warn(e);
+    }
+
+    var failed = false;
+    for (var future : futures) {
+      try {
+        future.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        failed = true;
+      } catch (ExecutionException e) {
+        log.warn("reindex::partition failed", e.getCause());
+        failed = true;
+      }
+    }
+
+    if (failed) {
       reindexService.logJobFailed(context.getJobId());
-      return;
+    } else {
+      reindexService.logJobSuccess(context.getJobId());
+    }
+  }
+
+  private void streamPartition(ReindexPartition partition, UUID checkpointId, ReindexContext context,
+                               ReindexJobProgressTracker progressTracker, AtomicBoolean aborted) {
+    log.info("reindex::partition started [index: {}, from: {}, to: {}, checkpoint: {}]",
+      partition.index(), partition.lowerBound(), partition.upperBound(), checkpointId);
+    var lastId = checkpointId;
+    var attempt = 0;
+    while (!aborted.get()) {
+      try {
+        var authorities = fetchPage(context.getTenantId(), partition, lastId);
+        if (authorities.isEmpty()) {
+          log.info("reindex::partition finished [index: {}]", partition.index());
+          return;
+        }
+        publishBatch(authorities, context);
+        lastId = authorities.getLast().getId();
+        attempt = 0;
+        progressTracker.incrementProcessedCount(authorities.size());
+        reindexService.logJobProgress(context.getJobId(), partition, lastId, authorities.size());
+      } catch (ReindexJobCancelledException e) {
+        aborted.set(true);
+        throw e;
+      } catch (RuntimeException e) {
+        if (++attempt > reindexProperties.getPartitionRetries()) {
+          aborted.set(true);
+          throw e;
+        }
+        log.warn("reindex::resuming partition [index: {}, lastId: {}, attempt: {}]",
+          partition.index(), lastId, attempt, e);
+      }
+    }
+  }
+
+  private List<Authority> fetchPage(String tenantId, ReindexPartition partition, UUID lastId) {
+    var conditions = new ArrayList<String>();
+    var params = new ArrayList<>();
+    conditions.add("deleted = false");
+    if (lastId != null) {
+      conditions.add("id > ?");
+      params.add(lastId);
+    } else if (partition.lowerBound() != null) {
+      conditions.add("id >= ?");
+      params.add(partition.lowerBound());
+    }
+    if (partition.upperBound() != null) {
+      conditions.add("id < ?");
+      params.add(partition.upperBound());
     }
+    params.add(reindexProperties.getBatchSize());
 
-    reindexService.logJobSuccess(context.getJobId());
+    var sql = selectQuery(tenantId) + " WHERE " + String.join(" AND ", conditions) + " ORDER BY id LIMIT ?";
+    return jdbcTemplate.query(sql, (rs, rowNum) -> toAuthorityEntity(rs), params.toArray());
   }
 
-  private void processBatch(List<Authority> authorities, ReindexContext context,
-                            ReindexJobProgressTracker progressTracker) {
-    authorities.forEach(authority -> {
-      eventPublisher.publishReindexEvent(mapper.toDto(authority), context);
-      progressTracker.incrementProcessedCount();
-      reindexService.logJobProgress(progressTracker, context.getJobId());
-    });
+  /**
+   * Sends events of the batch asynchronously and waits for all acknowledgements,
+   * so number of in-flight events per partition is limited by the batch size.
+   * */
+  private void publishBatch(List<Authority> authorities, ReindexContext context) {
+    var futures = authorities.stream()
+      .map(authority -> eventPublisher.publishReindexEvent(mapper.toDto(authority), context))
+      .toArray(CompletableFuture[]::new);
+    CompletableFuture.allOf(futures).join();
   }
 
   private Authority toAuthorityEntity(ResultSet rs) {
@@ -178,6 +259,6 @@ public class AuthorityReindexJobRunner implements ReindexJobRunner {
     return "SELECT id, _version, natural_id, source, source_file_id, heading, heading_type,"
            + " subject_heading_code, sft_headings, saft_headings, identifiers, notes,"
            + " created_date, created_by_user_id, updated_date, updated_by_user_id"
-           + " FROM " + schemaPath(tenant, AUTHORITY_TABLE) + " WHERE deleted = false";
+           + " FROM " + schemaPath(tenant, AUTHORITY_TABLE);
   }
 }
@@ -3,19 +3,26 @@ package org.folio.entlinks.service.reindex;
 import java.util.concurrent.atomic.AtomicInteger;
 import lombok.extern.log4j.Log4j2;
 
+/**
+ * Aggregates progress of all partitions of a reindex job.
+ */
 @Log4j2
 public class ReindexJobProgressTracker {
   private final AtomicInteger totalRecords;
   private final AtomicInteger processedCount;
 
   public ReindexJobProgressTracker(int totalRecords) {
+    this(totalRecords, 0);
+  }
+
+  public ReindexJobProgressTracker(int totalRecords, int processedCount) {
     this.totalRecords = new AtomicInteger(totalRecords);
-    this.processedCount = new AtomicInteger(0);
+    this.processedCount = new AtomicInteger(processedCount);
   }
 
-  public synchronized void incrementProcessedCount() {
-    processedCount.incrementAndGet();
-    log.debug("Progress: {} / {} records processed", processedCount, totalRecords);
+  public void incrementProcessedCount(int count) {
+    var processed = processedCount.addAndGet(count);
+    log.debug("Progress: {} / {} records processed", processed, totalRecords);
   }
 
   public int getTotalRecords() {
@@ -0,0 +1,47 @@
+package org.folio.entlinks.service.reindex;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Range of authority ids processed by a single reindex worker.
+ *
+ * @param index      partition index
+ * @param lowerBound inclusive lower id bound, {@code null} for the first partition
+ * @param upperBound exclusive upper id bound, {@code null} for the last partition
+ */
+public record ReindexPartition(int index, UUID lowerBound, UUID upperBound) {
+
+  private static final BigInteger ID_SPACE_SIZE = BigInteger.ONE.shiftLeft(Long.SIZE);
+
+  /**
+   * Splits the whole UUID space into ranges of equal size.
+   * Bounds are calculated on the most significant bits which matches the way Postgres compares uuid values.
+   *
+   * @param count number of partitions
+   * @return partitions ordered by bounds
+   */
+  public static List<ReindexPartition> split(int count) {
+    if (count < 1) {
+      throw new IllegalArgumentException("Partitions count should be positive: " + count);
+    }
+
+    var partitions = new ArrayList<ReindexPartition>(count);
+    UUID lowerBound = null;
+    for (int i = 0; i < count; i++) {
+      var upperBound = i == count - 1 ? null : boundary(i + 1, count);
+      partitions.add(new ReindexPartition(i, lowerBound, upperBound));
+      lowerBound = upperBound;
+    }
+    return partitions;
+  }
+
+  private static UUID boundary(int index, int count) {
+    var mostSigBits = ID_SPACE_SIZE.multiply(BigInteger.valueOf(index))
+      .divide(BigInteger.valueOf(count))
+      .longValue();
+    return new UUID(mostSigBits, 0L);
+  }
+}
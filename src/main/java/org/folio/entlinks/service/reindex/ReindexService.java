@@ -7,13 +7,19 @@ import static org.folio.entlinks.domain.entity.ReindexJobStatus.IN_PROGRESS;
 import static org.folio.entlinks.domain.entity.ReindexJobStatus.PENDING_CANCEL;
 
 import java.time.OffsetDateTime;
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
+import org.folio.entlinks.config.properties.ReindexProperties;
 import org.folio.entlinks.domain.entity.ReindexJob;
 import org.folio.entlinks.domain.entity.ReindexJobResource;
+import org.folio.entlinks.domain.entity.ReindexJobStatus;
+import org.folio.entlinks.domain.repository.ReindexJobJdbcRepository;
 import org.folio.entlinks.domain.repository.ReindexJobRepository;
+import org.folio.entlinks.exception.ReindexJobCancelledException;
 import org.folio.entlinks.exception.ReindexJobNotFoundException;
 import org.folio.spring.data.OffsetRequest;
 import org.springframework.data.domain.Page;
@@ -25,7 +31,13 @@ import org.springframework.transaction.annotation.Transactional;
 @Log4j2
 public class ReindexService {
 
+  private static final Set<ReindexJobStatus> RESUMABLE_STATUSES =
+    EnumSet.of(ID_PUBLISHING_FAILED, ID_PUBLISHING_CANCELLED);
+  private static final Set<ReindexJobStatus> NOT_FINISHED_STATUSES = EnumSet.of(IN_PROGRESS, PENDING_CANCEL);
+
   private final ReindexJobRepository repository;
+  private final ReindexJobJdbcRepository jdbcRepository;
+  private final ReindexProperties reindexProperties;
 
   @Transactional
   public ReindexJob submitReindex(ReindexJobResource reindexResourceName) {
@@ -47,62 +59,69 @@ public class ReindexService {
     return repository.findById(id).orElseThrow(() -> new ReindexJobNotFoundException(id));
   }
 
+  /**
+   * Requests cancellation of the job that is not finished yet.
+   * Only the status is updated, so progress concurrently saved by the job runners is kept.
+   * Failed and cancelled jobs are returned as they are.
+   * */
   @Transactional
   public ReindexJob cancelReindex(UUID jobId) {
-    var jobOptional = repository.findById(jobId);
-    if (jobOptional.isPresent()) {
-      var reindexJob = jobOptional.get();
-      if (reindexJob.getJobStatus() == IDS_PUBLISHED) {
-        throw new IllegalStateException("The job has been finished");
-      }
-      reindexJob.setJobStatus(PENDING_CANCEL);
-      return repository.save(reindexJob);
-    } else {
-      throw new ReindexJobNotFoundException(jobId);
+    jdbcRepository.updateStatus(jobId, PENDING_CANCEL, NOT_FINISHED_STATUSES);
+    var reindexJob = getById(jobId);
+    if (reindexJob.getJobStatus() == IDS_PUBLISHED) {
+      throw new IllegalStateException("The job has been finished");
     }
+    return reindexJob;
   }
 
+  /**
+   * Resumes the job that was stopped by a failure or cancellation, or interrupted with no progress
+   * for the configured stale job timeout, for example by a restart of the module instance.
+   * Status is switched in a single conditional statement, so a job that is still in progress
+   * can't be resumed and concurrent resume requests start only one runner.
+   * */
   @Transactional
-  public void logJobProgress(ReindexJobProgressTracker progressTracker, UUID jobId) {
-    if (!shouldLogJobProgress(progressTracker)) {
-      return;
+  public ReindexJob resumeReindex(UUID jobId) {
+    if (!jdbcRepository.updateStatus(jobId, IN_PROGRESS, RESUMABLE_STATUSES, NOT_FINISHED_STATUSES,
+      reindexProperties.getStaleJobTimeout())) {
+      var reindexJob = getById(jobId);
+      throw new IllegalStateException(switch (reindexJob.getJobStatus()) {
+        case IDS_PUBLISHED -> "The job has been finished";
+        case PENDING_CANCEL -> "The job is being cancelled";
+        case IN_PROGRESS -> "The job is in progress";
+        default -> "The job can't be resumed in status " + reindexJob.getJobStatus();
+      });
     }
-    var jobOptional = repository.findById(jobId);
-    if (jobOptional.isPresent()) {
-      var reindexJob = jobOptional.get();
-      if (reindexJob.getJobStatus() == PENDING_CANCEL) {
-        throw new IllegalStateException("The job has been cancelled");
-      }
-      reindexJob.setPublished(progressTracker.getProcessedCount());
-      repository.saveAndFlush(reindexJob);
+    var reindexJob = getById(jobId);
+    log.info("resumeReindex:: resuming job [id: {}, published: {}]", jobId, reindexJob.getPublished());
+    return reindexJob;
+  }
+
+  /**
+   * Persists progress of the partition batch and checks for job cancellation in a single statement.
+   *
+   * @throws ReindexJobCancelledException if the job is pending cancel
+   * */
+  public void logJobProgress(UUID jobId, ReindexPartition partition, UUID lastId, int publishedCount) {
+    if (!jdbcRepository.updateProgress(jobId, partition.index(), lastId, publishedCount)) {
+      throw new ReindexJobCancelledException();
     }
   }
 
-  @Transactional
   public void logJobFailed(UUID jobId) {
-    var failedJob = repository.findById(jobId)
-      .map(reindexJob -> {
-        var finalStatus = reindexJob.getJobStatus() == PENDING_CANCEL
-                          ? ID_PUBLISHING_CANCELLED
-                          : ID_PUBLISHING_FAILED;
-        return reindexJob.withJobStatus(finalStatus);
-      })
-        .map(repository::save)
-        .orElseThrow(() -> new ReindexJobNotFoundException(jobId));
-
-    log.debug("Job: {} has been failed", failedJob);
+    if (!jdbcRepository.updateStatusToFailed(jobId)) {
+      var reindexJob = getById(jobId);
+      log.warn("logJobFailed:: job is already finished [id: {}, status: {}]", jobId, reindexJob.getJobStatus());
+      return;
+    }
+    log.debug("Job: {} has been failed", jobId);
   }
 
-  @Transactional
   public void logJobSuccess(UUID jobId) {
-    var existingJob = repository.findById(jobId).orElseThrow(() -> new ReindexJobNotFoundException(jobId));
-    existingJob.setJobStatus(IDS_PUBLISHED);
-
-    repository.save(existingJob);
-  }
-
-  private boolean shouldLogJobProgress(ReindexJobProgressTracker progressTracker) {
-    return progressTracker.getProcessedCount() % 1000 == 0;
+    if (!jdbcRepository.updateStatus(jobId, IDS_PUBLISHED, NOT_FINISHED_STATUSES)) {
+      var reindexJob = getById(jobId);
+      log.warn("logJobSuccess:: job is already finished [id: {}, status: {}]", jobId, reindexJob.getJobStatus());
+    }
   }
 
   private ReindexJob buildInitialJob(ReindexJobResource reindexResourceName) {
@@ -110,6 +129,7 @@ public class ReindexService {
         .withJobStatus(IN_PROGRESS)
         .withResourceName(reindexResourceName)
         .withPublished(0)
+        .withPartitions(reindexProperties.getPartitions())
         .withSubmittedDate(OffsetDateTime.now());
   }
 }
@@ -1,34 +1,80 @@
 package org.folio.entlinks.utils;
 
-import static org.folio.entlinks.utils.ObjectUtils.getDifference;
-
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
-import lombok.SneakyThrows;
+import java.util.function.Function;
 import lombok.experimental.UtilityClass;
-import lombok.extern.log4j.Log4j2;
 import org.folio.entlinks.domain.dto.AuthorityDto;
 import org.folio.entlinks.service.messaging.authority.model.AuthorityChange;
 import org.folio.entlinks.service.messaging.authority.model.AuthorityChangeField;
 
-@Log4j2
 @UtilityClass
 public class AuthorityChangeUtils {
 
-  @SneakyThrows
+  /**
+   * Getters of the authority fields that are tracked as {@link AuthorityChangeField}s.
+   * Resolved at compile time, so comparing authorities requires neither reflection nor the rest of the getters.
+   * */
+  private static final Map<AuthorityChangeField, Function<AuthorityDto, Object>> FIELD_GETTERS = fieldGetters();
+
+  /**
+   * Compares authority fields that are tracked as {@link AuthorityChangeField}s.
+   *
+   * @param s1 first authority, may be null
+   * @param s2 second authority, may be null
+   * @return changes of the tracked fields, values are in s1, s2 order
+   */
   public static Map<AuthorityChangeField, AuthorityChange> getAuthorityChanges(AuthorityDto s1, AuthorityDto s2) {
-    return getDifference(s1, s2).stream()
-      .map(difference -> {
-        try {
-          var authorityChangeField = AuthorityChangeField.fromValue(difference.fieldName());
-          return new AuthorityChange(authorityChangeField, difference.val1(), difference.val2());
-        } catch (IllegalArgumentException e) {
-          log.debug("Not supported authority change [fieldName: {}]", difference);
-          return null;
-        }
-      })
-      .filter(Objects::nonNull)
-      .collect(Collectors.toMap(AuthorityChange::changeField, ac -> ac));
+    var changes = new EnumMap<AuthorityChangeField, AuthorityChange>(AuthorityChangeField.class);
+    for (var fieldGetter : FIELD_GETTERS.entrySet()) {
+      var value1 = getValue(s1, fieldGetter.getValue());
+      var value2 = getValue(s2, fieldGetter.getValue());
+      if (!Objects.equals(value1, value2)) {
+        changes.put(fieldGetter.getKey(), new AuthorityChange(fieldGetter.getKey(), value1, value2));
+      }
+    }
+    return changes;
+  }
+
+  /**
+   * Checks if any of the authority fields that are tracked as {@link AuthorityChangeField}s is changed.
+   * Stops on the first changed field.
+   */
+  public static boolean hasAuthorityChanges(AuthorityDto s1, AuthorityDto s2) {
+    for (var getter : FIELD_GETTERS.values()) {
+      if (!Objects.equals(getValue(s1, getter), getValue(s2, getter))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static Object getValue(AuthorityDto authority, Function<AuthorityDto, Object> getter) {
+    return authority != null ? getter.apply(authority) : null;
+  }
+
+  private static Map<AuthorityChangeField, Function<AuthorityDto, Object>> fieldGetters() {
+    var getters = new EnumMap<AuthorityChangeField, Function<AuthorityDto, Object>>(AuthorityChangeField.class);
+    getters.put(AuthorityChangeField.PERSONAL_NAME, AuthorityDto::getPersonalName);
+    getters.put(AuthorityChangeField.PERSONAL_NAME_TITLE, AuthorityDto::getPersonalNameTitle);
+    getters.put(AuthorityChangeField.CORPORATE_NAME, AuthorityDto::getCorporateName);
+    getters.put(AuthorityChangeField.CORPORATE_NAME_TITLE, AuthorityDto::getCorporateNameTitle);
+    getters.put(AuthorityChangeField.MEETING_NAME, AuthorityDto::getMeetingName);
+    getters.put(AuthorityChangeField.MEETING_NAME_TITLE, AuthorityDto::getMeetingNameTitle);
+    getters.put(AuthorityChangeField.UNIFORM_TITLE, AuthorityDto::getUniformTitle);
+    getters.put(AuthorityChangeField.NAMED_EVENT, AuthorityDto::getNamedEvent);
+    getters.put(AuthorityChangeField.TOPICAL_TERM, AuthorityDto::getTopicalTerm);
+    getters.put(AuthorityChangeField.GEOGRAPHIC_NAME, AuthorityDto::getGeographicName);
+    getters.put(AuthorityChangeField.GENRE_TERM, AuthorityDto::getGenreTerm);
+    getters.put(AuthorityChangeField.CHRON_TERM, AuthorityDto::getChronTerm);
+    getters.put(AuthorityChangeField.MEDIUM_PERF_TERM, AuthorityDto::getMediumPerfTerm);
+    getters.put(AuthorityChangeField.GENERAL_SUBDIVISION, AuthorityDto::getGeneralSubdivision);
+    getters.put(AuthorityChangeField.GEOGRAPHIC_SUBDIVISION, AuthorityDto::getGeographicSubdivision);
+    getters.put(AuthorityChangeField.CHRON_SUBDIVISION, AuthorityDto::getChronSubdivision);
+    getters.put(AuthorityChangeField.FORM_SUBDIVISION, AuthorityDto::getFormSubdivision);
+    getters.put(AuthorityChangeField.NATURAL_ID, AuthorityDto::getNaturalId);
+    return Collections.unmodifiableMap(getters);
   }
 }
@@ -3,7 +3,11 @@ package org.folio.entlinks.config;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.folio.entlinks.config.constants.CacheNames.AUTHORITY_EXTENDED_MAPPING_CACHE;
+import static org.folio.entlinks.config.constants.CacheNames.AUTHORITY_SOURCE_FILES_CACHE;
 import static org.folio.entlinks.config.constants.CacheNames.DATA_IMPORT_CANCELED_JOB_CACHE;
+import static org.folio.entlinks.config.constants.CacheNames.INSTANCE_DATA_CACHE;
+import static org.folio.entlinks.config.constants.CacheNames.LINKING_RULES_CACHE;
+import static org.folio.entlinks.config.constants.CacheNames.USERS_CACHE;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
@@ -20,6 +24,7 @@ import org.springframework.beans.factory.InitializingBean;
 import org.springframework.boot.cache.autoconfigure.CacheProperties;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
@@ -166,4 +171,98 @@ class CacheConfigurationTest {
       .isInstanceOf(IllegalStateException.class)
       .hasMessageContaining("Required cache '" + DATA_IMPORT_CANCELED_JOB_CACHE + "'");
   }
+
+  @Test
+  void linkingRulesCache_positive_returnsTransactionAwareCacheFromManager() {
+    // Arrange
+    when(cacheManager.getCache(LINKING_RULES_CACHE)).thenReturn(mockCache);
+
+    // Act
+    var result = configuration.linkingRulesCache(cacheManager);
+
+    // Assert
+    assertThat(result).isInstanceOf(TransactionAwareCacheDecorator.class);
+    assertThat(((TransactionAwareCacheDecorator) result).getTargetCache()).isEqualTo(mockCache);
+  }
+
+  @Test
+  void linkingRulesCache_negative_throwsWhenCacheNotConfigured() {
+    // Arrange
+    when(cacheManager.getCache(LINKING_RULES_CACHE)).thenReturn(null);
+
+    // Act & Assert
+    assertThatThrownBy(() -> configuration.linkingRulesCache(cacheManager))
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessageContaining("Required cache '" + LINKING_RULES_CACHE + "'");
+  }
+
+  @Test
+  void authoritySourceFilesCache_positive_returnsTransactionAwareCacheFromManager() {
+    // Arrange
+    when(cacheManager.getCache(AUTHORITY_SOURCE_FILES_CACHE)).thenReturn(mockCache);
+
+    // Act
+    var result = configuration.authoritySourceFilesCache(cacheManager);
+
+    // Assert
+    assertThat(result).isInstanceOf(TransactionAwareCacheDecorator.class);
+    assertThat(((TransactionAwareCacheDecorator) result).getTargetCache()).isEqualTo(mockCache);
+  }
+
+  @Test
+  void authoritySourceFilesCache_negative_throwsWhenCacheNotConfigured() {
+    // Arrange
+    when(cacheManager.getCache(AUTHORITY_SOURCE_FILES_CACHE)).thenReturn(null);
+
+    // Act & Assert
+    assertThatThrownBy(() -> configuration.authoritySourceFilesCache(cacheManager))
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessageContaining("Required cache '" + AUTHORITY_SOURCE_FILES_CACHE + "'");
+  }
+
+  @Test
+  void usersCache_positive_returnsCacheFromManager() {
+    // Arrange
+    when(cacheManager.getCache(USERS_CACHE)).thenReturn(mockCache);
+
+    // Act
+    var result = configuration.usersCache(cacheManager);
+
+    // Assert
+    assertThat(result).isEqualTo(mockCache);
+  }
+
+  @Test
+  void usersCache_negative_throwsWhenCacheNotConfigured() {
+    // Arrange
+    when(cacheManager.getCache(USERS_CACHE)).thenReturn(null);
+
+    // Act & Assert
+    assertThatThrownBy(() -> configuration.usersCache(cacheManager))
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessageContaining("Required cache '" + USERS_CACHE + "'");
+  }
+
+  @Test
+  void instanceDataCache_positive_returnsCacheFromManager() {
+    // Arrange
+    when(cacheManager.getCache(INSTANCE_DATA_CACHE)).thenReturn(mockCache);
+
+    // Act
+    var result = configuration.instanceDataCache(cacheManager);
+
+    // Assert
+    assertThat(result).isEqualTo(mockCache);
+  }
+
+  @Test
+  void instanceDataCache_negative_throwsWhenCacheNotConfigured() {
+    // Arrange
+    when(cacheManager.getCache(INSTANCE_DATA_CACHE)).thenReturn(null);
+
+    // Act & Assert
+    assertThatThrownBy(() -> configuration.instanceDataCache(cacheManager))
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessageContaining("Required cache '" + INSTANCE_DATA_CACHE + "'");
+  }
 }
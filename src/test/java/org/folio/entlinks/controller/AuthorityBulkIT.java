@@ -58,7 +58,9 @@ class AuthorityBulkIT extends IntegrationTestBase {
 
     tryPost(authorityEndpoint() + "/bulk", dto)
       .andExpect(status().isOk())
-      .andExpect(jsonPath("$.errorsNumber", is(2)));
+      .andExpect(jsonPath("$.errorsNumber", is(2)))
+      .andExpect(jsonPath("$.batchSplitsNumber", is(1)))
+      .andExpect(jsonPath("$.isolatedFailuresNumber", is(1)));
 
     assumeTrue(databaseHelper.countRows(AUTHORITY_TABLE, TENANT_ID) == 1);
     var list = s3Client.list("parentLocation/filePath/");
@@ -22,6 +22,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.io.UnsupportedEncodingException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.BlockingQueue;
@@ -36,6 +39,7 @@ import org.folio.entlinks.domain.dto.AuthorityDtoCollection;
 import org.folio.entlinks.domain.dto.ReindexJobDto;
 import org.folio.entlinks.domain.dto.ReindexJobDtoCollection;
 import org.folio.entlinks.domain.entity.ReindexJob;
+import org.folio.entlinks.domain.entity.ReindexJobStatus;
 import org.folio.entlinks.integration.dto.event.AuthorityDomainEvent;
 import org.folio.entlinks.integration.dto.event.DomainEventType;
 import org.folio.spring.testing.extension.DatabaseCleanup;
@@ -163,9 +167,8 @@ class AuthorityReindexControllerIT extends IntegrationTestBase {
     doDelete(authorityReindexEndpoint(id));
 
     // wait for processing the authorities to finish - we expect that cancelled job would not change it's status as
-    // reindex event publishing thread eventually detect that job is cancelled (when logging the progress) and stop
-    // the event publishing. This can only be simulated when we have at least 1000 authorities as we log progress at
-    // every 1000 authorities processing
+    // reindex event publishing threads eventually detect that job is cancelled (when logging the progress) and stop
+    // the event publishing. Progress is logged per batch, so there should be more authorities than fit in one batch
     await().timeout(TEN_SECONDS);
 
     var cancelledContent = doGet(authorityReindexEndpoint(id))
@@ -174,6 +177,58 @@ class AuthorityReindexControllerIT extends IntegrationTestBase {
     assertThat(cancelled.getJobStatus().getValue()).isEqualTo(ReindexJobDto.JobStatusEnum.PENDING_CANCEL.getValue());
   }
 
+  @Test
+  @DisplayName("Resume failed reindex job and publish events")
+  void resumeReindexJob_positive_shouldPublishReindexEventsAndFinishJob() throws Exception {
+    var dtos = createAuthorityData(false);
+    var reindexJob = authorityReindexJob();
+    reindexJob.setJobStatus(ReindexJobStatus.ID_PUBLISHING_FAILED);
+    databaseHelper.saveAuthorityReindexJob(TENANT_ID, reindexJob);
+
+    tryPost(authorityReindexEndpoint(reindexJob.getId()), null)
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("jobStatus", is(ReindexJobDto.JobStatusEnum.IN_PROGRESS.getValue())));
+
+    var receivedEvents = List.of(getReceivedEvent(), getReceivedEvent(), getReceivedEvent());
+    verifyReceivedEvents(receivedEvents, dtos);
+    awaitUntilAsserted(() ->
+      doGet(authorityReindexEndpoint(reindexJob.getId()))
+        .andExpect(jsonPath("jobStatus", is(IDS_PUBLISHED.getValue())))
+        .andExpect(jsonPath("published", is(reindexJob.getPublished() + dtos.size())))
+    );
+  }
+
+  @Test
+  @DisplayName("Resume interrupted in-progress reindex job and publish events")
+  void resumeReindexJob_positive_shouldResumeStaleInProgressJob() throws Exception {
+    var dtos = createAuthorityData(false);
+    var reindexJob = createReindexJob();
+    databaseHelper.updateAuthorityReindexJobUpdatedAt(TENANT_ID, reindexJob.getId(),
+      Timestamp.from(Instant.now().minus(Duration.ofHours(1))));
+
+    tryPost(authorityReindexEndpoint(reindexJob.getId()), null)
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("jobStatus", is(ReindexJobDto.JobStatusEnum.IN_PROGRESS.getValue())));
+
+    var receivedEvents = List.of(getReceivedEvent(), getReceivedEvent(), getReceivedEvent());
+    verifyReceivedEvents(receivedEvents, dtos);
+    awaitUntilAsserted(() ->
+      doGet(authorityReindexEndpoint(reindexJob.getId()))
+        .andExpect(jsonPath("jobStatus", is(IDS_PUBLISHED.getValue())))
+    );
+  }
+
+  @Test
+  @DisplayName("Resuming job that is in progress should result with error")
+  void resumeReindexJob_negative_notPossibleToResumeJobInProgress() throws Exception {
+    var reindexJob = createReindexJob();
+
+    tryPost(authorityReindexEndpoint(reindexJob.getId()), null)
+      .andExpect(status().isInternalServerError())
+      .andExpect(exceptionMatch(IllegalStateException.class))
+      .andExpect(errorMessageMatch(containsString("The job is in progress")));
+  }
+
   @Test
   @DisplayName("Cancelling published job should result with error")
   void cancelReindexJob_negative_notPossibleToCancelJobWithIdsPublishedStatus() throws Exception {
@@ -1,6 +1,7 @@
 package org.folio.entlinks.controller;
 
 import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
 import static org.awaitility.Durations.ONE_SECOND;
 import static org.folio.entlinks.domain.dto.LinkAction.UPDATE_HEADING;
@@ -293,6 +294,40 @@ class InstanceAuthorityLinkStatisticsIT extends IntegrationTestBase {
       .andExpect(jsonPath("$.next", startsWith(nextStartsWith)));
   }
 
+  @Test
+  void getLinkedBibUpdateStats_positive_seekByNextIdWithinSameUpdateDate() throws Exception {
+    var instanceId = INSTANCE_IDS.getFirst();
+    var links = linksDtoCollection(linksDto(instanceId, LINKS));
+    doPut(linksInstanceEndpoint(), links, instanceId);
+
+    var firstPage = getStats(get(linksStatsInstanceEndpoint())
+      .param("toDate", OffsetDateTime.now().toString())
+      .param("limit", "1"));
+    assertThat(firstPage.getStats()).hasSize(1);
+    assertThat(firstPage.getNextId()).isNotNull();
+    assertThat(firstPage.getNext()).isEqualTo(firstPage.getStats().getFirst().getUpdatedAt());
+
+    var secondPage = getStats(get(linksStatsInstanceEndpoint())
+      .param("toDate", firstPage.getNext().toString())
+      .param("nextId", firstPage.getNextId().toString())
+      .param("limit", "1"));
+    assertThat(secondPage.getStats()).hasSize(1);
+    assertThat(secondPage.getNext()).isNull();
+    assertThat(secondPage.getNextId()).isNull();
+    assertThat(List.of(firstPage.getStats().getFirst().getBibRecordTag(),
+      secondPage.getStats().getFirst().getBibRecordTag()))
+      .containsExactlyInAnyOrder(TAGS[0], TAGS[1]);
+  }
+
+  @Test
+  void getLinkedBibUpdateStats_negative_nextIdWithoutToDate() throws Exception {
+    perform(get(linksStatsInstanceEndpoint()).param("nextId", "1"))
+      .andExpect(status().isUnprocessableContent())
+      .andExpect(errorTotalMatch(1))
+      .andExpect(errorTypeMatch(is("RequestBodyValidationException")))
+      .andExpect(errorMessageMatch(containsString("'to' date is required when 'nextId' is provided.")));
+  }
+
   @Test
   void getLinkedBibUpdateStats_positive_onlyOneDateAndLinksSkipped() throws Exception {
     var instanceId1 = INSTANCE_IDS.getFirst();
@@ -337,6 +372,11 @@ class InstanceAuthorityLinkStatisticsIT extends IntegrationTestBase {
     return get(linksStatsInstanceEndpoint(status, fromDate, toDate));
   }
 
+  private BibStatsDtoCollection getStats(MockHttpServletRequestBuilder request) throws Exception {
+    var content = perform(request).andReturn().getResponse().getContentAsString();
+    return objectMapper.readValue(content, BibStatsDtoCollection.class);
+  }
+
   private ResultMatcher nextMatch(OffsetDateTime next) {
     if (next == null) {
       return jsonPath("$.next").doesNotExist();
@@ -14,6 +14,9 @@ import static org.folio.support.TestDataUtils.linksDto;
 import static org.folio.support.TestDataUtils.linksDtoCollection;
 import static org.folio.support.base.TestConstants.TENANT_ID;
 import static org.folio.support.base.TestConstants.linksInstanceEndpoint;
+import static org.folio.support.base.TestConstants.linksInstancesEndpoint;
+import static org.folio.support.base.TestConstants.linksInstancesFetchEndpoint;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasSize;
@@ -30,6 +33,9 @@ import java.util.stream.Stream;
 import lombok.SneakyThrows;
 import org.folio.entlinks.domain.dto.InstanceLinkDto;
 import org.folio.entlinks.domain.dto.InstanceLinkDtoCollection;
+import org.folio.entlinks.domain.dto.InstanceLinksBulkRequest;
+import org.folio.entlinks.domain.dto.InstanceLinksDto;
+import org.folio.entlinks.domain.dto.InstanceLinksFetchRequest;
 import org.folio.entlinks.domain.entity.InstanceAuthorityLinkStatus;
 import org.folio.entlinks.exception.type.ErrorType;
 import org.folio.spring.testing.extension.DatabaseCleanup;
@@ -55,6 +61,8 @@ import org.springframework.test.web.servlet.ResultMatcher;
   DatabaseHelper.AUTHORITY_SOURCE_FILE_TABLE})
 class InstanceAuthorityLinksIT extends IntegrationTestBase {
 
+  private static final int MAX_BULK_INSTANCES = 500;
+
   @BeforeAll
   static void prepare() {
     setUpTenant();
@@ -280,6 +288,81 @@ class InstanceAuthorityLinksIT extends IntegrationTestBase {
       .andExpect(errorParameterMatch(is("links[0]." + missingField)));
   }
 
+  @Test
+  @SneakyThrows
+  void fetchInstancesLinks_positive_returnLinksOfAllRequestedInstances() {
+    var instanceId1 = randomUUID();
+    var instanceId2 = randomUUID();
+    var links1 = createLinkDtoCollection(2, instanceId1);
+    var links2 = linksDtoCollection(linksDto(instanceId2, Link.of(2, 2, NATURAL_IDS[2])));
+    createAuthoritiesForLinks(links1.getLinks());
+    createAuthoritiesForLinks(links2.getLinks());
+    doPut(linksInstanceEndpoint(), links1, instanceId1);
+    doPut(linksInstanceEndpoint(), links2, instanceId2);
+
+    var fetchRequest = new InstanceLinksFetchRequest().ids(List.of(instanceId1, instanceId2, randomUUID()));
+    doPost(linksInstancesFetchEndpoint(), fetchRequest)
+      .andExpect(linksMatch(hasSize(3)))
+      .andExpect(jsonPath("$.links[*].instanceId",
+        containsInAnyOrder(instanceId1.toString(), instanceId1.toString(), instanceId2.toString())))
+      .andExpect(totalRecordsMatch(3));
+  }
+
+  @Test
+  @SneakyThrows
+  void fetchInstancesLinks_negative_whenTooManyIds() {
+    var ids = IntStream.range(0, MAX_BULK_INSTANCES + 1).mapToObj(i -> randomUUID()).toList();
+
+    tryPost(linksInstancesFetchEndpoint(), new InstanceLinksFetchRequest().ids(ids))
+      .andExpect(status().isUnprocessableContent())
+      .andExpect(errorTotalMatch(1))
+      .andExpect(errorTypeMatch(is("MethodArgumentNotValidException")))
+      .andExpect(errorCodeMatch(is(ErrorType.VALIDATION_ERROR.getValue())))
+      .andExpect(errorParameterMatch(is("ids")));
+  }
+
+  @Test
+  @SneakyThrows
+  void updateInstancesLinks_positive_updateValidInstancesAndReportFailedOnes() {
+    var instanceId1 = randomUUID();
+    var instanceId2 = randomUUID();
+    var existedLinks = createLinkDtoCollection(2, instanceId1);
+    createAuthoritiesForLinks(existedLinks.getLinks());
+    doPut(linksInstanceEndpoint(), existedLinks, instanceId1);
+
+    var incomingLinks1 = linksDto(instanceId1, Link.of(0, 0, NATURAL_IDS[0]));
+    var incomingLinks2 = linksDto(instanceId2, Link.of(2, 2, NATURAL_IDS[2]));
+    var bulkRequest = new InstanceLinksBulkRequest().instances(List.of(
+      new InstanceLinksDto().instanceId(instanceId1).links(incomingLinks1),
+      new InstanceLinksDto().instanceId(instanceId2).links(incomingLinks2)));
+
+    doPut(linksInstancesEndpoint(), bulkRequest)
+      .andExpect(jsonPath("$.errorsNumber", is(1)))
+      .andExpect(jsonPath("$.errors[0].instanceId", is(instanceId2.toString())))
+      .andExpect(jsonPath("$.errors[0].message", containsString(TestDataUtils.AUTHORITY_IDS[2].toString())));
+
+    doGet(linksInstanceEndpoint(), instanceId1)
+      .andExpect(linksMatch(linksDtoCollection(incomingLinks1)))
+      .andExpect(totalRecordsMatch(1));
+    doGet(linksInstanceEndpoint(), instanceId2)
+      .andExpect(totalRecordsMatch(0));
+  }
+
+  @Test
+  @SneakyThrows
+  void updateInstancesLinks_negative_whenTooManyInstances() {
+    var instances = IntStream.range(0, MAX_BULK_INSTANCES + 1)
+      .mapToObj(i -> new InstanceLinksDto().instanceId(randomUUID()).links(emptyList()))
+      .toList();
+
+    tryPut(linksInstancesEndpoint(), new InstanceLinksBulkRequest().instances(instances))
+      .andExpect(status().isUnprocessableContent())
+      .andExpect(errorTotalMatch(1))
+      .andExpect(errorTypeMatch(is("MethodArgumentNotValidException")))
+      .andExpect(errorCodeMatch(is(ErrorType.VALIDATION_ERROR.getValue())))
+      .andExpect(errorParameterMatch(is("instances")));
+  }
+
   static Stream<Arguments> requiredFieldMissingProvider() {
     return Stream.of(
       arguments("instanceId",
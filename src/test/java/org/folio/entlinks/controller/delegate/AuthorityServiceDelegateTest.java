@@ -29,6 +29,7 @@ import org.folio.entlinks.domain.entity.Authority;
 import org.folio.entlinks.domain.repository.AuthorityRepository;
 import org.folio.entlinks.exception.RequestBodyValidationException;
 import org.folio.entlinks.service.authority.AuthoritiesBulkContext;
+import org.folio.entlinks.service.authority.AuthoritiesBulkResult;
 import org.folio.entlinks.service.authority.AuthorityDomainEventPublisher;
 import org.folio.entlinks.service.authority.AuthorityS3Service;
 import org.folio.entlinks.service.authority.AuthorityService;
@@ -245,7 +246,7 @@ class AuthorityServiceDelegateTest {
 
     when(localStorageProperties.getS3LocalSubPath()).thenReturn(subPath);
     when(authorityS3Service.processAuthorities(any(AuthoritiesBulkContext.class), any(Consumer.class)))
-      .thenReturn(errorsCount);
+      .thenReturn(new AuthoritiesBulkResult(errorsCount, 0, 0));
 
     // when
     var result = delegate.createAuthorities(request);
@@ -269,7 +270,7 @@ class AuthorityServiceDelegateTest {
 
     when(localStorageProperties.getS3LocalSubPath()).thenReturn(subPath);
     when(authorityS3Service.processAuthorities(any(AuthoritiesBulkContext.class), any(Consumer.class)))
-      .thenReturn(errorsCount);
+      .thenReturn(new AuthoritiesBulkResult(errorsCount, 0, 0));
 
     // when
     var result = delegate.createAuthorities(request);
@@ -6,19 +6,22 @@ import static org.folio.support.base.TestConstants.TEST_ID;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import org.folio.entlinks.client.UsersClient;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.folio.entlinks.controller.converter.DataStatsMapper;
 import org.folio.entlinks.domain.dto.AuthorityControlMetadata;
 import org.folio.entlinks.domain.dto.AuthorityStatsDto;
@@ -26,7 +29,8 @@ import org.folio.entlinks.domain.dto.LinkAction;
 import org.folio.entlinks.domain.entity.AuthorityDataStatAction;
 import org.folio.entlinks.domain.entity.AuthoritySourceFile;
 import org.folio.entlinks.domain.entity.AuthoritySourceFileCode;
-import org.folio.entlinks.domain.repository.AuthoritySourceFileRepository;
+import org.folio.entlinks.integration.internal.UsersService;
+import org.folio.entlinks.service.authority.AuthoritySourceFileCacheService;
 import org.folio.entlinks.service.links.AuthorityDataStatService;
 import org.folio.spring.testing.type.UnitTest;
 import org.folio.support.TestDataUtils;
@@ -53,9 +57,9 @@ class InstanceAuthorityStatServiceDelegateTest {
   private static final int LIMIT_SIZE = 2;
 
   private @Mock AuthorityDataStatService statService;
-  private @Mock AuthoritySourceFileRepository sourceFileRepository;
+  private @Mock AuthoritySourceFileCacheService sourceFileCacheService;
   private @Mock DataStatsMapper mapper;
-  private @Mock UsersClient usersClient;
+  private @Mock UsersService usersService;
   private @InjectMocks InstanceAuthorityStatServiceDelegate delegate;
 
   private AuthoritySourceFile sourceFile;
@@ -63,7 +67,7 @@ class InstanceAuthorityStatServiceDelegateTest {
   @BeforeEach
   void setUp() {
     delegate = new InstanceAuthorityStatServiceDelegate(
-        statService, mapper, usersClient, sourceFileRepository);
+        statService, mapper, usersService, sourceFileCacheService);
     sourceFile = new AuthoritySourceFile();
     sourceFile.setId(TEST_ID);
     sourceFile.setBaseUrl(INPUT_BASE_URL);
@@ -79,7 +83,9 @@ class InstanceAuthorityStatServiceDelegateTest {
     var users = TestDataUtils.usersList(List.of(USER_ID_1, USER_ID_2));
 
     when(statService.fetchDataStats(FROM_DATE, TO_DATE, DATA_STAT_ACTION, 3)).thenReturn(statData);
-    when(usersClient.query(anyString())).thenReturn(users);
+    when(usersService.getUsersPersonal(anyCollection())).thenReturn(Map.of(
+      USER_ID_1, users.users().get(0).personal(),
+      USER_ID_2, users.users().get(1).personal()));
 
     var authorityDataStat1 = statData.get(0);
     var authorityDataStat2 = statData.get(1);
@@ -93,7 +99,7 @@ class InstanceAuthorityStatServiceDelegateTest {
   @Test
   void fetchStats_positive() {
     //  WHEN
-    when(sourceFileRepository.findById(any(UUID.class))).thenReturn(Optional.of(sourceFile));
+    when(sourceFileCacheService.findByIds(anyCollection())).thenAnswer(inv -> sourceFilesByIds(inv.getArgument(0)));
     var authorityChangeStatDtoCollection = delegate
       .fetchAuthorityDataStats(FROM_DATE, TO_DATE, DATA_STAT_ACTION, LIMIT_SIZE);
 
@@ -127,13 +133,15 @@ class InstanceAuthorityStatServiceDelegateTest {
       .toList();
     assertNull(authorityChangeStatDtoCollection.getNext());
     assertThat(List.of(USER_ID_1, USER_ID_2)).containsAll(resultUserIds);
+    verify(usersService).getUsersPersonal(Set.of(USER_ID_1, USER_ID_2));
+    verify(sourceFileCacheService).findByIds(anyCollection());
   }
 
   @Test
   void fetchStats_whenUpdatedUserIsNull() {
     //  WHEN
-    when(sourceFileRepository.findById(any(UUID.class))).thenReturn(Optional.of(sourceFile));
-    when(usersClient.query(anyString())).thenReturn(new UsersClient.UserCollection(null));
+    when(sourceFileCacheService.findByIds(anyCollection())).thenAnswer(inv -> sourceFilesByIds(inv.getArgument(0)));
+    when(usersService.getUsersPersonal(anyCollection())).thenReturn(Map.of());
 
     var authorityChangeStatDtoCollection = delegate
       .fetchAuthorityDataStats(FROM_DATE, TO_DATE, DATA_STAT_ACTION, LIMIT_SIZE);
@@ -165,7 +173,7 @@ class InstanceAuthorityStatServiceDelegateTest {
   @Test
   void fetchStats_withoutSourceFile() {
     //  WHEN
-    when(sourceFileRepository.findById(any(UUID.class))).thenReturn(Optional.empty());
+    when(sourceFileCacheService.findByIds(anyCollection())).thenReturn(Map.of());
 
     var authorityChangeStatDtoCollection = delegate
       .fetchAuthorityDataStats(FROM_DATE, TO_DATE, DATA_STAT_ACTION, LIMIT_SIZE);
@@ -187,7 +195,7 @@ class InstanceAuthorityStatServiceDelegateTest {
   @Test
   void fetchStats_withoutMetadata() {
     //  WHEN
-    when(usersClient.query(anyString())).thenReturn(null);
+    when(usersService.getUsersPersonal(anyCollection())).thenReturn(Map.of());
 
     var authorityChangeStatDtoCollection = delegate
       .fetchAuthorityDataStats(FROM_DATE, TO_DATE, DATA_STAT_ACTION, LIMIT_SIZE);
@@ -207,4 +215,8 @@ class InstanceAuthorityStatServiceDelegateTest {
     assertNull(authorityChangeStatDtoCollection.getNext());
     assertThat(List.of(USER_ID_1, USER_ID_2)).containsAll(resultUserIds);
   }
+
+  private Map<UUID, AuthoritySourceFile> sourceFilesByIds(Collection<UUID> ids) {
+    return ids.stream().collect(Collectors.toMap(Function.identity(), id -> sourceFile));
+  }
 }
@@ -19,6 +19,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.RandomStringUtils;
@@ -27,6 +28,10 @@ import org.folio.entlinks.controller.converter.DataStatsMapper;
 import org.folio.entlinks.controller.converter.InstanceAuthorityLinkMapper;
 import org.folio.entlinks.domain.dto.BibStatsDtoCollection;
 import org.folio.entlinks.domain.dto.InstanceLinkDtoCollection;
+import org.folio.entlinks.domain.dto.InstanceLinksBulkError;
+import org.folio.entlinks.domain.dto.InstanceLinksBulkRequest;
+import org.folio.entlinks.domain.dto.InstanceLinksDto;
+import org.folio.entlinks.domain.dto.InstanceLinksFetchRequest;
 import org.folio.entlinks.domain.dto.LinkStatus;
 import org.folio.entlinks.domain.entity.InstanceAuthorityLink;
 import org.folio.entlinks.exception.RequestBodyValidationException;
@@ -111,8 +116,10 @@ class LinkingServiceDelegateTest {
     var instanceData = instanceIds.stream()
       .collect(Collectors.toMap(id -> id, id -> instanceData()));
     var nextLinkTime = fromTimestamp(linksMock.getLast().getUpdatedAt());
+    var nextLinkId = linksMock.getLast().getId();
 
-    testGetLinkedBibUpdateStats_positive(linksMock, expectedLinks, instanceIds, instanceData, nextLinkTime);
+    testGetLinkedBibUpdateStats_positive(linksMock, expectedLinks, instanceIds, instanceData, nextLinkTime,
+      nextLinkId);
   }
 
   /**
@@ -134,7 +141,7 @@ class LinkingServiceDelegateTest {
     instanceData.put(instanceIds.get(3), instanceData(false));
     var expectedLinks = List.of(linksMock.get(0), linksMock.get(3));
 
-    testGetLinkedBibUpdateStats_positive(linksMock, expectedLinks, instanceIds, instanceData, null);
+    testGetLinkedBibUpdateStats_positive(linksMock, expectedLinks, instanceIds, instanceData, null, null);
   }
 
   @Test
@@ -173,7 +180,7 @@ class LinkingServiceDelegateTest {
     instanceData.put(instanceIds.get(2), instanceData(false));
     var expectedLinks = List.of(linksMock.get(0), linksMock.get(2));
 
-    testGetLinkedBibUpdateStats_positive(linksMock, expectedLinks, instanceIds, instanceData, null);
+    testGetLinkedBibUpdateStats_positive(linksMock, expectedLinks, instanceIds, instanceData, null, null);
   }
 
   @Test
@@ -183,24 +190,40 @@ class LinkingServiceDelegateTest {
     var toDate = fromDate.plusDays(1);
     var limit = 3;
 
-    when(linkingService.getLinks(status, fromDate, toDate, limit + 1))
+    when(linkingService.getLinks(status, fromDate, toDate, null, limit + 1))
       .thenReturn(List.of());
 
-    var actual = delegate.getLinkedBibUpdateStats(fromDate, toDate, status, limit);
+    var actual = delegate.getLinkedBibUpdateStats(fromDate, toDate, status, limit, null);
 
     assertThat(actual)
       .isEqualTo(new BibStatsDtoCollection().stats(List.of()).next(null));
   }
 
+  @Test
+  void getLinkedBibUpdateStats_positive_seekByNextId() {
+    var status = LinkStatus.ACTUAL;
+    var toDate = OffsetDateTime.now();
+    var nextId = 5L;
+    var limit = 3;
+
+    when(linkingService.getLinks(status, null, toDate, nextId, limit + 1))
+      .thenReturn(List.of());
+
+    var actual = delegate.getLinkedBibUpdateStats(null, toDate, status, limit, nextId);
+
+    assertThat(actual)
+      .isEqualTo(new BibStatsDtoCollection().stats(List.of()));
+  }
+
   @Test
   void getLinkedBibUpdateStats_positive_nullDates() {
     var status = LinkStatus.ACTUAL;
     var limit = 3;
 
-    when(linkingService.getLinks(status, null, null, limit + 1))
+    when(linkingService.getLinks(status, null, null, null, limit + 1))
       .thenReturn(List.of());
 
-    var actual = delegate.getLinkedBibUpdateStats(null, null, status, limit);
+    var actual = delegate.getLinkedBibUpdateStats(null, null, status, limit, null);
 
     assertThat(actual)
       .isEqualTo(new BibStatsDtoCollection().stats(List.of()).next(null));
@@ -215,7 +238,7 @@ class LinkingServiceDelegateTest {
       .toList();
     var instanceData = Map.<String, Pair<String, String>>of();
 
-    testGetLinkedBibUpdateStats_positive(linksMock, List.of(), instanceIds, instanceData, null);
+    testGetLinkedBibUpdateStats_positive(linksMock, List.of(), instanceIds, instanceData, null, null);
   }
 
   @Test
@@ -226,7 +249,7 @@ class LinkingServiceDelegateTest {
     var limit = 2;
 
     var exception = Assertions.assertThrows(RequestBodyValidationException.class,
-      () -> delegate.getLinkedBibUpdateStats(fromDate, toDate, status, limit));
+      () -> delegate.getLinkedBibUpdateStats(fromDate, toDate, status, limit, null));
 
     assertThat(exception)
       .hasMessage("'to' date should be not less than 'from' date.")
@@ -234,6 +257,17 @@ class LinkingServiceDelegateTest {
       .returns(2, from(List::size));
   }
 
+  @Test
+  void getLinkedBibUpdateStats_negative_nextIdWithoutToDate() {
+    var exception = Assertions.assertThrows(RequestBodyValidationException.class,
+      () -> delegate.getLinkedBibUpdateStats(OffsetDateTime.now(), null, LinkStatus.ACTUAL, 2, 5L));
+
+    assertThat(exception)
+      .hasMessage("'to' date is required when 'nextId' is provided.")
+      .extracting(RequestBodyValidationException::getInvalidParameters)
+      .returns(1, from(List::size));
+  }
+
   @Test
   void updateLinks_positive() {
     final var links = links(INSTANCE_ID,
@@ -287,24 +321,72 @@ class LinkingServiceDelegateTest {
       .returns(4, from(List::size));
   }
 
+  @Test
+  void getLinksForInstances_positive() {
+    var instanceId2 = randomUUID();
+    var linkData = TestDataUtils.Link.of(0, 0);
+    var links = List.of(linkData.toEntity(INSTANCE_ID), linkData.toEntity(instanceId2));
+    var linkDtos = List.of(linkData.toDto(INSTANCE_ID), linkData.toDto(instanceId2));
+
+    when(linkingService.getLinksByInstanceIds(Set.of(INSTANCE_ID, instanceId2))).thenReturn(links);
+    when(mapper.convertToDto(links)).thenReturn(new InstanceLinkDtoCollection().links(linkDtos).totalRecords(2));
+
+    var actual = delegate.getLinks(new InstanceLinksFetchRequest().ids(List.of(INSTANCE_ID, instanceId2, INSTANCE_ID)));
+
+    assertThat(actual.getLinks()).containsExactlyElementsOf(linkDtos);
+    verify(linkingService).setNaturalIdForSharedAuthority(links);
+  }
+
+  @Test
+  void updateLinksForInstances_positive_reportInvalidAndFailedInstances() {
+    var validInstanceId = randomUUID();
+    var failedInstanceId = randomUUID();
+    var validDtos = linksDto(validInstanceId, TestDataUtils.Link.of(0, 0));
+    var failedDtos = linksDto(failedInstanceId, TestDataUtils.Link.of(1, 1));
+    var validLinks = links(validInstanceId, TestDataUtils.Link.of(0, 0));
+    var failedLinks = links(failedInstanceId, TestDataUtils.Link.of(1, 1));
+    var request = new InstanceLinksBulkRequest().instances(List.of(
+      new InstanceLinksDto().instanceId(validInstanceId).links(validDtos),
+      new InstanceLinksDto().instanceId(failedInstanceId).links(failedDtos),
+      new InstanceLinksDto().instanceId(INSTANCE_ID).links(linksDto(randomUUID(), TestDataUtils.Link.of(2, 2))),
+      new InstanceLinksDto().instanceId(validInstanceId).links(validDtos)
+    ));
+
+    when(mapper.convertDto(validDtos)).thenReturn(validLinks);
+    when(mapper.convertDto(failedDtos)).thenReturn(failedLinks);
+    when(linkingService.updateLinks(Map.of(validInstanceId, validLinks, failedInstanceId, failedLinks)))
+      .thenReturn(Map.of(failedInstanceId, "Authority not found"));
+
+    var actual = delegate.updateLinks(request);
+
+    assertThat(actual.getErrorsNumber()).isEqualTo(3);
+    assertThat(actual.getErrors())
+      .extracting(InstanceLinksBulkError::getInstanceId)
+      .containsExactly(INSTANCE_ID, validInstanceId, failedInstanceId);
+    assertThat(actual.getErrors())
+      .extracting(InstanceLinksBulkError::getMessage)
+      .containsExactly("Link should have instanceId = " + INSTANCE_ID,
+        "Instance links should be provided only once", "Authority not found");
+  }
+
   private void testGetLinkedBibUpdateStats_positive(List<InstanceAuthorityLink> linksMock,
                                                     List<String> instanceIds,
                                                     Map<String, Pair<String, String>> instanceData) {
-    testGetLinkedBibUpdateStats_positive(linksMock, linksMock, instanceIds, instanceData, null);
+    testGetLinkedBibUpdateStats_positive(linksMock, linksMock, instanceIds, instanceData, null, null);
   }
 
   private void testGetLinkedBibUpdateStats_positive(List<InstanceAuthorityLink> linksMock,
                                                     List<InstanceAuthorityLink> expectedLinks,
                                                     List<String> instanceIds,
                                                     Map<String, Pair<String, String>> instanceData,
-                                                    OffsetDateTime next) {
+                                                    OffsetDateTime next, Long nextId) {
     var status = LinkStatus.ACTUAL;
     var fromDate = OffsetDateTime.now();
     var toDate = fromDate.plusDays(1);
     var limit = 3;
     var statsDtos = stats(linksMock);
 
-    when(linkingService.getLinks(status, fromDate, toDate, limit + 1))
+    when(linkingService.getLinks(status, fromDate, toDate, null, limit + 1))
       .thenReturn(linksMock);
     when(statsMapper.convertToDto(linksMock))
       .thenReturn(statsDtos);
@@ -320,12 +402,13 @@ class LinkingServiceDelegateTest {
       bibStatsDto.setInstanceTitle(title);
     });
 
-    var actual = delegate.getLinkedBibUpdateStats(fromDate, toDate, status, limit);
+    var actual = delegate.getLinkedBibUpdateStats(fromDate, toDate, status, limit, null);
 
     assertThat(actual)
       .isEqualTo(new BibStatsDtoCollection()
         .stats(expectedStatsDtos)
-        .next(next));
+        .next(next)
+        .nextId(nextId));
 
     verify(linkingService).setNaturalIdForSharedAuthority(linksMock);
   }
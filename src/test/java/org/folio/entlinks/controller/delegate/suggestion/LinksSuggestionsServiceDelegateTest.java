@@ -2,21 +2,30 @@ package org.folio.entlinks.controller.delegate.suggestion;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptySet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.folio.support.base.TestConstants.TENANT_ID;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyChar;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
 import org.folio.entlinks.client.SourceStorageClient;
+import org.folio.entlinks.config.properties.LinksSuggestionsProperties;
 import org.folio.entlinks.controller.converter.SourceContentMapper;
 import org.folio.entlinks.domain.dto.ExternalIdType;
 import org.folio.entlinks.domain.dto.FetchConditions;
@@ -33,11 +42,14 @@ import org.folio.entlinks.domain.entity.Authority;
 import org.folio.entlinks.domain.entity.InstanceAuthorityLinkingRule;
 import org.folio.entlinks.domain.repository.AuthorityJdbcRepository;
 import org.folio.entlinks.domain.repository.AuthorityRepository;
+import org.folio.entlinks.exception.FolioIntegrationException;
 import org.folio.entlinks.service.consortium.ConsortiumTenantExecutor;
 import org.folio.entlinks.service.consortium.UserTenantsService;
 import org.folio.entlinks.service.links.InstanceAuthorityLinkingRulesService;
 import org.folio.entlinks.service.links.LinksSuggestionsService;
+import org.folio.entlinks.service.links.model.LinkingRulesSnapshot;
 import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.scope.FolioExecutionContextService;
 import org.folio.spring.testing.type.UnitTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -67,6 +79,8 @@ class LinksSuggestionsServiceDelegateTest {
   private @Mock FolioExecutionContext folioExecutionContext;
   private @Mock UserTenantsService userTenantsService;
   private @Mock AuthorityJdbcRepository jdbcRepository;
+  private @Mock FolioExecutionContextService executionService;
+  private @Spy LinksSuggestionsProperties suggestionsProperties = new LinksSuggestionsProperties();
   private @InjectMocks LinksSuggestionsByAuthorityNaturalId serviceDelegate;
 
   @Test
@@ -77,7 +91,7 @@ class LinksSuggestionsServiceDelegateTest {
     var records = List.of(getRecord("100", Map.of("0", NATURAL_ID)));
     var rules = List.of(getRule("100"));
 
-    when(linkingRulesService.getLinkingRules()).thenReturn(rules);
+    when(linkingRulesService.getLinkingRulesByBibField()).thenReturn(LinkingRulesSnapshot.of(rules).rulesByBibField());
     when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
     when(userTenantsService.getCentralTenant(TENANT_ID)).thenReturn(Optional.empty());
     when(authorityRepository.findByNaturalIdInAndDeletedFalse(Set.of(NATURAL_ID)))
@@ -108,7 +122,7 @@ class LinksSuggestionsServiceDelegateTest {
     var fetchRequest = getBatchFetchRequestForAuthority(AUTHORITY_ID);
     var rules = List.of(getRule("100"));
 
-    when(linkingRulesService.getLinkingRules()).thenReturn(rules);
+    when(linkingRulesService.getLinkingRulesByBibField()).thenReturn(LinkingRulesSnapshot.of(rules).rulesByBibField());
     when(authorityRepository.findByNaturalIdInAndDeletedFalse(Set.of(NATURAL_ID))).thenReturn(authorities);
     when(sourceStorageClient
       .buildBatchFetchRequestForAuthority(Set.of(AUTHORITY_ID), MIN_AUTHORITY_FIELD, MAX_AUTHORITY_FIELD))
@@ -135,7 +149,7 @@ class LinksSuggestionsServiceDelegateTest {
     var fetchRequest = getBatchFetchRequestForAuthority(AUTHORITY_ID);
     var rules = List.of(getRule("100"));
 
-    when(linkingRulesService.getLinkingRules()).thenReturn(rules);
+    when(linkingRulesService.getLinkingRulesByBibField()).thenReturn(LinkingRulesSnapshot.of(rules).rulesByBibField());
     when(authorityRepository.findByNaturalIdInAndDeletedFalse(Set.of(NATURAL_ID))).thenReturn(authorities);
     when(sourceStorageClient
       .buildBatchFetchRequestForAuthority(Set.of(AUTHORITY_ID), MIN_AUTHORITY_FIELD, MAX_AUTHORITY_FIELD))
@@ -156,7 +170,7 @@ class LinksSuggestionsServiceDelegateTest {
     var recordContent = new ParsedRecordContent(emptyList(), "record without naturalId");
     var rules = List.of(getRule("110"));
 
-    when(linkingRulesService.getLinkingRules()).thenReturn(rules);
+    when(linkingRulesService.getLinkingRulesByBibField()).thenReturn(LinkingRulesSnapshot.of(rules).rulesByBibField());
     when(authorityRepository.findByNaturalIdInAndDeletedFalse(emptySet())).thenReturn(emptyList());
 
     var parsedContentCollection = new ParsedRecordContentCollection().records(List.of(recordContent));
@@ -171,7 +185,7 @@ class LinksSuggestionsServiceDelegateTest {
     var records = List.of(getRecord("100"));
     var rules = List.of(getRule("110"));
 
-    when(linkingRulesService.getLinkingRules()).thenReturn(rules);
+    when(linkingRulesService.getLinkingRulesByBibField()).thenReturn(LinkingRulesSnapshot.of(rules).rulesByBibField());
 
     var parsedContentCollection = new ParsedRecordContentCollection().records(records);
     serviceDelegate.suggestLinksForMarcRecords(parsedContentCollection, false);
@@ -185,7 +199,7 @@ class LinksSuggestionsServiceDelegateTest {
     var recordContent = getRecord("100", Map.of("0", "test"));
     var rules = List.of(getRule("100", false));
 
-    when(linkingRulesService.getLinkingRules()).thenReturn(rules);
+    when(linkingRulesService.getLinkingRulesByBibField()).thenReturn(LinkingRulesSnapshot.of(rules).rulesByBibField());
     when(authorityRepository.findByNaturalIdInAndDeletedFalse(emptySet())).thenReturn(emptyList());
 
     var parsedContentCollection = new ParsedRecordContentCollection().records(List.of(recordContent));
@@ -204,7 +218,7 @@ class LinksSuggestionsServiceDelegateTest {
     var records = List.of(getRecord("100", Map.of("0", NATURAL_ID)));
     var rules = List.of(getRule("100", false));
 
-    when(linkingRulesService.getLinkingRules()).thenReturn(rules);
+    when(linkingRulesService.getLinkingRulesByBibField()).thenReturn(LinkingRulesSnapshot.of(rules).rulesByBibField());
     when(authorityRepository.findByNaturalIdInAndDeletedFalse(Set.of(NATURAL_ID))).thenReturn(List.of(authority));
     when(sourceStorageClient
       .buildBatchFetchRequestForAuthority(Set.of(AUTHORITY_ID), MIN_AUTHORITY_FIELD, MAX_AUTHORITY_FIELD))
@@ -239,7 +253,7 @@ class LinksSuggestionsServiceDelegateTest {
     var localFetchRequest = getBatchFetchRequestForAuthority(AUTHORITY_ID);
     var sharedFetchRequest = getBatchFetchRequestForAuthority(sharedAuthorityId);
 
-    when(linkingRulesService.getLinkingRules()).thenReturn(rules);
+    when(linkingRulesService.getLinkingRulesByBibField()).thenReturn(LinkingRulesSnapshot.of(rules).rulesByBibField());
     when(folioExecutionContext.getTenantId()).thenReturn(tenantId);
     when(userTenantsService.getCentralTenant(tenantId)).thenReturn(Optional.of(centralTenantId));
     when(authorityRepository.findByNaturalIdInAndDeletedFalse(Set.of(NATURAL_ID, sharedNaturalId)))
@@ -258,16 +272,66 @@ class LinksSuggestionsServiceDelegateTest {
       var supplier = invocation.getArgument(0, java.util.function.Supplier.class);
       return supplier.get();
     });
+    var sharedLookupThread = new AtomicReference<Thread>();
+    when(executionService.execute(eq(tenantId), anyMap(), any(Callable.class))).thenAnswer(invocation -> {
+      sharedLookupThread.set(Thread.currentThread());
+      return invocation.getArgument(2, Callable.class).call();
+    });
 
     var parsedContentCollection = new ParsedRecordContentCollection().records(records);
     serviceDelegate.suggestLinksForMarcRecords(parsedContentCollection, false);
 
+    assertThat(sharedLookupThread.get()).isNotEqualTo(Thread.currentThread());
+    assertThat(sharedLookupThread.get().isVirtual()).isTrue();
     verify(jdbcRepository).findByNaturalIdInAndDeletedFalse(Set.of(NATURAL_ID, sharedNaturalId), centralTenantId);
     verify(executor).executeAsCentralTenant(any());
     verify(sourceStorageClient, times(2)).fetchParsedRecords(any());
     verify(suggestionService).fillLinkDetailsWithSuggestedAuthorities(any(), any(), any(), eq('0'), eq(false));
   }
 
+  @Test
+  void suggestLinksForMarcRecords_shouldFail_ifSharedAuthoritiesNotFetchedInTime() {
+    var tenantId = "member1";
+    var records = List.of(getRecord("100", Map.of("0", NATURAL_ID)));
+    var rules = List.of(getRule("100"));
+    var sharedLookupReleased = new CountDownLatch(1);
+    suggestionsProperties.setTimeout(Duration.ofMillis(100));
+
+    when(linkingRulesService.getLinkingRulesByBibField()).thenReturn(LinkingRulesSnapshot.of(rules).rulesByBibField());
+    when(folioExecutionContext.getTenantId()).thenReturn(tenantId);
+    when(userTenantsService.getCentralTenant(tenantId)).thenReturn(Optional.of("central"));
+    when(authorityRepository.findByNaturalIdInAndDeletedFalse(Set.of(NATURAL_ID))).thenReturn(emptyList());
+    lenient().when(executionService.execute(eq(tenantId), anyMap(), any(Callable.class))).thenAnswer(invocation -> {
+      sharedLookupReleased.await();
+      return null;
+    });
+
+    var parsedContentCollection = new ParsedRecordContentCollection().records(records);
+    assertThatThrownBy(() -> serviceDelegate.suggestLinksForMarcRecords(parsedContentCollection, false))
+      .isInstanceOf(FolioIntegrationException.class)
+      .hasMessageContaining("not fetched in time");
+    verifyNoInteractions(suggestionService);
+  }
+
+  @Test
+  void suggestLinksForMarcRecords_shouldRethrowSharedAuthoritiesLookupFailure() {
+    var tenantId = "member1";
+    var records = List.of(getRecord("100", Map.of("0", NATURAL_ID)));
+    var rules = List.of(getRule("100"));
+    var failure = new IllegalStateException("central tenant is not available");
+
+    when(linkingRulesService.getLinkingRulesByBibField()).thenReturn(LinkingRulesSnapshot.of(rules).rulesByBibField());
+    when(folioExecutionContext.getTenantId()).thenReturn(tenantId);
+    when(userTenantsService.getCentralTenant(tenantId)).thenReturn(Optional.of("central"));
+    when(authorityRepository.findByNaturalIdInAndDeletedFalse(Set.of(NATURAL_ID))).thenReturn(emptyList());
+    when(executionService.execute(eq(tenantId), anyMap(), any(Callable.class))).thenThrow(failure);
+
+    var parsedContentCollection = new ParsedRecordContentCollection().records(records);
+    assertThatThrownBy(() -> serviceDelegate.suggestLinksForMarcRecords(parsedContentCollection, false))
+      .isSameAs(failure);
+    verifyNoInteractions(suggestionService);
+  }
+
   @Test
   void suggestLinksForMarcRecords_shouldNotFetchFromCentralIfAlreadyCentral() {
     var centralTenantId = "central";
@@ -277,7 +341,7 @@ class LinksSuggestionsServiceDelegateTest {
     var records = List.of(getRecord("100", Map.of("0", NATURAL_ID)));
     var rules = List.of(getRule("100"));
 
-    when(linkingRulesService.getLinkingRules()).thenReturn(rules);
+    when(linkingRulesService.getLinkingRulesByBibField()).thenReturn(LinkingRulesSnapshot.of(rules).rulesByBibField());
     when(folioExecutionContext.getTenantId()).thenReturn(centralTenantId);
     when(userTenantsService.getCentralTenant(centralTenantId)).thenReturn(Optional.of(centralTenantId));
     when(authorityRepository.findByNaturalIdInAndDeletedFalse(Set.of(NATURAL_ID))).thenReturn(List.of(authority));
@@ -300,7 +364,7 @@ class LinksSuggestionsServiceDelegateTest {
     var records = List.of(getRecord("100", Map.of("0", NATURAL_ID)));
     var rules = List.of(getRule("100"));
 
-    when(linkingRulesService.getLinkingRules()).thenReturn(rules);
+    when(linkingRulesService.getLinkingRulesByBibField()).thenReturn(LinkingRulesSnapshot.of(rules).rulesByBibField());
     when(authorityRepository.findByNaturalIdInAndDeletedFalse(Set.of(NATURAL_ID))).thenReturn(emptyList());
 
     var parsedContentCollection = new ParsedRecordContentCollection().records(records);
@@ -315,7 +379,7 @@ class LinksSuggestionsServiceDelegateTest {
   void suggestLinksForMarcRecords_shouldHandleEmptyRecordsCollection() {
     var rules = List.of(getRule("100"));
 
-    when(linkingRulesService.getLinkingRules()).thenReturn(rules);
+    when(linkingRulesService.getLinkingRulesByBibField()).thenReturn(LinkingRulesSnapshot.of(rules).rulesByBibField());
     when(authorityRepository.findByNaturalIdInAndDeletedFalse(emptySet())).thenReturn(emptyList());
 
     var parsedContentCollection = new ParsedRecordContentCollection().records(emptyList());
@@ -336,7 +400,7 @@ class LinksSuggestionsServiceDelegateTest {
     var rule2 = getRule("100", false);
     var rules = List.of(rule1, rule2);
 
-    when(linkingRulesService.getLinkingRules()).thenReturn(rules);
+    when(linkingRulesService.getLinkingRulesByBibField()).thenReturn(LinkingRulesSnapshot.of(rules).rulesByBibField());
     when(authorityRepository.findByNaturalIdInAndDeletedFalse(Set.of(NATURAL_ID))).thenReturn(List.of(authority));
     when(sourceStorageClient
       .buildBatchFetchRequestForAuthority(Set.of(AUTHORITY_ID), MIN_AUTHORITY_FIELD, MAX_AUTHORITY_FIELD))
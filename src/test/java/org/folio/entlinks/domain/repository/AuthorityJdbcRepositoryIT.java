@@ -0,0 +1,165 @@
+package org.folio.entlinks.domain.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.entlinks.domain.repository.AuthorityJdbcRepository.MAX_IDS_PER_QUERY;
+import static org.folio.support.base.TestConstants.TENANT_ID;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.folio.entlinks.domain.entity.Authority;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.testing.extension.EnablePostgres;
+import org.folio.spring.testing.type.IntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.jdbc.test.autoconfigure.JdbcTest;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJson;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+@IntegrationTest
+@JdbcTest
+@EnablePostgres
+@AutoConfigureJson
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(AuthorityJdbcRepositoryIT.TestCacheConfig.class)
+class AuthorityJdbcRepositoryIT {
+
+  private final String naturalIdPrefix = "n" + UUID.randomUUID() + "-";
+
+  private @MockitoSpyBean JdbcTemplate jdbcTemplate;
+  private @MockitoBean FolioExecutionContext context;
+  private AuthorityJdbcRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    repository = new AuthorityJdbcRepository(jdbcTemplate, context);
+    when(context.getFolioModuleMetadata()).thenReturn(new FolioModuleMetadata() {
+      @Override
+      public String getModuleName() {
+        return null;
+      }
+
+      @Override
+      public String getDBSchemaName(String tenantId) {
+        return "public";
+      }
+    });
+  }
+
+  @Test
+  void findAllByIdInAndDeletedFalse_positive_skipsDeletedAuthorities() {
+    var authority = insertAuthority("n1", false);
+    var deleted = insertAuthority("n2", true);
+
+    var actual = repository.findAllByIdInAndDeletedFalse(List.of(authority, deleted, UUID.randomUUID()), TENANT_ID);
+
+    assertThat(actual).extracting(Authority::getId).containsExactly(authority);
+    assertThat(actual).extracting(Authority::getNaturalId).containsExactly(naturalId("n1"));
+  }
+
+  @Test
+  void findByNaturalIdInAndDeletedFalse_positive_skipsDeletedAuthorities() {
+    var authority = insertAuthority("n1", false);
+    insertAuthority("n2", true);
+
+    var actual = repository.findByNaturalIdInAndDeletedFalse(
+      List.of(naturalId("n1"), naturalId("n2"), naturalId("n3")), TENANT_ID);
+
+    assertThat(actual).extracting(Authority::getId).containsExactly(authority);
+  }
+
+  @Test
+  void findExistingIdsByIdsAndDeletedFalse_positive_queriesLargeIdSetInChunks() {
+    var authority1 = insertAuthority("n1", false);
+    var authority2 = insertAuthority("n2", false);
+    var deleted = insertAuthority("n3", true);
+    var ids = new ArrayList<UUID>();
+    ids.add(authority1);
+    ids.addAll(randomIds(MAX_IDS_PER_QUERY));
+    ids.add(authority2);
+    ids.add(deleted);
+    clearInvocations(jdbcTemplate);
+
+    var actual = repository.findExistingIdsByIdsAndDeletedFalse(ids, TENANT_ID);
+
+    assertThat(actual).containsExactlyInAnyOrder(authority1, authority2);
+    verify(jdbcTemplate, times(2))
+      .query(eq("SELECT id FROM public.authority WHERE id = ANY(?) AND deleted = false"),
+        any(PreparedStatementSetter.class), any(RowCallbackHandler.class));
+  }
+
+  @Test
+  void findAuthorityNaturalIdsByIdsAndDeletedFalse_positive() {
+    var authority1 = insertAuthority("n1", false);
+    var authority2 = insertAuthority("n2", false);
+    var deleted = insertAuthority("n3", true);
+
+    var actual = repository.findAuthorityNaturalIdsByIdsAndDeletedFalse(
+      List.of(authority1, authority2, deleted), TENANT_ID);
+
+    assertThat(actual).isEqualTo(Map.of(authority1, naturalId("n1"), authority2, naturalId("n2")));
+  }
+
+  @Test
+  void findAllByIdInAndDeletedFalse_positive_reusesStatementForAnyNumberOfIds() {
+    var authority = insertAuthority("n1", false);
+    clearInvocations(jdbcTemplate);
+
+    repository.findAllByIdInAndDeletedFalse(List.of(authority), TENANT_ID);
+    repository.findAllByIdInAndDeletedFalse(randomIds(10), TENANT_ID);
+    repository.findAllByIdInAndDeletedFalse(randomIds(100), TENANT_ID);
+
+    verify(jdbcTemplate, times(3))
+      .query(eq("SELECT * FROM public.authority WHERE id = ANY(?) AND deleted = false"),
+        any(PreparedStatementSetter.class), any(RowCallbackHandler.class));
+  }
+
+  private UUID insertAuthority(String naturalId, boolean deleted) {
+    var id = UUID.randomUUID();
+    var now = Timestamp.from(Instant.now());
+    jdbcTemplate.update("""
+        INSERT INTO authority (id, natural_id, source, heading, heading_type, _version, deleted,
+          created_date, updated_date, created_by_user_id, updated_by_user_id)
+        VALUES (?, ?, 'MARC', 'heading', 'personalName', 0, ?, ?, ?, ?, ?)""",
+      id, naturalId(naturalId), deleted, now, now, UUID.randomUUID(), UUID.randomUUID());
+    return id;
+  }
+
+  private String naturalId(String value) {
+    return naturalIdPrefix + value;
+  }
+
+  private List<UUID> randomIds(int count) {
+    return IntStream.range(0, count).mapToObj(i -> UUID.randomUUID()).toList();
+  }
+
+  @TestConfiguration
+  static class TestCacheConfig {
+    @Bean
+    public CacheManager cacheManager() {
+      return new NoOpCacheManager();
+    }
+  }
+}
@@ -46,4 +46,18 @@ class AuthorityParsedContentTest {
 
     assertTrue(actual.isEmpty());
   }
+
+  @Test
+  void getFieldsByTag_WhenTagRepeated_ExpectAllFieldsInOrder() {
+    var field1 = new FieldParsedContent("100", "ind1", "ind2", emptyList(), null);
+    var field2 = new FieldParsedContent("400", "ind1", "ind2", emptyList(), null);
+    var field3 = new FieldParsedContent("400", "ind1", "ind2", emptyList(), null);
+    var parsedContent = new AuthorityParsedContent(randomUUID(), "naturalId", "leader",
+      List.of(field1, field2, field3), randomUUID());
+
+    assertEquals(List.of(field2, field3), parsedContent.getFieldsByTag("400"));
+    assertEquals(field2, parsedContent.getFieldByTag("400").orElseThrow());
+    assertTrue(parsedContent.getFieldsByTag("500").isEmpty());
+    assertTrue(parsedContent.getFieldsByTag(null).isEmpty());
+  }
 }
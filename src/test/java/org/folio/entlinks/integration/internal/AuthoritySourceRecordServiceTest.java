@@ -2,20 +2,29 @@ package org.folio.entlinks.integration.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.IntStream;
 import lombok.SneakyThrows;
 import org.folio.entlinks.client.SourceStorageClient;
-import org.folio.entlinks.domain.dto.SourceParsedRecord;
-import org.folio.entlinks.domain.dto.SourceRecord;
+import org.folio.entlinks.domain.dto.FetchParsedRecordsBatchRequest;
+import org.folio.entlinks.domain.dto.StrippedParsedRecordCollection;
 import org.folio.entlinks.exception.FolioIntegrationException;
-import org.folio.entlinks.integration.dto.AuthoritySourceRecord;
 import org.folio.spring.testing.type.UnitTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.marc4j.marc.VariableField;
+import org.marc4j.marc.Subfield;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import tools.jackson.databind.ObjectMapper;
@@ -24,45 +33,39 @@ import tools.jackson.databind.ObjectMapper;
 @ExtendWith(MockitoExtension.class)
 class AuthoritySourceRecordServiceTest {
 
-  private static final String VALID_SOURCE_CONTENT = """
+  private static final String VALID_STRIPPED_RECORDS = """
     {
-      "content": {
-        "fields": [
-          {
-            "001": "393893"
+      "records": [
+        {
+          "id": "%s",
+          "externalIdsHolder": {
+            "authorityId": "%s"
           },
-          {
-            "005": "20141107001016.0"
-          },
-          {
-            "010": {
-              "ind1": " ",
-              "ind2": " ",
-              "subfields": [
+          "recordType": "MARC_AUTHORITY",
+          "parsedRecord": {
+            "content": {
+              "fields": [
                 {
-                  "a": "  2001000234"
+                  "100": {
+                    "ind1": "1",
+                    "ind2": "",
+                    "subfields": [
+                      {
+                        "a": "Lansing, John"
+                      },
+                      {
+                        "d": "1756-1791."
+                      }
+                    ]
+                  }
                 }
-              ]
-            }
-          }
-        ],
-        "leader": "06059cz  a2201201n  4500"
-      }
-    }
-    """;
-
-  private static final String INVALID_SOURCE_CONTENT = """
-    {
-      "content": {
-        "fields": [
-          {
-            "qwert": {
-              "ind1": " ",
-              "ind2": " "
+              ],
+              "leader": "06059cz  a2201201n  4500"
             }
           }
-        ]
-      }
+        }
+      ],
+      "totalRecords": 1
     }
     """;
 
@@ -74,66 +77,64 @@ class AuthoritySourceRecordServiceTest {
 
   @BeforeEach
   void setUp() {
-    service = new AuthoritySourceRecordService(sourceStorageClient, mapper);
+    service = new AuthoritySourceRecordService(sourceStorageClient);
   }
 
   @Test
   @SneakyThrows
-  void getAuthoritySourceRecordById_positive() {
+  void getAuthoritySourceRecordsByIds_positive() {
     var authorityId = UUID.randomUUID();
-    var snapshotId = UUID.randomUUID();
-    var sourceRecord = new SourceRecord()
-      .recordId(authorityId)
-      .snapshotId(snapshotId)
-      .parsedRecord(mapper.readValue(VALID_SOURCE_CONTENT, SourceParsedRecord.class));
-
-    when(sourceStorageClient.getMarcAuthorityById(authorityId)).thenReturn(sourceRecord);
+    var missingAuthorityId = UUID.randomUUID();
+    var records = mapper.readValue(VALID_STRIPPED_RECORDS.formatted(UUID.randomUUID(), authorityId),
+      StrippedParsedRecordCollection.class);
+    var request = new FetchParsedRecordsBatchRequest();
+
+    when(sourceStorageClient.buildBatchFetchRequestForAuthority(Set.of(authorityId, missingAuthorityId), "100", "199"))
+      .thenReturn(request);
+    when(sourceStorageClient.fetchParsedRecords(request)).thenReturn(records);
+
+    var actual = service.getAuthoritySourceRecordsByIds(List.of(authorityId, missingAuthorityId));
+
+    assertThat(actual).containsOnlyKeys(authorityId);
+    var content = actual.get(authorityId).content();
+    assertThat(content.getLeader().marshal()).isEqualTo("06059cz  a2201201n  4500");
+    assertThat(content.getDataFields())
+      .singleElement()
+      .satisfies(field -> {
+        assertThat(field.getTag()).isEqualTo("100");
+        assertThat(field.getIndicator1()).isEqualTo('1');
+        assertThat(field.getIndicator2()).isEqualTo(' ');
+        assertThat(field.getSubfields())
+          .extracting(Subfield::getCode, Subfield::getData)
+          .containsExactly(tuple('a', "Lansing, John"), tuple('d', "1756-1791."));
+      });
+  }
 
-    var actual = service.getAuthoritySourceRecordById(authorityId);
+  @Test
+  void getAuthoritySourceRecordsByIds_positive_fetchInBatches() {
+    var authorityIds = IntStream.range(0, 150).mapToObj(i -> UUID.randomUUID()).toList();
 
-    assertThat(actual)
-      .extracting(AuthoritySourceRecord::id, AuthoritySourceRecord::snapshotId)
-      .contains(authorityId, snapshotId);
+    when(sourceStorageClient.buildBatchFetchRequestForAuthority(anySet(), eq("100"), eq("199")))
+      .thenReturn(new FetchParsedRecordsBatchRequest());
+    when(sourceStorageClient.fetchParsedRecords(any()))
+      .thenReturn(new StrippedParsedRecordCollection(Collections.emptyList(), 0));
 
-    assertThat(actual.content().getDataFields())
-      .hasSize(1)
-      .extracting(VariableField::getTag)
-      .contains("010");
+    var actual = service.getAuthoritySourceRecordsByIds(authorityIds);
 
-    assertThat(actual.content().getControlFields())
-      .hasSize(2)
-      .extracting(VariableField::getTag)
-      .contains("001", "005");
+    assertThat(actual).isEmpty();
+    verify(sourceStorageClient, times(2)).fetchParsedRecords(any());
   }
 
   @Test
-  @SneakyThrows
-  void getAuthoritySourceRecordById_negative_clientException() {
+  void getAuthoritySourceRecordsByIds_negative_clientException() {
     var authorityId = UUID.randomUUID();
     var cause = new IllegalArgumentException("test");
 
-    when(sourceStorageClient.getMarcAuthorityById(authorityId)).thenThrow(cause);
+    when(sourceStorageClient.fetchParsedRecords(any())).thenThrow(cause);
 
-    assertThatThrownBy(() -> service.getAuthoritySourceRecordById(authorityId))
+    assertThatThrownBy(() -> service.getAuthoritySourceRecordsByIds(List.of(authorityId)))
       .isInstanceOf(FolioIntegrationException.class)
       .hasCauseExactlyInstanceOf(cause.getClass())
-      .hasMessage("Failed to fetch source record [id: %s]", authorityId);
-  }
-
-  @Test
-  @SneakyThrows
-  void getAuthoritySourceRecordById_negative_recordParseException() {
-    var authorityId = UUID.randomUUID();
-    var snapshotId = UUID.randomUUID();
-    var sourceRecord = new SourceRecord()
-      .recordId(authorityId)
-      .snapshotId(snapshotId)
-      .parsedRecord(mapper.readValue(INVALID_SOURCE_CONTENT, SourceParsedRecord.class));
-
-    when(sourceStorageClient.getMarcAuthorityById(authorityId)).thenReturn(sourceRecord);
-
-    assertThatThrownBy(() -> service.getAuthoritySourceRecordById(authorityId))
-      .isInstanceOf(FolioIntegrationException.class)
-      .hasMessage("Failed to get content of source record");
+      .hasMessage("Failed to fetch source records [ids: [%s]]", authorityId);
   }
 }
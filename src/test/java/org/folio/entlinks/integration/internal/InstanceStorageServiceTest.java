@@ -3,38 +3,60 @@ package org.folio.entlinks.integration.internal;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 import org.apache.commons.lang3.tuple.Pair;
 import org.assertj.core.data.MapEntry;
 import org.folio.entlinks.client.InstanceStorageClient;
 import org.folio.entlinks.client.InstanceStorageClient.InventoryInstanceDto;
 import org.folio.entlinks.client.InstanceStorageClient.InventoryInstanceDtoCollection;
 import org.folio.entlinks.config.properties.InstanceStorageProperties;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.scope.FolioExecutionContextService;
 import org.folio.spring.testing.type.UnitTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
 class InstanceStorageServiceTest {
 
+  private static final String TENANT_ID = "test";
+
   private @Mock InstanceStorageClient client;
   private @Mock InstanceStorageProperties instanceStorageProperties;
-  private @InjectMocks InstanceStorageService service;
+  private @Mock FolioExecutionContext context;
+  private @Mock FolioExecutionContextService executionService;
+  private InstanceStorageService service;
 
   @BeforeEach
   void setUp() {
-    when(instanceStorageProperties.getBatchSize()).thenReturn(2);
+    service = new InstanceStorageService(instanceStorageProperties, client, context, executionService,
+      new ConcurrentMapCache("test-cache"));
+    when(context.getTenantId()).thenReturn(TENANT_ID);
+    lenient().when(instanceStorageProperties.getBatchSize()).thenReturn(2);
+    lenient().when(instanceStorageProperties.getParallelism()).thenReturn(2);
+    lenient().when(executionService.execute(eq(TENANT_ID), anyMap(), any(Callable.class)))
+      .thenAnswer(invocation -> invocation.getArgument(2, Callable.class).call());
   }
 
   @Test
@@ -82,8 +104,9 @@ class InstanceStorageServiceTest {
     var instancesBatch1 = List.of(e1, e2);
     var instancesBatch2 = singletonList(e3);
 
-    when(client.getInstanceStorageInstances(anyString(), anyInt()))
-      .thenReturn(new InventoryInstanceDtoCollection(instancesBatch1))
+    when(client.getInstanceStorageInstances(String.format("id==(%s or %s)", e1.id(), e2.id()), 2))
+      .thenReturn(new InventoryInstanceDtoCollection(instancesBatch1));
+    when(client.getInstanceStorageInstances(String.format("id==(%s)", e3.id()), 1))
       .thenReturn(new InventoryInstanceDtoCollection(instancesBatch2));
 
     var instanceIds = List.of(e1.id(), e2.id(), e3.id());
@@ -107,6 +130,87 @@ class InstanceStorageServiceTest {
     assertThat(service.getInstanceData(instanceIds)).isEmpty();
   }
 
+  @Test
+  void getInstanceData_positive_fetchesBatchesConcurrently() {
+    var instances = IntStream.range(0, 4)
+      .mapToObj(i -> new InventoryInstanceDto(UUID.randomUUID().toString(), "title" + i, "source" + i))
+      .toList();
+    var fetchingThreads = ConcurrentHashMap.<Thread>newKeySet();
+    var bothBatchesStarted = new CountDownLatch(2);
+    when(client.getInstanceStorageInstances(anyString(), anyInt())).thenAnswer(invocation -> {
+      fetchingThreads.add(Thread.currentThread());
+      bothBatchesStarted.countDown();
+      bothBatchesStarted.await(5, TimeUnit.SECONDS);
+      String query = invocation.getArgument(0);
+      return new InventoryInstanceDtoCollection(instances.stream().filter(dto -> query.contains(dto.id())).toList());
+    });
+
+    var instanceIds = instances.stream().map(InventoryInstanceDto::id).toList();
+    var actual = service.getInstanceData(instanceIds);
+
+    assertThat(bothBatchesStarted.getCount()).isZero();
+    assertThat(fetchingThreads).hasSize(2).allMatch(Thread::isVirtual);
+    assertThat(actual).hasSize(instanceIds.size());
+    instances.forEach(instance -> assertThat(actual).contains(instanceData(instance)));
+  }
+
+  @Test
+  void getInstanceData_positive_fetchesOnlyInstancesMissingInCache() {
+    var e1 = new InventoryInstanceDto(UUID.randomUUID().toString(), "title1", "source1");
+    var e2 = new InventoryInstanceDto(UUID.randomUUID().toString(), "title2", "source2");
+    when(client.getInstanceStorageInstances(String.format("id==(%s)", e1.id()), 1))
+      .thenReturn(new InventoryInstanceDtoCollection(List.of(e1)));
+    when(client.getInstanceStorageInstances(String.format("id==(%s)", e2.id()), 1))
+      .thenReturn(new InventoryInstanceDtoCollection(List.of(e2)));
+
+    service.getInstanceData(List.of(e1.id()));
+    var actual = service.getInstanceData(List.of(e1.id(), e2.id()));
+
+    assertThat(actual).containsOnly(instanceData(e1), instanceData(e2));
+    verify(client).getInstanceStorageInstances(String.format("id==(%s)", e1.id()), 1);
+  }
+
+  @Test
+  void getInstanceData_positive_allInstancesCached() {
+    var e1 = new InventoryInstanceDto(UUID.randomUUID().toString(), "title1", "source1");
+    when(client.getInstanceStorageInstances(anyString(), anyInt()))
+      .thenReturn(new InventoryInstanceDtoCollection(List.of(e1)));
+    service.getInstanceData(List.of(e1.id()));
+
+    var actual = service.getInstanceData(List.of(e1.id()));
+
+    assertThat(actual).containsOnly(instanceData(e1));
+    verify(client).getInstanceStorageInstances(anyString(), anyInt());
+  }
+
+  @Test
+  void getInstanceData_negative_failedBatchSkipped() {
+    var e1 = new InventoryInstanceDto(UUID.randomUUID().toString(), "title1", "source1");
+    var e2 = new InventoryInstanceDto(UUID.randomUUID().toString(), "title2", "source2");
+    var failedId = UUID.randomUUID().toString();
+    when(client.getInstanceStorageInstances(String.format("id==(%s or %s)", e1.id(), e2.id()), 2))
+      .thenReturn(new InventoryInstanceDtoCollection(List.of(e1, e2)));
+    when(client.getInstanceStorageInstances(String.format("id==(%s)", failedId), 1))
+      .thenThrow(new IllegalStateException("test message"));
+
+    var actual = service.getInstanceData(List.of(e1.id(), e2.id(), failedId));
+
+    assertThat(actual).containsOnly(instanceData(e1), instanceData(e2));
+  }
+
+  @Test
+  void getInstanceData_negative_contextFailureSkipsBatch() {
+    var e1 = new InventoryInstanceDto(UUID.randomUUID().toString(), "title1", "source1");
+    var e2 = new InventoryInstanceDto(UUID.randomUUID().toString(), "title2", "source2");
+    when(executionService.execute(eq(TENANT_ID), anyMap(), any(Callable.class)))
+      .thenThrow(new IllegalStateException("test message"));
+
+    var actual = service.getInstanceData(List.of(e1.id(), e2.id(), UUID.randomUUID().toString()));
+
+    assertThat(actual).isEmpty();
+    verifyNoInteractions(client);
+  }
+
   private static MapEntry<String, Pair<String, String>> instanceData(InventoryInstanceDto dto) {
     return entry(dto.id(), Pair.of(dto.title(), dto.source()));
   }
@@ -1,10 +1,12 @@
 package org.folio.entlinks.integration.internal;
 
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.argThat;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.folio.entlinks.domain.entity.InstanceAuthorityLinkingRule;
 import org.folio.entlinks.integration.kafka.EventProducer;
 import org.folio.entlinks.service.links.InstanceAuthorityLinkingRulesService;
@@ -39,6 +41,7 @@ class MarcSpecificationUpdateServiceTest {
     var rule2 = new InstanceAuthorityLinkingRule();
     rule2.setBibField("200");
     when(linkingRulesService.getLinkingRules()).thenReturn(List.of(rule1, rule2));
+    when(eventProducer.sendMessages(anyList())).thenReturn(CompletableFuture.completedFuture(null));
 
     // Act
     service.sendSpecificationRequests();
@@ -70,6 +73,7 @@ class MarcSpecificationUpdateServiceTest {
     InstanceAuthorityLinkingRule rule2 = new InstanceAuthorityLinkingRule();
     rule2.setBibField("200");
     when(linkingRulesService.getLinkingRules()).thenReturn(List.of(rule1, rule2));
+    when(eventProducer.sendMessages(anyList())).thenReturn(CompletableFuture.completedFuture(null));
 
     // Act
     service.sendSpecificationRequests();
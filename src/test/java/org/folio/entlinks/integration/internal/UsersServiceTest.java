@@ -0,0 +1,134 @@
+package org.folio.entlinks.integration.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.folio.entlinks.client.UsersClient;
+import org.folio.entlinks.client.UsersClient.Personal;
+import org.folio.entlinks.client.UsersClient.User;
+import org.folio.entlinks.client.UsersClient.UserCollection;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class UsersServiceTest {
+
+  private static final String TENANT_ID = "test";
+
+  private @Mock UsersClient usersClient;
+  private @Mock FolioExecutionContext context;
+  private UsersService service;
+
+  @BeforeEach
+  void setUp() {
+    service = new UsersService(usersClient, context, new ConcurrentMapCache("test-cache"));
+  }
+
+  @Test
+  void getUsersPersonal_positive_fetchesDistinctUsersInSingleQuery() {
+    var userId1 = UUID.randomUUID();
+    var userId2 = UUID.randomUUID();
+    when(context.getTenantId()).thenReturn(TENANT_ID);
+    when(usersClient.query("id=(" + userId1 + " or " + userId2 + ")", 2))
+      .thenReturn(usersCollection(user(userId1, "John", "Doe"), user(userId2, "Quick", "Brown")));
+
+    var actual = service.getUsersPersonal(Arrays.asList(userId1, userId2, userId1, null));
+
+    assertThat(actual).isEqualTo(Map.of(
+      userId1, new Personal("John", "Doe"),
+      userId2, new Personal("Quick", "Brown")));
+  }
+
+  @Test
+  void getUsersPersonal_positive_fetchesOnlyUsersMissingInCache() {
+    var userId1 = UUID.randomUUID();
+    var userId2 = UUID.randomUUID();
+    when(context.getTenantId()).thenReturn(TENANT_ID);
+    when(usersClient.query("id=(" + userId1 + ")", 1)).thenReturn(usersCollection(user(userId1, "John", "Doe")));
+    when(usersClient.query("id=(" + userId2 + ")", 1)).thenReturn(usersCollection(user(userId2, "Quick", "Brown")));
+
+    service.getUsersPersonal(List.of(userId1));
+    var actual = service.getUsersPersonal(List.of(userId1, userId2));
+
+    assertThat(actual).containsOnlyKeys(userId1, userId2);
+    verify(usersClient).query("id=(" + userId1 + ")", 1);
+    verify(usersClient).query("id=(" + userId2 + ")", 1);
+  }
+
+  @Test
+  void getUsersPersonal_positive_fetchesUsersInBatchesWithLimit() {
+    var userIds = IntStream.range(0, UsersService.MAX_IDS_PER_QUERY + 1).mapToObj(i -> UUID.randomUUID()).toList();
+    when(context.getTenantId()).thenReturn(TENANT_ID);
+    when(usersClient.query(anyString(), anyInt())).thenAnswer(invocation -> {
+      var query = invocation.<String>getArgument(0);
+      return new UserCollection(userIds.stream()
+        .filter(userId -> query.contains(userId.toString()))
+        .map(userId -> user(userId, "John", "Doe"))
+        .toList());
+    });
+
+    var actual = service.getUsersPersonal(userIds);
+
+    assertThat(actual).containsOnlyKeys(userIds);
+    verify(usersClient).query(anyString(), eq(UsersService.MAX_IDS_PER_QUERY));
+    verify(usersClient).query("id=(" + userIds.getLast() + ")", 1);
+  }
+
+  @Test
+  void getUsersPersonal_positive_cachesUsersPerTenant() {
+    var userId = UUID.randomUUID();
+    when(context.getTenantId()).thenReturn(TENANT_ID, "other");
+    when(usersClient.query(anyString(), anyInt())).thenReturn(usersCollection(user(userId, "John", "Doe")));
+
+    service.getUsersPersonal(List.of(userId));
+    service.getUsersPersonal(List.of(userId));
+
+    verify(usersClient, times(2)).query(anyString(), anyInt());
+  }
+
+  @Test
+  void getUsersPersonal_negative_usersNotFound() {
+    var userId = UUID.randomUUID();
+    when(context.getTenantId()).thenReturn(TENANT_ID);
+    when(usersClient.query(anyString(), anyInt())).thenReturn(null, new UserCollection(null),
+      usersCollection(new User(userId.toString(), "no_personal", null)));
+
+    assertThat(service.getUsersPersonal(List.of(userId))).isEmpty();
+    assertThat(service.getUsersPersonal(List.of(userId))).isEmpty();
+    assertThat(service.getUsersPersonal(List.of(userId))).isEmpty();
+  }
+
+  @Test
+  void getUsersPersonal_negative_emptyIds() {
+    when(context.getTenantId()).thenReturn(TENANT_ID);
+
+    assertThat(service.getUsersPersonal(List.of())).isEmpty();
+    verifyNoInteractions(usersClient);
+  }
+
+  private UserCollection usersCollection(User... users) {
+    return new UserCollection(List.of(users));
+  }
+
+  private User user(UUID id, String firstName, String lastName) {
+    return new User(id.toString(), firstName.toLowerCase(), new Personal(firstName, lastName));
+  }
+}
@@ -72,6 +72,18 @@ class AuthorityChangeFilterStrategyTest {
     assertTrue(actual);
   }
 
+  @Test
+  void shouldFilterUpdateEvent_whenOnlyUntrackedFieldsChanged() {
+    var newRecord = new AuthorityDto().naturalId("1").personalName("name").subjectHeadings("a");
+    var oldRecord = new AuthorityDto().naturalId("1").personalName("name").subjectHeadings("b");
+    var event = new AuthorityDomainEvent(null, oldRecord, newRecord, UPDATE, null, null);
+    mockConsumerRecord(event);
+
+    var actual = filterStrategy.filter(consumerRecord);
+
+    assertTrue(actual);
+  }
+
   @Test
   void shouldNotFilterUpdateEvent_whenNewIsNull() {
     var oldRecord = new AuthorityDto().naturalId("1");
@@ -105,6 +117,15 @@ class AuthorityChangeFilterStrategyTest {
     assertTrue(actual);
   }
 
+  @Test
+  void shouldFilterEvent_whenSkippedByDeserializer() {
+    mockConsumerRecord(null);
+
+    var actual = filterStrategy.filter(consumerRecord);
+
+    assertTrue(actual);
+  }
+
   private void mockConsumerRecord(AuthorityDomainEvent event) {
     when(consumerRecord.value()).thenReturn(event);
   }
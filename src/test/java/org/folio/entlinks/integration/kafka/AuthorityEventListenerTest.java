@@ -1,24 +1,38 @@
 package org.folio.entlinks.integration.kafka;
 
 import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.folio.spring.integration.XOkapiHeaders.URL;
 import static org.folio.spring.integration.XOkapiHeaders.USER_ID;
 import static org.folio.support.MockingTestUtils.mockBatchFailedHandling;
 import static org.folio.support.MockingTestUtils.mockBatchSuccessHandling;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.folio.entlinks.config.properties.AuthorityListenerProperties;
 import org.folio.entlinks.domain.dto.AuthorityDto;
 import org.folio.entlinks.domain.dto.Metadata;
 import org.folio.entlinks.integration.dto.event.AuthorityDomainEvent;
@@ -32,8 +46,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @UnitTest
@@ -46,6 +62,8 @@ class AuthorityEventListenerTest {
   private InstanceAuthorityLinkUpdateService instanceAuthorityLinkUpdateService;
   @Mock
   private MessageBatchProcessor messageBatchProcessor;
+  @Spy
+  private AuthorityListenerProperties authorityListenerProperties;
 
   @Mock
   private ConsumerRecord<String, AuthorityDomainEvent> consumerRecord;
@@ -126,4 +144,107 @@ class AuthorityEventListenerTest {
 
     verify(instanceAuthorityLinkUpdateService, never()).handleAuthoritiesChanges(singletonList(event));
   }
+
+  @Test
+  void shouldHandleEvents_positive_authorityGroupsInParallelWithEventsOfAuthorityInOrder() {
+    var headers = new RecordHeaders();
+    headers.add(URL, "http://localhost:8081".getBytes());
+    var authorityIds = IntStream.range(0, 16).mapToObj(i -> UUID.randomUUID()).toList();
+    var records = new ArrayList<ConsumerRecord<String, AuthorityDomainEvent>>();
+    var eventsByAuthorityId = new HashMap<UUID, List<AuthorityDomainEvent>>();
+    for (int i = 0; i < 3; i++) {
+      for (var authorityId : authorityIds) {
+        var event = TestDataUtils.authorityEvent("UPDATE", new AuthorityDto().id(authorityId).personalName("n" + i),
+          new AuthorityDto().id(authorityId));
+        records.add(consumerRecord(authorityId, event, headers));
+        eventsByAuthorityId.computeIfAbsent(authorityId, id -> new ArrayList<>()).add(event);
+      }
+    }
+    var threads = ConcurrentHashMap.<String>newKeySet();
+    mockBatchSuccessHandling(messageBatchProcessor);
+    doAnswer(invocation -> threads.add(Thread.currentThread().getName()))
+      .when(instanceAuthorityLinkUpdateService).handleAuthoritiesChanges(anyList());
+
+    listener.handleEvents(records);
+
+    var eventsCaptor = eventsCaptor();
+    verify(instanceAuthorityLinkUpdateService, atLeast(2))
+      .handleAuthoritiesChanges(eventsCaptor.capture());
+    var batches = eventsCaptor.getAllValues();
+    assertThat(batches.stream().mapToInt(List::size).sum()).isEqualTo(records.size());
+    eventsByAuthorityId.forEach((authorityId, events) -> assertThat(batches)
+      .filteredOn(batch -> batch.stream().anyMatch(event -> event.getId().equals(authorityId)))
+      .singleElement()
+      .satisfies(batch -> assertThat(batch.stream().filter(event -> event.getId().equals(authorityId)).toList())
+        .containsExactlyElementsOf(events)));
+    assertThat(threads).allMatch(thread -> thread.startsWith("authority-listener-"));
+  }
+
+  @Test
+  void shouldHandleEvents_positive_eventsOfAuthorityFromDifferentUsersInOrder() {
+    var authorityId = UUID.randomUUID();
+    var userIds = List.of(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+    var records = new ArrayList<ConsumerRecord<String, AuthorityDomainEvent>>();
+    var events = new ArrayList<AuthorityDomainEvent>();
+    for (int i = 0; i < 3; i++) {
+      var headers = new RecordHeaders();
+      headers.add(URL, "http://localhost:8081".getBytes());
+      headers.add(USER_ID, userIds.get(i % 2).getBytes());
+      var event = TestDataUtils.authorityEvent("UPDATE", new AuthorityDto().id(authorityId).personalName("n" + i),
+        new AuthorityDto().id(authorityId));
+      records.add(consumerRecord(authorityId, event, headers));
+      events.add(event);
+    }
+    mockBatchSuccessHandling(messageBatchProcessor);
+
+    listener.handleEvents(records);
+
+    var inOrder = inOrder(executionService, instanceAuthorityLinkUpdateService);
+    for (int i = 0; i < 3; i++) {
+      Map<String, Collection<String>> expectedHeaders =
+        Map.of(USER_ID, List.of(userIds.get(i % 2)), URL, List.of("http://localhost:8081"));
+      inOrder.verify(executionService).execute(any(), eq(expectedHeaders), any(Callable.class));
+      inOrder.verify(instanceAuthorityLinkUpdateService).handleAuthoritiesChanges(singletonList(events.get(i)));
+    }
+  }
+
+  @Test
+  void shouldHandleEvents_negative_failureIsRethrownAfterAllAuthorityGroupsProcessed() {
+    var headers = new RecordHeaders();
+    headers.add(URL, "http://localhost:8081".getBytes());
+    var records = IntStream.range(0, 16)
+      .mapToObj(i -> {
+        var authorityId = UUID.randomUUID();
+        var event = TestDataUtils.authorityEvent("UPDATE", new AuthorityDto().id(authorityId),
+          new AuthorityDto().id(authorityId));
+        return consumerRecord(authorityId, event, headers);
+      })
+      .toList();
+    var groups = new AtomicInteger();
+    var processedEvents = new AtomicInteger();
+    doAnswer(invocation -> {
+      processedEvents.addAndGet(invocation.getArgument(0, List.class).size());
+      if (groups.incrementAndGet() == 1) {
+        throw new IllegalStateException("group failed");
+      }
+      return null;
+    }).when(messageBatchProcessor).consumeBatchWithFallback(any(), any(), any(), any());
+
+    assertThatThrownBy(() -> listener.handleEvents(records))
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessage("group failed");
+    assertThat(groups.get()).isGreaterThan(1);
+    assertThat(processedEvents).hasValue(records.size());
+  }
+
+  private ConsumerRecord<String, AuthorityDomainEvent> consumerRecord(UUID authorityId, AuthorityDomainEvent event,
+                                                                      RecordHeaders headers) {
+    return new ConsumerRecord<>("topic", 0, 0, 0, TimestampType.CREATE_TIME, 0, 0, authorityId.toString(), event,
+      headers, Optional.empty());
+  }
+
+  @SuppressWarnings("unchecked")
+  private ArgumentCaptor<List<AuthorityDomainEvent>> eventsCaptor() {
+    return ArgumentCaptor.forClass((Class<List<AuthorityDomainEvent>>) (Class<?>) List.class);
+  }
 }
@@ -0,0 +1,40 @@
+package org.folio.entlinks.integration.kafka;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import org.folio.entlinks.service.authority.AuthoritySourceFileCacheService;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class AuthoritySourceFileEventListenerTest {
+
+  private static final String TENANT_ID = "test-tenant";
+  private static final String KEY = "source-file-id";
+
+  @Mock
+  private AuthoritySourceFileCacheService cacheService;
+
+  @InjectMocks
+  private AuthoritySourceFileEventListener listener;
+
+  @Test
+  void handleEvent_positive_evictsSourceFilesOfTenant() {
+    listener.handleEvent(KEY, TENANT_ID);
+
+    verify(cacheService).evict(TENANT_ID);
+  }
+
+  @Test
+  void handleEvent_negative_doesNotEvictWhenTenantIdIsNull() {
+    listener.handleEvent(KEY, null);
+
+    verifyNoInteractions(cacheService);
+  }
+}
@@ -1,11 +1,17 @@
 package org.folio.entlinks.integration.kafka;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.folio.entlinks.domain.dto.AuthorityDto;
 import org.folio.entlinks.integration.dto.event.DomainEvent;
@@ -19,7 +25,9 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.KafkaException;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @UnitTest
@@ -55,6 +63,7 @@ class EventProducerTest {
     var payload = new AuthorityDto().id(messageId);
     var domainEvent = DomainEvent.createEvent(messageId, payload, TENANT_ID);
     final var expectedTopicName = "folio.COLLECTION." + TOPIC;
+    when(template.send(anyRecord())).thenReturn(CompletableFuture.completedFuture(null));
 
     eventProducer.sendMessage(messageId.toString(), domainEvent, "headerKey", "headerVal");
 
@@ -64,4 +73,62 @@ class EventProducerTest {
     assertEquals(expectedTopicName, capturedRecord.topic());
     assertEquals(domainEvent, capturedRecord.value());
   }
+
+  @Test
+  void shouldCompleteSendMessages_whenAllEventsAcknowledged() {
+    when(context.getTenantId()).thenReturn(TENANT_ID);
+    when(template.send(anyRecord())).thenReturn(CompletableFuture.completedFuture(null));
+
+    var result = eventProducer.sendMessages(List.of(domainEvent(), domainEvent()));
+
+    assertThat(result).isCompleted();
+    verify(template, times(2)).send(anyRecord());
+    assertEquals(2, eventProducer.getSentCount());
+    assertEquals(0, eventProducer.getFailedCount());
+  }
+
+  @Test
+  void shouldFailSendMessages_whenAnyEventFailed() {
+    when(context.getTenantId()).thenReturn(TENANT_ID);
+    when(template.send(anyRecord()))
+      .thenReturn(CompletableFuture.completedFuture(null))
+      .thenReturn(CompletableFuture.failedFuture(new KafkaException("failed")));
+
+    var result = eventProducer.sendMessages(List.of(domainEvent(), domainEvent()));
+
+    assertThat(result).isCompletedExceptionally();
+    assertEquals(1, eventProducer.getSentCount());
+    assertEquals(1, eventProducer.getFailedCount());
+  }
+
+  @Test
+  void shouldWaitForAcknowledgement_whenMaxInFlightReached() {
+    eventProducer = new EventProducer<>(template, TOPIC, 1);
+    ReflectionTestUtils.setField(eventProducer, "context", context);
+    when(context.getTenantId()).thenReturn(TENANT_ID);
+    var firstAck = new CompletableFuture<SendResult<String, DomainEvent<?>>>();
+    when(template.send(anyRecord()))
+      .thenReturn(firstAck)
+      .thenReturn(CompletableFuture.completedFuture(null));
+
+    var result = CompletableFuture.supplyAsync(() -> eventProducer.sendMessages(List.of(domainEvent(), domainEvent())))
+      .thenCompose(future -> future);
+
+    await().untilAsserted(() -> verify(template).send(anyRecord()));
+    assertThat(result).isNotDone();
+
+    firstAck.complete(null);
+
+    await().untilAsserted(() -> assertThat(result).isCompleted());
+    verify(template, times(2)).send(anyRecord());
+  }
+
+  private DomainEvent<?> domainEvent() {
+    var id = UUID.randomUUID();
+    return DomainEvent.createEvent(id, new AuthorityDto().id(id), TENANT_ID);
+  }
+
+  private static ProducerRecord<String, DomainEvent<?>> anyRecord() {
+    return any();
+  }
 }
@@ -0,0 +1,78 @@
+package org.folio.entlinks.integration.kafka.deserializer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.folio.entlinks.integration.dto.event.AuthorityDomainEvent;
+import org.folio.entlinks.integration.dto.event.DomainEventType;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class AuthorityDomainEventDeserializerTest {
+
+  private static final String TOPIC = "authorities.authority";
+  private static final byte[] DATA = "{}".getBytes(UTF_8);
+
+  @Mock
+  private Deserializer<AuthorityDomainEvent> delegate;
+
+  private AuthorityDomainEventDeserializer deserializer;
+
+  @BeforeEach
+  void setUp() {
+    deserializer = new AuthorityDomainEventDeserializer(delegate);
+  }
+
+  @ParameterizedTest
+  @EnumSource(value = DomainEventType.class, names = {"CREATE", "REINDEX"})
+  void shouldSkipDeserialization_whenEventTypeIsNotProcessed(DomainEventType type) {
+    var headers = new RecordHeaders().add("domain-event-type", type.name().getBytes(UTF_8));
+
+    var actual = deserializer.deserialize(TOPIC, headers, DATA);
+
+    assertThat(actual).isNull();
+    verifyNoInteractions(delegate);
+    assertThat(deserializer.getSkippedCount()).isEqualTo(1);
+    assertThat(deserializer.getDeserializedCount()).isZero();
+  }
+
+  @ParameterizedTest
+  @EnumSource(value = DomainEventType.class, names = {"UPDATE", "DELETE"})
+  void shouldDeserialize_whenEventTypeIsProcessed(DomainEventType type) {
+    var headers = new RecordHeaders().add("domain-event-type", type.name().getBytes(UTF_8));
+    var expected = new AuthorityDomainEvent();
+    when(delegate.deserialize(TOPIC, headers, DATA)).thenReturn(expected);
+
+    var actual = deserializer.deserialize(TOPIC, headers, DATA);
+
+    assertThat(actual).isSameAs(expected);
+    assertThat(deserializer.getSkippedCount()).isZero();
+    assertThat(deserializer.getDeserializedCount()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldDeserialize_whenEventTypeHeaderIsMissing() {
+    var headers = new RecordHeaders();
+    var expected = new AuthorityDomainEvent();
+    when(delegate.deserialize(any(), any(), any())).thenReturn(expected);
+
+    var actual = deserializer.deserialize(TOPIC, headers, DATA);
+
+    assertThat(actual).isSameAs(expected);
+    verify(delegate).deserialize(TOPIC, headers, DATA);
+  }
+}
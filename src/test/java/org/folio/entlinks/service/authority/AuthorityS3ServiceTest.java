@@ -1,10 +1,13 @@
 package org.folio.entlinks.service.authority;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -13,12 +16,17 @@ import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.folio.entlinks.config.properties.AuthorityBulkProperties;
 import org.folio.entlinks.controller.converter.AuthorityMapperImpl;
+import org.folio.entlinks.domain.dto.AuthorityDto;
 import org.folio.entlinks.domain.entity.Authority;
 import org.folio.spring.testing.type.UnitTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import tools.jackson.databind.ObjectMapper;
@@ -34,11 +42,15 @@ class AuthorityS3ServiceTest {
   private AuthorityMapperImpl mapper;
   @Mock
   private Consumer<List<Authority>> bulkConsumer;
+  @Captor
+  private ArgumentCaptor<List<Authority>> captor;
+  private final AuthorityBulkProperties bulkProperties = new AuthorityBulkProperties();
   private AuthorityS3Service authorityS3Service;
 
   @BeforeEach
   void setUp() {
-    authorityS3Service = new AuthorityS3Service(s3Client, new ObjectMapper(), mapper);
+    bulkProperties.setChunkSize(2);
+    authorityS3Service = new AuthorityS3Service(s3Client, new ObjectMapper(), mapper, bulkProperties);
   }
 
   @Test
@@ -46,14 +58,14 @@ class AuthorityS3ServiceTest {
     // Arrange
     AuthoritiesBulkContext bulkContext = mock(AuthoritiesBulkContext.class);
     var authorityJson = "{\"id\": \"" + AUTHORITY_UUID + "\", \"personalName\": \"Test Authority\"}";
-    when(s3Client.readFile(any())).thenReturn(List.of(authorityJson));
+    when(s3Client.readFile(any())).thenReturn(Stream.of(authorityJson));
     when(mapper.toEntity(any())).thenCallRealMethod();
 
     // Act
-    int errorCount = authorityS3Service.processAuthorities(bulkContext, bulkConsumer);
+    var result = authorityS3Service.processAuthorities(bulkContext, bulkConsumer);
 
     // Assert
-    assertEquals(0, errorCount);
+    assertEquals(new AuthoritiesBulkResult(0, 0, 0), result);
     var testAuthority = new Authority();
     testAuthority.setId(UUID.fromString(AUTHORITY_UUID));
     testAuthority.setHeading("Test Authority");
@@ -69,14 +81,14 @@ class AuthorityS3ServiceTest {
     var bulkContext = spy(new AuthoritiesBulkContext("test", "localSubPath"));
     var authoritiesJson = List.of("{\"id\": \"" + AUTHORITY_UUID + "\", \"personalName\": \"Test Authority 1\"}",
         "{\"id\": \"invalidId\", \"personalName\": \"Test Authority 2\"}");
-    when(s3Client.readFile(any())).thenReturn(authoritiesJson);
+    when(s3Client.readFile(any())).thenReturn(authoritiesJson.stream());
     when(mapper.toEntity(any())).thenCallRealMethod();
 
     // Act
-    int errorCount = authorityS3Service.processAuthorities(bulkContext, bulkConsumer);
+    var result = authorityS3Service.processAuthorities(bulkContext, bulkConsumer);
 
     // Assert
-    assertEquals(1, errorCount);
+    assertEquals(1, result.errorsCount());
     assertEquals("localSubPath/test_failedEntities", bulkContext.getLocalFailedEntitiesFile().getPath());
     assertEquals("localSubPath/test_errors", bulkContext.getLocalErrorsFile().getPath());
     var testAuthority = new Authority();
@@ -88,4 +100,86 @@ class AuthorityS3ServiceTest {
     verify(bulkContext).deleteLocalFiles();
     verify(s3Client).uploadErrorFiles(any());
   }
+
+  @Test
+  void processAuthorities_multipleChunks_eachChunkConsumedSeparately() throws IOException {
+    // Arrange
+    AuthoritiesBulkContext bulkContext = mock(AuthoritiesBulkContext.class);
+    var ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+    var authoritiesJson = ids.stream()
+      .map(id -> "{\"id\": \"" + id + "\", \"personalName\": \"Test Authority\"}");
+    when(s3Client.readFile(any())).thenReturn(authoritiesJson);
+    when(mapper.toEntity(any())).thenCallRealMethod();
+
+    // Act
+    var result = authorityS3Service.processAuthorities(bulkContext, bulkConsumer);
+
+    // Assert
+    assertEquals(new AuthoritiesBulkResult(0, 0, 0), result);
+    verify(bulkConsumer, times(2)).accept(captor.capture());
+    assertThat(captor.getAllValues())
+      .map(chunk -> chunk.stream().map(Authority::getId).toList())
+      .containsExactly(ids.subList(0, 2), ids.subList(2, 3));
+    verify(bulkContext).deleteLocalFiles();
+    verify(s3Client, never()).uploadErrorFiles(any());
+  }
+
+  @Test
+  void processAuthorities_failedChunk_splitUntilFailedAuthorityIsolated() throws IOException {
+    // Arrange
+    var bulkContext = spy(new AuthoritiesBulkContext("test", "localSubPath"));
+    var ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+    var authoritiesJson = ids.stream()
+      .map(id -> "{\"id\": \"" + id + "\", \"personalName\": \"Test Authority\"}");
+    when(s3Client.readFile(any())).thenReturn(authoritiesJson);
+    when(mapper.toEntity(any())).thenCallRealMethod();
+    when(mapper.toDto(any(Authority.class)))
+      .thenAnswer(invocation -> new AuthorityDto().id(invocation.<Authority>getArgument(0).getId()));
+    doAnswer(invocation -> {
+      List<Authority> chunk = invocation.getArgument(0);
+      if (chunk.size() > 1 || chunk.getFirst().getId().equals(ids.get(1))) {
+        throw new IllegalStateException("failed");
+      }
+      return null;
+    }).when(bulkConsumer).accept(any());
+
+    // Act
+    var result = authorityS3Service.processAuthorities(bulkContext, bulkConsumer);
+
+    // Assert
+    assertEquals(new AuthoritiesBulkResult(1, 1, 1), result);
+    verify(bulkConsumer, times(3)).accept(any());
+    verify(s3Client).uploadErrorFiles(bulkContext);
+    verify(bulkContext).deleteLocalFiles();
+  }
+
+  @Test
+  void processAuthorities_failedChunk_notFailedHalvesSavedAsBatches() throws IOException {
+    // Arrange
+    bulkProperties.setChunkSize(4);
+    AuthoritiesBulkContext bulkContext = spy(new AuthoritiesBulkContext("test", "localSubPath"));
+    var ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+    var authoritiesJson = ids.stream()
+      .map(id -> "{\"id\": \"" + id + "\", \"personalName\": \"Test Authority\"}");
+    when(s3Client.readFile(any())).thenReturn(authoritiesJson);
+    when(mapper.toEntity(any())).thenCallRealMethod();
+    when(mapper.toDto(any(Authority.class)))
+      .thenAnswer(invocation -> new AuthorityDto().id(invocation.<Authority>getArgument(0).getId()));
+    doAnswer(invocation -> {
+      List<Authority> chunk = invocation.getArgument(0);
+      if (chunk.stream().anyMatch(authority -> authority.getId().equals(ids.get(0)))) {
+        throw new IllegalStateException("failed");
+      }
+      return null;
+    }).when(bulkConsumer).accept(any());
+
+    // Act
+    var result = authorityS3Service.processAuthorities(bulkContext, bulkConsumer);
+
+    // Assert
+    assertEquals(new AuthoritiesBulkResult(1, 2, 1), result);
+    verify(bulkConsumer, times(5)).accept(captor.capture());
+    assertThat(captor.getAllValues()).map(List::size).containsExactly(4, 2, 1, 1, 2);
+    verify(s3Client).uploadErrorFiles(bulkContext);
+  }
 }
@@ -0,0 +1,212 @@
+package org.folio.entlinks.service.authority;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.folio.entlinks.domain.entity.AuthoritySourceFile;
+import org.folio.entlinks.domain.entity.AuthoritySourceFileCode;
+import org.folio.entlinks.domain.repository.AuthoritySourceFileRepository;
+import org.folio.entlinks.exception.AuthoritySourceFileNotFoundException;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class AuthoritySourceFileCacheServiceTest {
+
+  private static final String TENANT_ID = "test";
+
+  @Mock
+  private AuthoritySourceFileRepository repository;
+  @Mock
+  private FolioExecutionContext context;
+
+  private AuthoritySourceFileCacheService service;
+
+  @BeforeEach
+  void setUp() {
+    service = new AuthoritySourceFileCacheService(repository, context, new ConcurrentMapCache("test-cache"));
+    service.setMissReloadInterval(Duration.ZERO);
+  }
+
+  @Test
+  void findById_positive_loadsAllSourceFilesOnce() {
+    var sourceFile1 = sourceFile("lcsh");
+    var sourceFile2 = sourceFile("fst", "fast");
+    when(context.getTenantId()).thenReturn(TENANT_ID);
+    when(repository.findAllWithCodes()).thenReturn(List.of(sourceFile1, sourceFile2));
+
+    var actual1 = service.findById(sourceFile1.getId());
+    var actual2 = service.getById(sourceFile2.getId());
+    var byCode = service.findByCode("fast");
+
+    assertThat(actual1.getName()).isEqualTo(sourceFile1.getName());
+    assertThat(actual2.getName()).isEqualTo(sourceFile2.getName());
+    assertThat(byCode.getId()).isEqualTo(sourceFile2.getId());
+    verify(repository).findAllWithCodes();
+  }
+
+  @Test
+  void findById_positive_reloadsSourceFilesOnMiss() {
+    var sourceFile = sourceFile("lcsh");
+    var created = sourceFile("fst");
+    when(context.getTenantId()).thenReturn(TENANT_ID);
+    when(repository.findAllWithCodes()).thenReturn(List.of(sourceFile), List.of(sourceFile, created));
+
+    service.findById(sourceFile.getId());
+    var actual = service.findById(created.getId());
+    var byCode = service.findByCode("fst");
+
+    assertThat(actual.getName()).isEqualTo(created.getName());
+    assertThat(byCode.getId()).isEqualTo(created.getId());
+    verify(repository, times(2)).findAllWithCodes();
+  }
+
+  @Test
+  void findById_negative_notFoundAfterReload() {
+    var sourceFile = sourceFile("lcsh");
+    when(context.getTenantId()).thenReturn(TENANT_ID);
+    when(repository.findAllWithCodes()).thenReturn(List.of(sourceFile));
+
+    assertThat(service.findById(UUID.randomUUID())).isNull();
+    assertThat(service.findByCode("unknown")).isNull();
+    verify(repository, times(3)).findAllWithCodes();
+  }
+
+  @Test
+  void findById_positive_missIsNotReloadedWithinInterval() {
+    var sourceFile = sourceFile("lcsh");
+    service.setMissReloadInterval(Duration.ofMinutes(1));
+    when(context.getTenantId()).thenReturn(TENANT_ID);
+    when(repository.findAllWithCodes()).thenReturn(List.of(sourceFile));
+
+    assertThat(service.findById(UUID.randomUUID())).isNull();
+    assertThat(service.findByCode("unknown")).isNull();
+    assertThat(service.findByIds(List.of(sourceFile.getId(), UUID.randomUUID()))).containsOnlyKeys(sourceFile.getId());
+    verify(repository).findAllWithCodes();
+  }
+
+  @Test
+  void findById_positive_reloadsSourceFilesAfterTenantEvict() {
+    var sourceFile = sourceFile("lcsh");
+    when(context.getTenantId()).thenReturn(TENANT_ID);
+    when(repository.findAllWithCodes()).thenReturn(List.of(sourceFile));
+
+    service.findById(sourceFile.getId());
+    service.evict("other");
+    service.findById(sourceFile.getId());
+    service.evict(TENANT_ID);
+    service.findById(sourceFile.getId());
+
+    verify(repository, times(2)).findAllWithCodes();
+  }
+
+  @Test
+  void findById_positive_loadsSourceFilesPerTenant() {
+    var sourceFile = sourceFile("lcsh");
+    when(context.getTenantId()).thenReturn(TENANT_ID, "other");
+    when(repository.findAllWithCodes()).thenReturn(List.of(sourceFile));
+
+    service.findById(sourceFile.getId());
+    service.findById(sourceFile.getId());
+
+    verify(repository, times(2)).findAllWithCodes();
+  }
+
+  @Test
+  void findById_positive_reloadsSourceFilesAfterEvict() {
+    var sourceFile = sourceFile("lcsh");
+    var updated = sourceFile("lcsh");
+    updated.setId(sourceFile.getId());
+    updated.setName("updated");
+    when(context.getTenantId()).thenReturn(TENANT_ID);
+    when(repository.findAllWithCodes()).thenReturn(List.of(sourceFile), List.of(updated));
+
+    service.findById(sourceFile.getId());
+    service.evict();
+    var actual = service.findById(sourceFile.getId());
+
+    assertThat(actual.getName()).isEqualTo("updated");
+    verify(repository, times(2)).findAllWithCodes();
+  }
+
+  @Test
+  void findById_negative_nullId() {
+    assertThat(service.findById(null)).isNull();
+    assertThat(service.findByCode(null)).isNull();
+    verifyNoInteractions(repository, context);
+  }
+
+  @Test
+  void findByIds_positive_loadsSourceFilesOnce() {
+    var sourceFile1 = sourceFile("lcsh");
+    var sourceFile2 = sourceFile("fst");
+    when(context.getTenantId()).thenReturn(TENANT_ID);
+    when(repository.findAllWithCodes()).thenReturn(List.of(sourceFile1, sourceFile2, sourceFile("local")));
+
+    var actual = service.findByIds(Arrays.asList(sourceFile1.getId(), sourceFile2.getId(), sourceFile1.getId(), null));
+
+    assertThat(actual).containsOnlyKeys(sourceFile1.getId(), sourceFile2.getId());
+    assertThat(actual.get(sourceFile1.getId()).getName()).isEqualTo(sourceFile1.getName());
+    assertThat(actual.get(sourceFile2.getId()).getName()).isEqualTo(sourceFile2.getName());
+    verify(repository).findAllWithCodes();
+  }
+
+  @Test
+  void findByIds_positive_reloadsSourceFilesOnMiss() {
+    var sourceFile = sourceFile("lcsh");
+    var created = sourceFile("fst");
+    when(context.getTenantId()).thenReturn(TENANT_ID);
+    when(repository.findAllWithCodes()).thenReturn(List.of(sourceFile), List.of(sourceFile, created));
+
+    service.findById(sourceFile.getId());
+    var actual = service.findByIds(List.of(sourceFile.getId(), created.getId(), UUID.randomUUID()));
+
+    assertThat(actual).containsOnlyKeys(sourceFile.getId(), created.getId());
+    verify(repository, times(2)).findAllWithCodes();
+  }
+
+  @Test
+  void findByIds_negative_emptyIds() {
+    assertThat(service.findByIds(List.of())).isEqualTo(Map.of());
+    verifyNoInteractions(repository, context);
+  }
+
+  @Test
+  void getById_negative_notFound() {
+    var id = UUID.randomUUID();
+    when(context.getTenantId()).thenReturn(TENANT_ID);
+    when(repository.findAllWithCodes()).thenReturn(List.of());
+
+    assertThatThrownBy(() -> service.getById(id))
+      .isInstanceOf(AuthoritySourceFileNotFoundException.class);
+    verify(repository, times(2)).findAllWithCodes();
+  }
+
+  private AuthoritySourceFile sourceFile(String... codes) {
+    var sourceFile = new AuthoritySourceFile();
+    sourceFile.setId(UUID.randomUUID());
+    sourceFile.setName("source file " + codes[0]);
+    for (var code : codes) {
+      var sourceFileCode = new AuthoritySourceFileCode();
+      sourceFileCode.setCode(code);
+      sourceFile.addCode(sourceFileCode);
+    }
+    return sourceFile;
+  }
+}
@@ -70,6 +70,8 @@ class AuthoritySourceFileServiceTest {
   private FolioExecutionContext context;
   @Mock
   private FolioModuleMetadata moduleMetadata;
+  @Mock
+  private AuthoritySourceFileCacheService cacheService;
 
   @InjectMocks
   private AuthoritySourceFileService service;
@@ -173,6 +175,7 @@ class AuthoritySourceFileServiceTest {
 
     expected.setId(created.getId());
     assertThat(created).isEqualTo(expected);
+    verify(cacheService).evict();
   }
 
   @ParameterizedTest
@@ -222,6 +225,7 @@ class AuthoritySourceFileServiceTest {
     verify(repository).saveAndFlush(argThat(authoritySourceFileMatch(expected)));
     verify(jdbcRepository).createSequence(existing.getSequenceName(), modified.getHridStartNumber());
     verify(jdbcRepository).dropSequence(existing.getSequenceName());
+    verify(cacheService).evict();
   }
 
   @ValueSource(ints = 1)
@@ -294,7 +298,7 @@ class AuthoritySourceFileServiceTest {
     assertThat(thrown.getInvalidParameters()).hasSize(1);
     assertThat(thrown.getInvalidParameters().getFirst().getKey()).isEqualTo("id");
     assertThat(thrown.getInvalidParameters().getFirst().getValue()).isEqualTo(id.toString());
-    verifyNoInteractions(repository);
+    verifyNoInteractions(repository, cacheService);
   }
 
   @ParameterizedTest
@@ -332,6 +336,7 @@ class AuthoritySourceFileServiceTest {
 
     verify(repository).findById(any(UUID.class));
     verify(repository).deleteById(any(UUID.class));
+    verify(cacheService).evict();
   }
 
   @Test
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -40,7 +41,7 @@ class BulkAuthorityS3ClientTest {
     when(s3Client.read(remoteFileName)).thenReturn(inputStream);
 
     // Act
-    var resultList = client.readFile(remoteFileName);
+    var resultList = client.readFile(remoteFileName).toList();
 
     // Assert
     assertEquals(1, resultList.size());
@@ -56,12 +57,28 @@ class BulkAuthorityS3ClientTest {
     when(s3Client.read(remoteFileName)).thenReturn(inputStream);
 
     // Act
-    var resultList = client.readFile(remoteFileName);
+    var resultList = client.readFile(remoteFileName).toList();
 
     // Assert
     assertThat(resultList).isEmpty();
   }
 
+  @Test
+  void readFile_ReadsLinesLazilyAndClosesInputStream() throws IOException {
+    // Arrange
+    var remoteFileName = "test-file";
+    var inputStream = spy(new ByteArrayInputStream("first\nsecond\nthird".getBytes()));
+    when(s3Client.read(remoteFileName)).thenReturn(inputStream);
+
+    // Act
+    try (var lines = client.readFile(remoteFileName)) {
+      assertThat(lines.limit(2)).containsExactly("first", "second");
+    }
+
+    // Assert
+    verify(inputStream).close();
+  }
+
   @Test
   void readFile_ThrowsIllegalStateExceptionWhenIoExceptionOccurs() {
     // Arrange
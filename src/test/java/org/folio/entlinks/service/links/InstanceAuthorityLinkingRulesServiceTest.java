@@ -3,6 +3,7 @@ package org.folio.entlinks.service.links;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -15,11 +16,17 @@ import org.folio.entlinks.domain.entity.InstanceAuthorityLinkingRule;
 import org.folio.entlinks.domain.repository.LinkingRulesRepository;
 import org.folio.entlinks.exception.LinkingRuleNotFoundException;
 import org.folio.entlinks.service.links.validator.LinkingRuleValidator;
+import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Sort;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -27,13 +34,23 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 @UnitTest
 @ExtendWith(SpringExtension.class)
-@Import(InstanceAuthorityLinkingRulesService.class)
+@Import({InstanceAuthorityLinkingRulesService.class, InstanceAuthorityLinkingRulesServiceTest.CacheTestConfig.class})
 class InstanceAuthorityLinkingRulesServiceTest {
 
+  private static final String TENANT_ID = "test";
+
   private @MockitoBean LinkingRulesRepository repository;
   private @MockitoBean LinkingRuleValidator validator;
+  private @MockitoBean FolioExecutionContext folioExecutionContext;
 
   private @Autowired InstanceAuthorityLinkingRulesService service;
+  private @Autowired Cache linkingRulesCache;
+
+  @BeforeEach
+  void setUp() {
+    linkingRulesCache.clear();
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+  }
 
   @Test
   void getLinkingRules_positive() {
@@ -66,12 +83,93 @@ class InstanceAuthorityLinkingRulesServiceTest {
       .subfieldModifications(List.of(new SubfieldModification().target("a").source("b")))
       .build();
 
-    when(repository.findByAuthorityField(authorityField)).thenReturn(List.of(rule));
+    var otherRule = InstanceAuthorityLinkingRule.builder()
+      .id(2)
+      .bibField("110")
+      .authorityField("110")
+      .build();
+
+    when(repository.findAll(any(Sort.class))).thenReturn(List.of(rule, otherRule));
 
     var actual = service.getLinkingRulesByAuthorityField(authorityField);
 
     assertThat(actual)
       .containsExactlyInAnyOrder(rule);
+    assertThat(service.getLinkingRulesByAuthorityField("130")).isEmpty();
+  }
+
+  @Test
+  void getLinkingRulesByBibField_positive() {
+    var rule1 = InstanceAuthorityLinkingRule.builder().id(1).bibField("600").authorityField("100").build();
+    var rule2 = InstanceAuthorityLinkingRule.builder().id(2).bibField("600").authorityField("110").build();
+    var rule3 = InstanceAuthorityLinkingRule.builder().id(3).bibField("100").authorityField("100").build();
+
+    when(repository.findAll(any(Sort.class))).thenReturn(List.of(rule1, rule2, rule3));
+
+    var actual = service.getLinkingRulesByBibField();
+
+    assertThat(actual)
+      .containsOnlyKeys("600", "100")
+      .containsEntry("600", List.of(rule1, rule2))
+      .containsEntry("100", List.of(rule3));
+  }
+
+  @Test
+  void getLinkingRules_positive_loadedOncePerTenant() {
+    var rule = InstanceAuthorityLinkingRule.builder().id(1).bibField("100").authorityField("100").build();
+
+    when(repository.findAll(any(Sort.class))).thenReturn(List.of(rule));
+
+    service.getLinkingRules();
+    service.getLinkingRulesByBibField();
+    service.getLinkingRulesByAuthorityField("100");
+
+    when(folioExecutionContext.getTenantId()).thenReturn("other");
+    service.getLinkingRules();
+
+    verify(repository, times(2)).findAll(any(Sort.class));
+  }
+
+  @Test
+  void getLinkingRules_positive_reloadedWhenVersionChanged() {
+    var rule = InstanceAuthorityLinkingRule.builder().id(1).bibField("100").authorityField("100").build();
+    var updated = InstanceAuthorityLinkingRule.builder().id(1).bibField("100").authorityField("100")
+      .autoLinkingEnabled(true).version(1).build();
+
+    when(repository.getRulesVersion()).thenReturn(0L, 0L, 1L);
+    when(repository.findAll(any(Sort.class))).thenReturn(List.of(rule), List.of(updated));
+
+    service.getLinkingRules();
+    service.getLinkingRules();
+    var actual = service.getLinkingRules();
+
+    assertThat(actual).singleElement()
+      .extracting(InstanceAuthorityLinkingRule::getAutoLinkingEnabled)
+      .isEqualTo(true);
+    verify(repository, times(2)).findAll(any(Sort.class));
+  }
+
+  @Test
+  void getLinkingRules_positive_cachedRulesAreCopies() {
+    var rule = InstanceAuthorityLinkingRule.builder()
+      .id(1)
+      .bibField("100")
+      .authorityField("100")
+      .authoritySubfields(new char[] {'a', 'b'})
+      .autoLinkingEnabled(false)
+      .build();
+
+    when(repository.findAll(any(Sort.class))).thenReturn(List.of(rule));
+
+    var actual = service.getLinkingRules();
+    rule.setAutoLinkingEnabled(true);
+    rule.getAuthoritySubfields()[0] = 'z';
+
+    assertThat(actual).singleElement().isNotSameAs(rule);
+    assertThat(service.getLinkingRules().getFirst())
+      .extracting(InstanceAuthorityLinkingRule::getAutoLinkingEnabled,
+        InstanceAuthorityLinkingRule::getAuthoritySubfields)
+      .containsExactly(false, new char[] {'a', 'b'});
   }
 
   @Test
@@ -126,8 +224,11 @@ class InstanceAuthorityLinkingRulesServiceTest {
     linkingRulePatch.setSubfieldModifications(Collections.emptyList());
     linkingRulePatch.setSubfieldsExistenceValidations(Collections.emptyMap());
     linkingRulePatch.setAutoLinkingEnabled(true);
+    when(repository.findAll(any(Sort.class))).thenReturn(List.of(existedRule));
+    service.getLinkingRules();
     service.updateLinkingRule(ruleId, linkingRulePatch);
 
+    assertThat(linkingRulesCache.get(TENANT_ID)).isNull();
     var ruleUpdateCaptor = ArgumentCaptor.forClass(InstanceAuthorityLinkingRule.class);
 
     verify(repository).save(ruleUpdateCaptor.capture());
@@ -160,4 +261,13 @@ class InstanceAuthorityLinkingRulesServiceTest {
       .isInstanceOf(LinkingRuleNotFoundException.class)
       .hasMessage(String.format("Linking rule with ID [%s] was not found", ruleId));
   }
+
+  @TestConfiguration
+  static class CacheTestConfig {
+
+    @Bean
+    Cache linkingRulesCache() {
+      return new ConcurrentMapCache("linking-rules-cache");
+    }
+  }
 }
@@ -14,15 +14,16 @@ import static org.folio.support.TestDataUtils.report;
 import static org.folio.support.TestDataUtils.reports;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.sql.SQLException;
 import java.time.OffsetDateTime;
 import java.util.Collections;
 import java.util.HashMap;
@@ -30,8 +31,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
-import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import org.folio.entlinks.config.properties.InstanceAuthorityChangeProperties;
 import org.folio.entlinks.domain.dto.LinkStatus;
 import org.folio.entlinks.domain.dto.LinkUpdateReport;
 import org.folio.entlinks.domain.entity.InstanceAuthorityLink;
@@ -39,11 +40,12 @@ import org.folio.entlinks.domain.entity.InstanceAuthorityLinkStatus;
 import org.folio.entlinks.domain.entity.projection.InstanceLinkView;
 import org.folio.entlinks.domain.entity.projection.LinkCountView;
 import org.folio.entlinks.domain.entity.projection.LinkCountViewImpl;
+import org.folio.entlinks.domain.repository.InstanceLinkJdbcRepository;
+import org.folio.entlinks.domain.repository.InstanceLinkJdbcRepository.LinkStatusUpdate;
 import org.folio.entlinks.domain.repository.InstanceLinkRepository;
 import org.folio.entlinks.exception.AuthorityNotFoundException;
 import org.folio.entlinks.service.authority.AuthorityService;
 import org.folio.spring.testing.type.UnitTest;
-import org.folio.support.TestDataUtils;
 import org.folio.support.TestDataUtils.Link;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -51,10 +53,9 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.BadSqlGrammarException;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
@@ -63,7 +64,9 @@ class InstanceAuthorityLinkingServiceTest {
   private static final String REPORT_ERROR = "error";
 
   @Mock private InstanceLinkRepository instanceLinkRepository;
+  @Mock private InstanceLinkJdbcRepository instanceLinkJdbcRepository;
   @Mock private AuthorityService authorityService;
+  @Mock private InstanceAuthorityChangeProperties changeProperties;
 
   @InjectMocks
   private InstanceAuthorityLinkingService service;
@@ -109,11 +112,10 @@ class InstanceAuthorityLinkingServiceTest {
       Link.of(1, 1)
     );
 
-    var linkPage = new PageImpl<>(links);
+    when(instanceLinkRepository.findByAuthorityIdAndIdGreaterThanOrderById(any(UUID.class), eq(0L), eq(Limit.of(2))))
+      .thenReturn(links);
 
-    when(instanceLinkRepository.findByAuthorityId(any(UUID.class), any(Pageable.class))).thenReturn(linkPage);
-
-    var result = service.getLinksByAuthorityId(UUID.randomUUID(), Pageable.ofSize(2));
+    var result = service.getLinksByAuthorityId(UUID.randomUUID(), 0L, 2);
 
     assertThat(result)
       .hasSize(links.size())
@@ -166,7 +168,7 @@ class InstanceAuthorityLinkingServiceTest {
     assertThatThrownBy(() -> service.updateLinks(instanceId, incomingLinks))
       .isInstanceOf(AuthorityNotFoundException.class);
 
-    verify(instanceLinkRepository, never()).saveAll(anyList());
+    verify(instanceLinkJdbcRepository, never()).insertAll(anyList());
     verify(instanceLinkRepository, never()).deleteAllInBatch(anyList());
   }
 
@@ -190,14 +192,12 @@ class InstanceAuthorityLinkingServiceTest {
     when(instanceLinkRepository.findByInstanceId(any(UUID.class))).thenReturn(emptyList());
     when(authorityService.authoritiesExist(anySet())).thenReturn(localAuthorities);
     when(authorityService.authoritiesExistForCentralIfOnMember(anySet())).thenReturn(sharedAuthorities);
-    when(instanceLinkRepository.saveAll(any())).thenReturn(emptyList());
-    doNothing().when(instanceLinkRepository).deleteAllInBatch(any());
 
     service.updateLinks(instanceId, incomingLinks);
 
     verify(authorityService).authoritiesExist(authorityIds);
     verify(authorityService).authoritiesExistForCentralIfOnMember(authorityIds);
-    verify(instanceLinkRepository).saveAll(anyList());
+    verify(instanceLinkJdbcRepository).insertAll(anyList());
   }
 
   @Test
@@ -206,22 +206,17 @@ class InstanceAuthorityLinkingServiceTest {
     final var incomingLinks = links(instanceId, Link.of(0, 0), Link.of(1, 1));
 
     when(instanceLinkRepository.findByInstanceId(any(UUID.class))).thenReturn(emptyList());
-    doNothing().when(instanceLinkRepository).deleteAllInBatch(any());
-    when(instanceLinkRepository.saveAll(any())).thenReturn(emptyList());
     mockAuthorities(incomingLinks);
 
     service.updateLinks(instanceId, incomingLinks);
 
     var saveCaptor = linksCaptor();
-    var deleteCaptor = linksCaptor();
-    verify(instanceLinkRepository).saveAll(saveCaptor.capture());
-    verify(instanceLinkRepository).deleteAllInBatch(deleteCaptor.capture());
+    verify(instanceLinkJdbcRepository).insertAll(saveCaptor.capture());
+    verify(instanceLinkRepository, never()).deleteAllInBatch(any());
 
     assertThat(saveCaptor.getValue()).hasSize(2)
       .extracting(link -> link.getLinkingRule().getBibField())
       .containsOnly(Link.TAGS[0], Link.TAGS[1]);
-
-    assertThat(deleteCaptor.getValue()).isEmpty();
   }
 
   @Test
@@ -235,13 +230,12 @@ class InstanceAuthorityLinkingServiceTest {
 
     when(instanceLinkRepository.findByInstanceId(any(UUID.class))).thenReturn(linkViews);
     doNothing().when(instanceLinkRepository).deleteAllInBatch(any());
-    when(instanceLinkRepository.saveAll(any())).thenReturn(emptyList());
 
     service.updateLinks(instanceId, incomingLinks);
 
     var saveCaptor = linksCaptor();
     var deleteCaptor = linksCaptor();
-    verify(instanceLinkRepository).saveAll(saveCaptor.capture());
+    verify(instanceLinkJdbcRepository).insertAll(saveCaptor.capture());
     verify(instanceLinkRepository).deleteAllInBatch(deleteCaptor.capture());
 
     assertThat(saveCaptor.getValue()).isEmpty();
@@ -273,14 +267,13 @@ class InstanceAuthorityLinkingServiceTest {
 
     when(instanceLinkRepository.findByInstanceId(instanceId)).thenReturn(linkViews);
     doNothing().when(instanceLinkRepository).deleteAllInBatch(any());
-    when(instanceLinkRepository.saveAll(any())).thenReturn(emptyList());
     mockAuthorities(incomingLinks);
 
     service.updateLinks(instanceId, incomingLinks);
 
     var saveCaptor = linksCaptor();
     var deleteCaptor = linksCaptor();
-    verify(instanceLinkRepository).saveAll(saveCaptor.capture());
+    verify(instanceLinkJdbcRepository).insertAll(saveCaptor.capture());
     verify(instanceLinkRepository).deleteAllInBatch(deleteCaptor.capture());
 
     assertThat(saveCaptor.getValue()).hasSize(4)
@@ -310,22 +303,17 @@ class InstanceAuthorityLinkingServiceTest {
       .toList();
 
     when(instanceLinkRepository.findByInstanceId(instanceId)).thenReturn(linkViews);
-    doNothing().when(instanceLinkRepository).deleteAllInBatch(any());
-    when(instanceLinkRepository.saveAll(any())).thenReturn(emptyList());
     mockAuthorities(incomingLinks);
 
     service.updateLinks(instanceId, incomingLinks);
 
     var saveCaptor = linksCaptor();
-    var deleteCaptor = linksCaptor();
-    verify(instanceLinkRepository).saveAll(saveCaptor.capture());
-    verify(instanceLinkRepository).deleteAllInBatch(deleteCaptor.capture());
+    verify(instanceLinkJdbcRepository).insertAll(saveCaptor.capture());
+    verify(instanceLinkRepository, never()).deleteAllInBatch(any());
 
-    assertThat(saveCaptor.getValue()).hasSize(4)
+    assertThat(saveCaptor.getValue()).hasSize(2)
       .extracting(link -> link.getLinkingRule().getId())
-      .containsOnly(Link.RULE_IDS[0], Link.RULE_IDS[1], Link.RULE_IDS[2], Link.RULE_IDS[3]);
-
-    assertThat(deleteCaptor.getValue()).isEmpty();
+      .containsOnly(Link.RULE_IDS[2], Link.RULE_IDS[3]);
   }
 
   @Test
@@ -350,25 +338,102 @@ class InstanceAuthorityLinkingServiceTest {
 
     when(instanceLinkRepository.findByInstanceId(instanceId)).thenReturn(linkViews);
     doNothing().when(instanceLinkRepository).deleteAllInBatch(any());
-    when(instanceLinkRepository.saveAll(any())).thenReturn(emptyList());
     mockAuthorities(incomingLinks);
 
     service.updateLinks(instanceId, incomingLinks);
 
     var saveCaptor = linksCaptor();
     var deleteCaptor = linksCaptor();
-    verify(instanceLinkRepository).saveAll(saveCaptor.capture());
+    verify(instanceLinkJdbcRepository).insertAll(saveCaptor.capture());
     verify(instanceLinkRepository).deleteAllInBatch(deleteCaptor.capture());
 
-    assertThat(saveCaptor.getValue()).hasSize(4)
+    assertThat(saveCaptor.getValue()).hasSize(2)
       .extracting(link -> link.getLinkingRule().getId())
-      .containsOnly(Link.RULE_IDS[0], Link.RULE_IDS[1], Link.RULE_IDS[2], Link.RULE_IDS[3]);
+      .containsOnly(Link.RULE_IDS[2], Link.RULE_IDS[3]);
 
     assertThat(deleteCaptor.getValue()).hasSize(2)
       .extracting(link -> link.getLinkingRule().getId())
       .containsOnly(Link.RULE_IDS[2], Link.RULE_IDS[3]);
   }
 
+  @Test
+  void updateLinks_positive_doNothing_whenLinksNotChanged() {
+    final var instanceId = randomUUID();
+    final var existedLinks = links(instanceId, Link.of(0, 0), Link.of(1, 1));
+    final var incomingLinks = links(instanceId, Link.of(0, 0), Link.of(1, 1));
+    var linkViews = existedLinks.stream()
+      .map(link -> instanceLinkView(link, link.getAuthorityNaturalId()))
+      .toList();
+
+    when(instanceLinkRepository.findByInstanceId(instanceId)).thenReturn(linkViews);
+    mockAuthorities(incomingLinks);
+
+    service.updateLinks(instanceId, incomingLinks);
+
+    var saveCaptor = linksCaptor();
+    verify(instanceLinkJdbcRepository).insertAll(saveCaptor.capture());
+    verify(instanceLinkRepository, never()).deleteAllInBatch(any());
+    verify(instanceLinkRepository, never()).saveAll(any());
+
+    assertThat(saveCaptor.getValue()).isEmpty();
+  }
+
+  @Test
+  void updateLinksForInstances_positive_applyDiffForAllInstances() {
+    final var instanceId1 = randomUUID();
+    final var instanceId2 = randomUUID();
+    final var existedLinks = links(instanceId1, Link.of(0, 0), Link.of(1, 1));
+    final var incomingLinks1 = links(instanceId1, Link.of(0, 0));
+    final var incomingLinks2 = links(instanceId2, Link.of(2, 2));
+    var linkViews = existedLinks.stream()
+      .map(link -> instanceLinkView(link, link.getAuthorityNaturalId()))
+      .toList();
+
+    when(instanceLinkRepository.findByInstanceIdIn(Set.of(instanceId1, instanceId2))).thenReturn(linkViews);
+    mockAuthorities(links(instanceId1, Link.of(0, 0), Link.of(2, 2)));
+
+    var result = service.updateLinks(Map.of(instanceId1, incomingLinks1, instanceId2, incomingLinks2));
+
+    var saveCaptor = linksCaptor();
+    var deleteCaptor = linksCaptor();
+    verify(authorityService).authoritiesExist(anySet());
+    verify(instanceLinkJdbcRepository).insertAll(saveCaptor.capture());
+    verify(instanceLinkRepository).deleteAllInBatch(deleteCaptor.capture());
+
+    assertThat(result).isEmpty();
+    assertThat(saveCaptor.getValue()).hasSize(1)
+      .extracting(InstanceAuthorityLink::getInstanceId)
+      .containsOnly(instanceId2);
+    assertThat(deleteCaptor.getValue()).hasSize(1)
+      .extracting(link -> link.getLinkingRule().getId())
+      .containsOnly(Link.RULE_IDS[1]);
+  }
+
+  @Test
+  void updateLinksForInstances_negative_reportInstance_whenAuthorityNotFound() {
+    final var instanceId1 = randomUUID();
+    final var instanceId2 = randomUUID();
+    final var incomingLinks1 = links(instanceId1, Link.of(0, 0));
+    final var incomingLinks2 = links(instanceId2, Link.of(1, 1));
+    final var missingAuthorityId = incomingLinks2.getFirst().getAuthorityId();
+
+    when(authorityService.authoritiesExist(anySet()))
+      .thenReturn(new HashMap<>(Map.of(incomingLinks1.getFirst().getAuthorityId(), true, missingAuthorityId, false)));
+    when(instanceLinkRepository.findByInstanceIdIn(Set.of(instanceId1))).thenReturn(emptyList());
+
+    var result = service.updateLinks(Map.of(instanceId1, incomingLinks1, instanceId2, incomingLinks2));
+
+    var saveCaptor = linksCaptor();
+    verify(instanceLinkJdbcRepository).insertAll(saveCaptor.capture());
+    verify(instanceLinkRepository, never()).deleteAllInBatch(any());
+
+    assertThat(result).containsOnlyKeys(instanceId2);
+    assertThat(result.get(instanceId2)).contains(missingAuthorityId.toString());
+    assertThat(saveCaptor.getValue()).hasSize(1)
+      .extracting(InstanceAuthorityLink::getInstanceId)
+      .containsOnly(instanceId1);
+  }
+
   @Test
   void countLinksByAuthorityIds_positive() {
     var authorityId1 = randomUUID();
@@ -389,14 +454,80 @@ class InstanceAuthorityLinkingServiceTest {
       .contains(entry(authorityId1, 10), entry(authorityId2, 15));
   }
 
+  @Test
+  void countLinksByAuthorityIds_positive_forTenants() {
+    var authorityId = randomUUID();
+    var tenants = List.of("tenant1", "tenant2");
+    var expected = Map.of("tenant2", Map.of(authorityId, 3));
+    when(instanceLinkJdbcRepository.countLinksByAuthorityIds(tenants, Set.of(authorityId))).thenReturn(expected);
+
+    var result = service.countLinksByAuthorityIds(tenants, Set.of(authorityId));
+
+    assertThat(result).isEqualTo(expected);
+  }
+
+  @Test
+  void countLinksByAuthorityIds_positive_countPerTenantWhenQueryForAllTenantsFails() {
+    var authorityId = randomUUID();
+    var authorityIds = Set.of(authorityId);
+    var tenants = List.of("tenant1", "tenant2");
+    when(instanceLinkJdbcRepository.countLinksByAuthorityIds(tenants, authorityIds))
+      .thenThrow(new QueryTimeoutException("timeout"));
+    when(instanceLinkJdbcRepository.countLinksByAuthorityIds(List.of("tenant1"), authorityIds))
+      .thenReturn(Map.of("tenant1", Map.of(authorityId, 1)));
+    when(instanceLinkJdbcRepository.countLinksByAuthorityIds(List.of("tenant2"), authorityIds))
+      .thenReturn(Map.of());
+
+    var result = service.countLinksByAuthorityIds(tenants, authorityIds);
+
+    assertThat(result).isEqualTo(Map.of("tenant1", Map.of(authorityId, 1)));
+  }
+
+  @Test
+  void countLinksByAuthorityIds_negative_rethrowFailureOfTenant() {
+    var authorityId = randomUUID();
+    var authorityIds = Set.of(authorityId);
+    var tenants = List.of("tenant1", "tenant2", "tenant3");
+    when(instanceLinkJdbcRepository.countLinksByAuthorityIds(tenants, authorityIds))
+      .thenThrow(new BadSqlGrammarException("count", "sql", new SQLException("schema does not exist")));
+    when(instanceLinkJdbcRepository.countLinksByAuthorityIds(List.of("tenant1"), authorityIds))
+      .thenReturn(Map.of("tenant1", Map.of(authorityId, 1)));
+    when(instanceLinkJdbcRepository.countLinksByAuthorityIds(List.of("tenant2"), authorityIds))
+      .thenThrow(new BadSqlGrammarException("count", "sql", new SQLException("schema does not exist")));
+    when(instanceLinkJdbcRepository.countLinksByAuthorityIds(List.of("tenant3"), authorityIds))
+      .thenReturn(Map.of("tenant3", Map.of(authorityId, 3)));
+
+    assertThatThrownBy(() -> service.countLinksByAuthorityIds(tenants, authorityIds))
+      .isInstanceOf(BadSqlGrammarException.class)
+      .hasMessageContaining("schema does not exist");
+    verify(instanceLinkJdbcRepository).countLinksByAuthorityIds(List.of("tenant3"), authorityIds);
+  }
+
   @Test
   void deleteByAuthorityIdIn_positive() {
     var authorityId = randomUUID();
     var authorityIds = Set.of(authorityId);
+    when(changeProperties.getMutationChunkSize()).thenReturn(2);
+    when(instanceLinkRepository.findIdsByAuthorityIds(authorityIds, 0L, Limit.of(2))).thenReturn(List.of(3L, 5L));
+    when(instanceLinkRepository.findIdsByAuthorityIds(authorityIds, 5L, Limit.of(2))).thenReturn(List.of(8L));
+    when(instanceLinkRepository.deleteByAuthorityIdsAndIdRange(authorityIds, 0L, 5L)).thenReturn(2);
+    when(instanceLinkRepository.deleteByAuthorityIdsAndIdRange(authorityIds, 5L, 8L)).thenReturn(1);
+
+    var deleted = service.deleteByAuthorityIdIn(authorityIds);
 
-    service.deleteByAuthorityIdIn(authorityIds);
+    assertThat(deleted).isEqualTo(3);
+  }
+
+  @Test
+  void deleteByAuthorityIdIn_positive_noLinks() {
+    var authorityIds = Set.of(randomUUID());
+    when(changeProperties.getMutationChunkSize()).thenReturn(2);
+    when(instanceLinkRepository.findIdsByAuthorityIds(authorityIds, 0L, Limit.of(2))).thenReturn(List.of());
+
+    var deleted = service.deleteByAuthorityIdIn(authorityIds);
 
-    verify(instanceLinkRepository).deleteByAuthorityIds(authorityIds);
+    assertThat(deleted).isZero();
+    verify(instanceLinkRepository, never()).deleteByAuthorityIdsAndIdRange(any(), anyLong(), anyLong());
   }
 
   @Test
@@ -404,10 +535,30 @@ class InstanceAuthorityLinkingServiceTest {
     var authorityId1 = randomUUID();
     var authorityId2 = randomUUID();
     var authorityIds = Set.of(authorityId1, authorityId2);
+    when(changeProperties.getMutationChunkSize()).thenReturn(2);
+    when(instanceLinkRepository.findIdsByAuthorityIdsAndStatusChanged(authorityIds, ACTUAL, 0L, Limit.of(2)))
+      .thenReturn(List.of(4L, 7L));
+    when(instanceLinkRepository.findIdsByAuthorityIdsAndStatusChanged(authorityIds, ACTUAL, 7L, Limit.of(2)))
+      .thenReturn(List.of());
+    when(instanceLinkRepository.updateStatusByAuthorityIdsAndIdRange(authorityIds, ACTUAL, 0L, 7L)).thenReturn(2);
 
-    service.setActualStatusByAuthorityIds(authorityIds);
+    var updated = service.setActualStatusByAuthorityIds(authorityIds);
 
-    verify(instanceLinkRepository).updateStatusByAuthorityIds(authorityIds, ACTUAL, null);
+    assertThat(updated).isEqualTo(2);
+    verify(instanceLinkRepository).updateStatusByAuthorityIdsAndIdRange(authorityIds, ACTUAL, 0L, 7L);
+  }
+
+  @Test
+  void setActualStatusByAuthorityIds_positive_allLinksAlreadyActual() {
+    var authorityIds = Set.of(randomUUID());
+    when(changeProperties.getMutationChunkSize()).thenReturn(2);
+    when(instanceLinkRepository.findIdsByAuthorityIdsAndStatusChanged(authorityIds, ACTUAL, 0L, Limit.of(2)))
+      .thenReturn(List.of());
+
+    var updated = service.setActualStatusByAuthorityIds(authorityIds);
+
+    assertThat(updated).isZero();
+    verify(instanceLinkRepository, never()).updateStatusByAuthorityIdsAndIdRange(any(), any(), anyLong(), anyLong());
   }
 
   @Test
@@ -416,21 +567,21 @@ class InstanceAuthorityLinkingServiceTest {
     var fromDate = OffsetDateTime.now();
     var toDate = fromDate.plusDays(1);
     var limit = 1;
-    var pageable = PageRequest.of(0, limit, Sort.by(Sort.Order.desc("updatedAt")));
     var authorityNaturalId = "n12345";
     var link = InstanceAuthorityLink.builder()
       .id(1L)
+      .authorityNaturalId(authorityNaturalId)
       .build();
-    var linkView = instanceLinkView(link, authorityNaturalId);
 
     when(instanceLinkRepository.findLinksWithAuthorityNaturalId(
       eq(InstanceAuthorityLinkStatus.ACTUAL),
       any(java.sql.Timestamp.class),
       any(java.sql.Timestamp.class),
-      eq(pageable)))
-      .thenReturn(new PageImpl<>(List.of(linkView), pageable, 1));
+      eq(1L),
+      eq(limit)))
+      .thenReturn(List.of(link));
 
-    var links = service.getLinks(status, fromDate, toDate, limit);
+    var links = service.getLinks(status, fromDate, toDate, 1L, limit);
 
     assertThat(links)
       .hasSize(1)
@@ -444,19 +595,18 @@ class InstanceAuthorityLinkingServiceTest {
   @Test
   void getLinks_positive_withNullParameters() {
     var limit = 10;
-    var pageable = PageRequest.of(0, limit, Sort.by(Sort.Order.desc("updatedAt")));
     var link = InstanceAuthorityLink.builder()
       .id(2L)
+      .authorityNaturalId("n67890")
       .build();
-    var linkView = instanceLinkView(link, "n67890");
 
-    when(instanceLinkRepository.findLinksWithAuthorityNaturalId(null, null, null, pageable))
-      .thenReturn(new PageImpl<>(List.of(linkView), pageable, 1));
+    when(instanceLinkRepository.findLinksWithAuthorityNaturalId(null, null, null, null, limit))
+      .thenReturn(List.of(link));
 
-    var links = service.getLinks(null, null, null, limit);
+    var links = service.getLinks(null, null, null, null, limit);
 
     assertThat(links).hasSize(1);
-    verify(instanceLinkRepository).findLinksWithAuthorityNaturalId(null, null, null, pageable);
+    verify(instanceLinkRepository).findLinksWithAuthorityNaturalId(null, null, null, null, limit);
   }
 
   @Test
@@ -530,35 +680,51 @@ class InstanceAuthorityLinkingServiceTest {
   @Test
   void updateForReports_positive_updateLinks_forSuccess() {
     var jobId = UUID.randomUUID();
-    var reports = reports(jobId);
-
-    when(instanceLinkRepository.findAllById(anyList())).thenReturn(TestDataUtils.links(2, REPORT_ERROR));
+    var reports = List.of(
+      report("tenant", jobId, LinkUpdateReport.StatusEnum.SUCCESS, null, List.of(1, 2)),
+      report("tenant", jobId, LinkUpdateReport.StatusEnum.SUCCESS, "", List.of(3, 4)));
 
     service.updateForReports(jobId, reports);
 
-    var linksCaptor = linksCaptor();
-    verify(instanceLinkRepository, times(2)).saveAll(linksCaptor.capture());
-    var links = linksCaptor.getAllValues().stream().flatMap(List::stream).toList();
-    assertThat(links)
-      .hasSize(4)
-      .allSatisfy(linkAsserter(ACTUAL, null));
+    var update = new LinkStatusUpdate(ACTUAL, null);
+    verify(instanceLinkJdbcRepository).updateStatusByIds(Map.of(1L, update, 2L, update, 3L, update, 4L, update));
+    verify(instanceLinkRepository, never()).saveAll(anyList());
   }
 
   @Test
   void updateForReports_positive_updateLinks_forFail_shouldTrimFailCause() {
     var jobId = UUID.randomUUID();
     var reports = reports(jobId, LinkUpdateReport.StatusEnum.FAIL, "  " + REPORT_ERROR + "  ");
+    var linkIds = reports.stream()
+      .flatMap(report -> report.getLinkIds().stream())
+      .map(Integer::longValue)
+      .collect(Collectors.toSet());
 
-    when(instanceLinkRepository.findAllById(anyList())).thenReturn(TestDataUtils.links(2));
+    service.updateForReports(jobId, reports);
+
+    var updatesCaptor = updatesCaptor();
+    verify(instanceLinkJdbcRepository).updateStatusByIds(updatesCaptor.capture());
+    assertThat(updatesCaptor.getValue())
+      .containsOnlyKeys(linkIds)
+      .allSatisfy((linkId, update) -> assertThat(update).isEqualTo(new LinkStatusUpdate(ERROR, REPORT_ERROR)));
+  }
+
+  @Test
+  void updateForReports_positive_coalescesReportsForSameLink() {
+    var jobId = UUID.randomUUID();
+    var reports = List.of(
+      report("tenant", jobId, LinkUpdateReport.StatusEnum.FAIL, REPORT_ERROR, asList(1, null, 2)),
+      report("tenant", jobId, LinkUpdateReport.StatusEnum.SUCCESS, null, List.of(2, 3)),
+      report("tenant", jobId, LinkUpdateReport.StatusEnum.FAIL, REPORT_ERROR, List.of(3)));
 
     service.updateForReports(jobId, reports);
 
-    var linksCaptor = linksCaptor();
-    verify(instanceLinkRepository, times(2)).saveAll(linksCaptor.capture());
-    var links = linksCaptor.getAllValues().stream().flatMap(List::stream).toList();
-    assertThat(links)
-      .hasSize(4)
-      .allSatisfy(linkAsserter(ERROR, REPORT_ERROR));
+    var updatesCaptor = updatesCaptor();
+    verify(instanceLinkJdbcRepository).updateStatusByIds(updatesCaptor.capture());
+    assertThat(updatesCaptor.getValue()).containsExactly(
+      entry(1L, new LinkStatusUpdate(ERROR, REPORT_ERROR)),
+      entry(2L, new LinkStatusUpdate(ACTUAL, null)),
+      entry(3L, new LinkStatusUpdate(ERROR, REPORT_ERROR)));
   }
 
   @Test
@@ -570,10 +736,15 @@ class InstanceAuthorityLinkingServiceTest {
 
     service.updateForReports(jobId, reports);
 
-    verify(instanceLinkRepository, never()).findAllById(anyList());
+    verifyNoInteractions(instanceLinkJdbcRepository);
     verify(instanceLinkRepository, never()).saveAll(anyList());
   }
 
+  private ArgumentCaptor<Map<Long, LinkStatusUpdate>> updatesCaptor() {
+    @SuppressWarnings("unchecked") var mapClass = (Class<Map<Long, LinkStatusUpdate>>) (Class<?>) Map.class;
+    return ArgumentCaptor.forClass(mapClass);
+  }
+
   private ArgumentCaptor<List<InstanceAuthorityLink>> linksCaptor() {
     @SuppressWarnings("unchecked") var listClass = (Class<List<InstanceAuthorityLink>>) (Class<?>) List.class;
     return ArgumentCaptor.forClass(listClass);
@@ -606,11 +777,4 @@ class InstanceAuthorityLinkingServiceTest {
         .collect(Collectors.toMap(id -> id, id -> true));
     when(authorityService.authoritiesExist(anySet())).thenReturn(authoritiesExistence);
   }
-
-  private Consumer<InstanceAuthorityLink> linkAsserter(InstanceAuthorityLinkStatus status, String errorCause) {
-    return link -> {
-      assertThat(link.getStatus()).isEqualTo(status);
-      assertThat(link.getErrorCause()).isEqualTo(errorCause);
-    };
-  }
 }
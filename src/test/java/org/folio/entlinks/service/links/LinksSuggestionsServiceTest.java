@@ -28,7 +28,7 @@ import org.folio.entlinks.integration.dto.AuthorityParsedContent;
 import org.folio.entlinks.integration.dto.FieldParsedContent;
 import org.folio.entlinks.integration.dto.ParsedSubfield;
 import org.folio.entlinks.integration.dto.SourceParsedContent;
-import org.folio.entlinks.service.authority.AuthoritySourceFileService;
+import org.folio.entlinks.service.authority.AuthoritySourceFileCacheService;
 import org.folio.spring.testing.type.UnitTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -51,7 +51,7 @@ class LinksSuggestionsServiceTest {
   private static final String SOURCE_FILE_NAME = "sourceFileName";
 
   private @Spy AuthorityRuleValidationService authorityRuleValidationService;
-  private @Mock AuthoritySourceFileService authoritySourceFileService;
+  private @Mock AuthoritySourceFileCacheService sourceFileCacheService;
   private @InjectMocks LinksSuggestionsService linksSuggestionsService;
 
   private AuthoritySourceFile authoritySourceFile;
@@ -75,7 +75,7 @@ class LinksSuggestionsServiceTest {
     var rules = getMapRule("100", "100");
     var bib = getBibParsedRecordContent("100", null);
     var authority = getAuthorityParsedRecordContent("100");
-    when(authoritySourceFileService.getById(SOURCE_FILE_ID)).thenReturn(authoritySourceFile);
+    when(sourceFileCacheService.getById(SOURCE_FILE_ID)).thenReturn(authoritySourceFile);
 
     linksSuggestionsService
       .fillLinkDetailsWithSuggestedAuthorities(List.of(bib), List.of(authority), rules, linkingMatchSubfield, false);
@@ -104,7 +104,7 @@ class LinksSuggestionsServiceTest {
     var authority = getAuthorityParsedRecordContent(UUID.randomUUID(), "130", Map.of("a", "test"));
     var secondAuthority = getAuthorityParsedRecordContent(authorityId, "110", Map.of("a", "test"));
     var thirdAuthority = getAuthorityParsedRecordContent(UUID.randomUUID(), "111", Map.of("a", "test"));
-    when(authoritySourceFileService.getById(SOURCE_FILE_ID)).thenReturn(authoritySourceFile);
+    when(sourceFileCacheService.getById(SOURCE_FILE_ID)).thenReturn(authoritySourceFile);
 
     linksSuggestionsService
       .fillLinkDetailsWithSuggestedAuthorities(List.of(bib), List.of(authority, secondAuthority, thirdAuthority),
@@ -132,7 +132,7 @@ class LinksSuggestionsServiceTest {
     initialBibSubfields.put("c", "c value");
     var bib = getBibParsedRecordContent("100", initialBibSubfields, null);
     var authority = getAuthorityParsedRecordContent("100");
-    when(authoritySourceFileService.getById(SOURCE_FILE_ID)).thenReturn(authoritySourceFile);
+    when(sourceFileCacheService.getById(SOURCE_FILE_ID)).thenReturn(authoritySourceFile);
 
     linksSuggestionsService
       .fillLinkDetailsWithSuggestedAuthorities(List.of(bib), List.of(authority), rules, linkingMatchSubfield, false);
@@ -160,7 +160,7 @@ class LinksSuggestionsServiceTest {
     initialBibSubfields.put("b", "b value");
     var bib = getBibParsedRecordContent("100", initialBibSubfields, null);
     var authority = getAuthorityParsedRecordContent("100");
-    when(authoritySourceFileService.getById(SOURCE_FILE_ID)).thenReturn(authoritySourceFile);
+    when(sourceFileCacheService.getById(SOURCE_FILE_ID)).thenReturn(authoritySourceFile);
 
     linksSuggestionsService
       .fillLinkDetailsWithSuggestedAuthorities(List.of(bib), List.of(authority), rules, linkingMatchSubfield, false);
@@ -185,7 +185,7 @@ class LinksSuggestionsServiceTest {
     var rules = getMapRule("100", "100");
     var bib = getBibParsedRecordContent("100", getActualLinksDetails());
     var authority = getAuthorityParsedRecordContent("100");
-    when(authoritySourceFileService.getById(SOURCE_FILE_ID)).thenReturn(authoritySourceFile);
+    when(sourceFileCacheService.getById(SOURCE_FILE_ID)).thenReturn(authoritySourceFile);
 
     linksSuggestionsService
       .fillLinkDetailsWithSuggestedAuthorities(List.of(bib), List.of(authority), rules, linkingMatchSubfield, false);
@@ -283,7 +283,7 @@ class LinksSuggestionsServiceTest {
     disableAutoLinkingFeature(rules.get("100"));
     var bib = getBibParsedRecordContent("100", getActualLinksDetails());
     var authority = getAuthorityParsedRecordContent("100");
-    when(authoritySourceFileService.getById(SOURCE_FILE_ID)).thenReturn(authoritySourceFile);
+    when(sourceFileCacheService.getById(SOURCE_FILE_ID)).thenReturn(authoritySourceFile);
 
     linksSuggestionsService
       .fillLinkDetailsWithSuggestedAuthorities(List.of(bib), List.of(authority), rules, linkingMatchSubfield, true);
@@ -0,0 +1,113 @@
+package org.folio.entlinks.service.links.model;
+
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import org.folio.entlinks.integration.dto.AuthorityParsedContent;
+import org.folio.entlinks.integration.dto.FieldParsedContent;
+import org.folio.entlinks.integration.dto.ParsedSubfield;
+import org.folio.entlinks.utils.FieldUtils;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class AuthorityMatchIndexTest {
+
+  @Test
+  void findCandidates_positive_byNaturalIdWithBaseUrl() {
+    var authority = authority(randomUUID(), "n12345");
+    var index = AuthorityMatchIndex.of(List.of(authority(randomUUID(), "n00000"), authority));
+
+    var candidates = index.findCandidates(bibField(new ParsedSubfield('0', "https://base/url/n12345")));
+
+    assertThat(candidates).containsExactly(authority);
+  }
+
+  @Test
+  void findCandidates_positive_byId() {
+    var authority = authority(randomUUID(), "n12345");
+    var index = AuthorityMatchIndex.of(List.of(authority(randomUUID(), "n00000"), authority));
+
+    var candidates = index.findCandidates(bibField(new ParsedSubfield('9', authority.getId().toString())));
+
+    assertThat(candidates).containsExactly(authority);
+  }
+
+  @Test
+  void findCandidates_positive_authorityMatchedByBothSubfieldsReturnedOnce() {
+    var authority = authority(randomUUID(), "n12345");
+    var index = AuthorityMatchIndex.of(List.of(authority));
+
+    var candidates = index.findCandidates(bibField(new ParsedSubfield('0', "n12345"),
+      new ParsedSubfield('9', authority.getId().toString())));
+
+    assertThat(candidates).containsExactly(authority);
+  }
+
+  @Test
+  void findCandidates_positive_allAuthoritiesWithSameNaturalId() {
+    var authority1 = authority(randomUUID(), "n12345");
+    var authority2 = authority(randomUUID(), "n12345");
+    var index = AuthorityMatchIndex.of(List.of(authority1, authority2));
+
+    var candidates = index.findCandidates(bibField(new ParsedSubfield('0', "n12345")));
+
+    assertThat(candidates).containsExactly(authority1, authority2);
+  }
+
+  @Test
+  void findCandidates_negative_noMatchingSubfields() {
+    var index = AuthorityMatchIndex.of(List.of(authority(randomUUID(), "n12345"), authority(randomUUID(), null)));
+
+    assertThat(index.findCandidates(bibField(new ParsedSubfield('a', "n12345")))).isEmpty();
+    assertThat(index.findCandidates(bibField(new ParsedSubfield('0', "n00000"),
+      new ParsedSubfield('9', randomUUID().toString())))).isEmpty();
+  }
+
+  @Test
+  void findCandidates_positive_sameAsFullScan() {
+    var authorities = new ArrayList<AuthorityParsedContent>();
+    for (int i = 0; i < 10; i++) {
+      authorities.add(authority(randomUUID(), "n" + i));
+    }
+    authorities.add(authority(randomUUID(), "n3"));
+    var bibFields = List.of(
+      bibField(new ParsedSubfield('0', "http://id.loc.gov/authorities/names/n1")),
+      bibField(new ParsedSubfield('0', "n3")),
+      bibField(new ParsedSubfield('9', authorities.get(5).getId().toString())),
+      bibField(new ParsedSubfield('0', "n7"), new ParsedSubfield('9', authorities.get(8).getId().toString())),
+      bibField(new ParsedSubfield('0', "n404"), new ParsedSubfield('9', randomUUID().toString())));
+
+    var index = AuthorityMatchIndex.of(authorities);
+
+    for (var bibField : bibFields) {
+      assertThat(index.findCandidates(bibField)).containsExactlyInAnyOrderElementsOf(scan(authorities, bibField));
+    }
+  }
+
+  private AuthorityParsedContent authority(UUID id, String naturalId) {
+    var field = new FieldParsedContent("100", "//", "//", List.of(new ParsedSubfield('a', "name")), null);
+    return new AuthorityParsedContent(id, naturalId, "", List.of(field), null);
+  }
+
+  private FieldParsedContent bibField(ParsedSubfield... subfields) {
+    return new FieldParsedContent("100", "//", "//", new ArrayList<>(List.of(subfields)), null);
+  }
+
+  private List<AuthorityParsedContent> scan(List<AuthorityParsedContent> authorities, FieldParsedContent bibField) {
+    var naturalIds = Objects.requireNonNullElse(bibField.getNaturalIdSubfields(), List.<ParsedSubfield>of()).stream()
+      .map(subfield -> FieldUtils.trimSubfield0Value(subfield.value()))
+      .toList();
+    var ids = Objects.requireNonNullElse(bibField.getIdSubfields(), List.<ParsedSubfield>of()).stream()
+      .map(ParsedSubfield::value)
+      .toList();
+    return authorities.stream()
+      .filter(authority -> naturalIds.contains(authority.getNaturalId())
+                           || ids.contains(authority.getId().toString()))
+      .toList();
+  }
+}
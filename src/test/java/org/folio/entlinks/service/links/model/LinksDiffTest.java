@@ -0,0 +1,84 @@
+package org.folio.entlinks.service.links.model;
+
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.support.TestDataUtils.links;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.folio.entlinks.domain.entity.InstanceAuthorityLink;
+import org.folio.spring.testing.type.UnitTest;
+import org.folio.support.TestDataUtils.Link;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class LinksDiffTest {
+
+  @Test
+  void of_positive_createAndDeleteOnlyChangedLinks() {
+    var instanceId = randomUUID();
+    var existedLinks = withIds(links(instanceId, Link.of(0, 0), Link.of(1, 1), Link.of(2, 2)));
+    var incomingLinks = links(instanceId, Link.of(0, 0), Link.of(1, 1), Link.of(2, 3));
+
+    var diff = LinksDiff.of(existedLinks, incomingLinks);
+
+    assertThat(diff.isEmpty()).isFalse();
+    assertThat(diff.linksToCreate()).containsExactly(incomingLinks.get(2));
+    assertThat(diff.linksToDelete()).containsExactly(existedLinks.get(2));
+  }
+
+  @Test
+  void of_positive_emptyWhenLinksAreSame() {
+    var instanceId = randomUUID();
+    var existedLinks = withIds(links(instanceId, Link.of(0, 0), Link.of(1, 1)));
+    var incomingLinks = links(instanceId, Link.of(1, 1), Link.of(0, 0));
+
+    var diff = LinksDiff.of(existedLinks, incomingLinks);
+
+    assertThat(diff.isEmpty()).isTrue();
+  }
+
+  @Test
+  void of_positive_skipDuplicatedIncomingLinks() {
+    var instanceId = randomUUID();
+    var incomingLinks = links(instanceId, Link.of(0, 0), Link.of(0, 0), Link.of(1, 1));
+
+    var diff = LinksDiff.of(List.of(), incomingLinks);
+
+    assertThat(diff.linksToCreate()).containsExactly(incomingLinks.get(0), incomingLinks.get(2));
+    assertThat(diff.linksToDelete()).isEmpty();
+  }
+
+  @Test
+  void of_positive_deleteDuplicatedExistedLinks() {
+    var instanceId = randomUUID();
+    var existedLinks = withIds(links(instanceId, Link.of(0, 0), Link.of(0, 0)));
+    var incomingLinks = links(instanceId, Link.of(0, 0));
+
+    var diff = LinksDiff.of(existedLinks, incomingLinks);
+
+    assertThat(diff.linksToCreate()).isEmpty();
+    assertThat(diff.linksToDelete()).containsExactly(existedLinks.get(1));
+  }
+
+  @Test
+  void of_positive_deleteAllWhenIncomingIsEmpty() {
+    var instanceId = randomUUID();
+    var existedLinks = withIds(links(instanceId, Link.of(0, 0), Link.of(1, 1)));
+
+    var diff = LinksDiff.of(existedLinks, List.of());
+
+    assertThat(diff.linksToCreate()).isEmpty();
+    assertThat(diff.linksToDelete()).containsExactlyElementsOf(existedLinks);
+  }
+
+  private List<InstanceAuthorityLink> withIds(List<InstanceAuthorityLink> links) {
+    var result = new ArrayList<InstanceAuthorityLink>();
+    for (int i = 0; i < links.size(); i++) {
+      var link = links.get(i);
+      link.setId((long) i + 1);
+      result.add(link);
+    }
+    return result;
+  }
+}
@@ -1,11 +1,16 @@
 package org.folio.entlinks.service.messaging.authority;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.folio.support.base.TestConstants.TENANT_ID;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -20,6 +25,10 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import org.folio.entlinks.config.properties.ConsortiumProperties;
 import org.folio.entlinks.domain.dto.AuthorityDto;
 import org.folio.entlinks.domain.dto.LinksChangeEvent;
 import org.folio.entlinks.domain.entity.AuthorityDataStat;
@@ -45,13 +54,15 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
 class InstanceAuthorityLinkUpdateServiceTest {
 
-  private @Captor ArgumentCaptor<List<LinksChangeEvent>> eventCaptor;
+  private @Captor ArgumentCaptor<LinksChangeEvent> eventCaptor;
   private @Captor ArgumentCaptor<List<AuthorityChangeHolder>> changeHolderCaptor;
+  private @Captor ArgumentCaptor<List<AuthorityDataStat>> dataStatsCaptor;
 
   private @Mock EventProducer<LinksChangeEvent> eventProducer;
   private @Mock AuthorityDataStatService authorityDataStatService;
@@ -71,10 +82,12 @@ class InstanceAuthorityLinkUpdateServiceTest {
   void setUp() {
     when(updateHandler.supportedAuthorityChangeType()).thenReturn(AuthorityChangeType.UPDATE);
     when(deleteHandler.supportedAuthorityChangeType()).thenReturn(AuthorityChangeType.DELETE);
+    lenient().when(eventProducer.sendMessage(any(), any())).thenReturn(CompletableFuture.completedFuture(null));
 
     service = new InstanceAuthorityLinkUpdateService(authorityDataStatService,
       mappingRulesProcessingService, linkingService, eventProducer, List.of(updateHandler, deleteHandler),
-      sourceRecordService, consortiumTenantsService, folioExecutionContext, executionService);
+      sourceRecordService, consortiumTenantsService, folioExecutionContext, executionService,
+      new ConsortiumProperties());
   }
 
   @Test
@@ -87,12 +100,12 @@ class InstanceAuthorityLinkUpdateServiceTest {
 
     var expected = new LinksChangeEvent().type(LinksChangeEvent.TypeEnum.UPDATE);
     when(linkingService.countLinksByAuthorityIds(Set.of(id))).thenReturn(Map.of(id, 1));
-    when(sourceRecordService.getAuthoritySourceRecordById(any())).thenReturn(sourceRecord);
-    when(updateHandler.handle(changeHolderCaptor.capture())).thenReturn(List.of(expected));
+    when(sourceRecordService.getAuthoritySourceRecordsByIds(any())).thenReturn(Map.of(id, sourceRecord));
+    doAnswer(emitting(expected)).when(updateHandler).handle(changeHolderCaptor.capture(), any());
 
     service.handleAuthoritiesChanges(authorityEvents);
 
-    verify(eventProducer).sendMessages(eventCaptor.capture());
+    verify(eventProducer).sendMessage(isNull(), eventCaptor.capture());
     verify(authorityDataStatService).createInBatch(anyList());
     verifyNoMoreInteractions(authorityDataStatService);
 
@@ -102,7 +115,7 @@ class InstanceAuthorityLinkUpdateServiceTest {
       .isNotEmpty()
       .allMatch(changeHolder -> changeHolder.getSourceRecord() == sourceRecord);
 
-    var messages = eventCaptor.getValue();
+    var messages = eventCaptor.getAllValues();
     assertThat(messages).hasSize(1);
     assertThat(messages.getFirst().getType()).isEqualTo(LinksChangeEvent.TypeEnum.UPDATE);
   }
@@ -118,11 +131,11 @@ class InstanceAuthorityLinkUpdateServiceTest {
 
     var expected = new LinksChangeEvent().type(LinksChangeEvent.TypeEnum.UPDATE);
     when(linkingService.countLinksByAuthorityIds(Set.of(id))).thenReturn(Map.of(id, 1));
-    when(updateHandler.handle(changeHolderCaptor.capture())).thenReturn(List.of(expected));
+    doAnswer(emitting(expected)).when(updateHandler).handle(changeHolderCaptor.capture(), any());
 
     service.handleAuthoritiesChanges(authorityEvents);
 
-    verify(eventProducer).sendMessages(eventCaptor.capture());
+    verify(eventProducer).sendMessage(isNull(), eventCaptor.capture());
     verify(authorityDataStatService).createInBatch(anyList());
     verifyNoMoreInteractions(authorityDataStatService);
 
@@ -132,7 +145,7 @@ class InstanceAuthorityLinkUpdateServiceTest {
       .isNotEmpty()
       .allMatch(changeHolder -> changeHolder.getSourceRecord() == null);
 
-    var messages = eventCaptor.getValue();
+    var messages = eventCaptor.getAllValues();
     assertThat(messages).hasSize(1);
     assertThat(messages.getFirst().getType()).isEqualTo(LinksChangeEvent.TypeEnum.UPDATE);
   }
@@ -147,7 +160,7 @@ class InstanceAuthorityLinkUpdateServiceTest {
 
     service.handleAuthoritiesChanges(authorityEvents);
 
-    verify(eventProducer, never()).sendMessages(eventCaptor.capture());
+    verify(eventProducer, never()).sendMessage(isNull(), eventCaptor.capture());
     verify(authorityDataStatService).createInBatch(anyList());
     verifyNoMoreInteractions(authorityDataStatService);
     verifyNoInteractions(sourceRecordService);
@@ -162,14 +175,14 @@ class InstanceAuthorityLinkUpdateServiceTest {
     final var sourceRecord = new AuthoritySourceRecord(null, null, null);
 
     when(linkingService.countLinksByAuthorityIds(Set.of(id))).thenReturn(Collections.emptyMap());
-    when(sourceRecordService.getAuthoritySourceRecordById(any())).thenReturn(sourceRecord);
+    when(sourceRecordService.getAuthoritySourceRecordsByIds(any())).thenReturn(Map.of(id, sourceRecord));
 
     service.handleAuthoritiesChanges(authorityEvents);
 
-    verify(eventProducer, never()).sendMessages(eventCaptor.capture());
+    verify(eventProducer, never()).sendMessage(isNull(), eventCaptor.capture());
     verify(authorityDataStatService).createInBatch(anyList());
     verifyNoMoreInteractions(authorityDataStatService);
-    verify(sourceRecordService).getAuthoritySourceRecordById(id);
+    verify(sourceRecordService).getAuthoritySourceRecordsByIds(Set.of(id));
   }
 
   @Test
@@ -182,15 +195,15 @@ class InstanceAuthorityLinkUpdateServiceTest {
     var changeEvent = new LinksChangeEvent().type(LinksChangeEvent.TypeEnum.DELETE);
 
     when(linkingService.countLinksByAuthorityIds(Set.of(id))).thenReturn(Map.of(id, 1));
-    when(deleteHandler.handle(any())).thenReturn(List.of(changeEvent));
+    doAnswer(emitting(changeEvent)).when(deleteHandler).handle(any(), any());
 
     service.handleAuthoritiesChanges(authorityEvents);
 
-    verify(eventProducer).sendMessages(eventCaptor.capture());
+    verify(eventProducer).sendMessage(isNull(), eventCaptor.capture());
     verifyNoInteractions(sourceRecordService);
     verifyNoInteractions(authorityDataStatService);
 
-    var messages = eventCaptor.getValue();
+    var messages = eventCaptor.getAllValues();
     assertThat(messages).hasSize(1);
     assertThat(messages.getFirst().getType()).isEqualTo(LinksChangeEvent.TypeEnum.DELETE);
   }
@@ -208,7 +221,7 @@ class InstanceAuthorityLinkUpdateServiceTest {
     );
     var changeEvent = new LinksChangeEvent().type(LinksChangeEvent.TypeEnum.DELETE);
     when(linkingService.countLinksByAuthorityIds(Set.of(id))).thenReturn(Map.of(id, 1));
-    when(deleteHandler.handle(changeHolderCaptor.capture())).thenReturn(List.of(changeEvent));
+    doAnswer(emitting(changeEvent)).when(deleteHandler).handle(changeHolderCaptor.capture(), any());
     when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
 
     service.handleAuthoritiesChanges(authorityEvents);
@@ -216,17 +229,106 @@ class InstanceAuthorityLinkUpdateServiceTest {
     verify(updateHandler).supportedAuthorityChangeType();
     verify(deleteHandler).supportedAuthorityChangeType();
     verifyNoMoreInteractions(updateHandler);
-    verify(eventProducer, times(1)).sendMessages(eventCaptor.capture());
+    verify(eventProducer, times(1)).sendMessage(isNull(), eventCaptor.capture());
     var changeHolders = changeHolderCaptor.getAllValues().stream().flatMap(Collection::stream).toList();
     assertThat(changeHolders)
         .hasSize(1)
         .extracting(AuthorityChangeHolder::getNumberOfLinks)
         .containsExactlyInAnyOrder(1);
-    var messages = eventCaptor.getAllValues().stream().flatMap(Collection::stream).toList();
+    var messages = eventCaptor.getAllValues();
     assertThat(messages).hasSize(1);
     assertThat(messages.getFirst().getType()).isEqualTo(LinksChangeEvent.TypeEnum.DELETE);
   }
 
+  @Test
+  void handleAuthoritiesChanges_positive_consecutiveUpdatesAreCoalesced() {
+    final var id = UUID.randomUUID();
+    final var otherId = UUID.randomUUID();
+    final var authorityEvents = List.of(
+      new AuthorityDomainEvent(id, new AuthorityDto().naturalId("n1").personalName("first"),
+        new AuthorityDto().naturalId("n1").personalName("second"), DomainEventType.UPDATE, TENANT_ID),
+      new AuthorityDomainEvent(otherId, new AuthorityDto().naturalId("n2").personalName("other"),
+        new AuthorityDto().naturalId("n2").personalName("other new"), DomainEventType.UPDATE, TENANT_ID),
+      new AuthorityDomainEvent(id, new AuthorityDto().naturalId("n1").personalName("second"),
+        new AuthorityDto().naturalId("n1").personalName("third"), DomainEventType.UPDATE, TENANT_ID));
+
+    when(linkingService.countLinksByAuthorityIds(Set.of(id, otherId))).thenReturn(Map.of(id, 1, otherId, 1));
+    when(sourceRecordService.getAuthoritySourceRecordsByIds(any())).thenReturn(Map.of());
+    doAnswer(emitting(new LinksChangeEvent())).when(updateHandler).handle(changeHolderCaptor.capture(), any());
+
+    service.handleAuthoritiesChanges(authorityEvents);
+
+    assertThat(changeHolderCaptor.getValue())
+      .hasSize(2)
+      .extracting(AuthorityChangeHolder::getAuthorityId)
+      .containsExactly(id, otherId);
+    var netChange = changeHolderCaptor.getValue().getFirst();
+    assertThat(netChange.getEvent().getOldEntity().getPersonalName()).isEqualTo("first");
+    assertThat(netChange.getEvent().getNewEntity().getPersonalName()).isEqualTo("third");
+
+    verify(authorityDataStatService).createInBatch(dataStatsCaptor.capture());
+    assertThat(dataStatsCaptor.getValue())
+      .extracting(AuthorityDataStat::getAuthorityId)
+      .containsExactly(id, otherId, id);
+    assertThat(netChange.getAuthorityDataStatId()).isEqualTo(dataStatsCaptor.getValue().getLast().getId());
+    verify(eventProducer).sendMessage(isNull(), any());
+  }
+
+  @Test
+  void handleAuthoritiesChanges_positive_dataStatIsRecordedForEveryEdit() {
+    final var id = UUID.randomUUID();
+    final var names = List.of("first", "second", "third", "fourth");
+    final var authorityEvents = IntStream.range(1, names.size())
+      .mapToObj(i -> new AuthorityDomainEvent(id, new AuthorityDto().naturalId("n1").personalName(names.get(i - 1)),
+        new AuthorityDto().naturalId("n1").personalName(names.get(i)), DomainEventType.UPDATE, TENANT_ID))
+      .toList();
+
+    when(linkingService.countLinksByAuthorityIds(Set.of(id))).thenReturn(Map.of(id, 1));
+    when(sourceRecordService.getAuthoritySourceRecordsByIds(any())).thenReturn(Map.of());
+    doAnswer(emitting(new LinksChangeEvent())).when(updateHandler).handle(changeHolderCaptor.capture(), any());
+
+    service.handleAuthoritiesChanges(authorityEvents);
+
+    verify(authorityDataStatService).createInBatch(dataStatsCaptor.capture());
+    var dataStats = dataStatsCaptor.getValue();
+    assertThat(dataStats)
+      .hasSize(authorityEvents.size())
+      .extracting(AuthorityDataStat::getId)
+      .doesNotHaveDuplicates();
+    assertThat(changeHolderCaptor.getValue())
+      .singleElement()
+      .extracting(AuthorityChangeHolder::getAuthorityDataStatId)
+      .isEqualTo(dataStats.getLast().getId());
+  }
+
+  @Test
+  void handleAuthoritiesChanges_positive_updateFollowedByDeleteIsDropped() {
+    final var id = UUID.randomUUID();
+    final var authority = new AuthorityDto().naturalId("n1").personalName("new");
+    final var authorityEvents = List.of(
+      new AuthorityDomainEvent(id, new AuthorityDto().naturalId("n1").personalName("old"), authority,
+        DomainEventType.UPDATE, TENANT_ID),
+      new AuthorityDomainEvent(id, authority, null, DomainEventType.DELETE, AuthorityDeleteEventSubType.SOFT_DELETE,
+        TENANT_ID));
+
+    when(linkingService.countLinksByAuthorityIds(Set.of(id))).thenReturn(Map.of(id, 1));
+    doAnswer(emitting(new LinksChangeEvent())).when(deleteHandler).handle(changeHolderCaptor.capture(), any());
+
+    service.handleAuthoritiesChanges(authorityEvents);
+
+    verify(authorityDataStatService).createInBatch(dataStatsCaptor.capture());
+    assertThat(dataStatsCaptor.getValue())
+      .singleElement()
+      .extracting(AuthorityDataStat::getAuthorityId)
+      .isEqualTo(id);
+    verify(updateHandler, never()).handle(anyList(), any());
+    verifyNoInteractions(sourceRecordService);
+    assertThat(changeHolderCaptor.getValue())
+      .singleElement()
+      .extracting(changeHolder -> changeHolder.getEvent().getType())
+      .isEqualTo(DomainEventType.DELETE);
+  }
+
   @Test
   void handleAuthoritiesChanges_positive_updateEventOnConsortiumCentralTenant() {
     final var id = UUID.randomUUID();
@@ -237,12 +339,11 @@ class InstanceAuthorityLinkUpdateServiceTest {
     final var memberTenants = List.of("tenant1", "tenant2");
 
     var expected = new LinksChangeEvent().type(LinksChangeEvent.TypeEnum.UPDATE);
-    when(linkingService.countLinksByAuthorityIds(Set.of(id)))
-      .thenReturn(Map.of(id, 1))
-      .thenReturn(Map.of(id, 2))
-      .thenReturn(Map.of(id, 3));
-    when(sourceRecordService.getAuthoritySourceRecordById(any())).thenReturn(sourceRecord);
-    when(updateHandler.handle(changeHolderCaptor.capture())).thenReturn(List.of(expected));
+    when(linkingService.countLinksByAuthorityIds(Set.of(id))).thenReturn(Map.of(id, 1));
+    when(linkingService.countLinksByAuthorityIds(memberTenants, Set.of(id)))
+      .thenReturn(Map.of("tenant1", Map.of(id, 2), "tenant2", Map.of(id, 3)));
+    when(sourceRecordService.getAuthoritySourceRecordsByIds(any())).thenReturn(Map.of(id, sourceRecord));
+    doAnswer(emitting(expected)).when(updateHandler).handle(changeHolderCaptor.capture(), any());
     when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
     when(consortiumTenantsService.getConsortiumTenants(TENANT_ID)).thenReturn(memberTenants);
     when(authorityDataStatService.createInBatch(anyList())).thenReturn(List.of(new AuthorityDataStat()));
@@ -250,11 +351,11 @@ class InstanceAuthorityLinkUpdateServiceTest {
 
     service.handleAuthoritiesChanges(authorityEvents);
 
-    verify(eventProducer, times(3)).sendMessages(eventCaptor.capture());
-    verify(executionService).execute(eq(memberTenants.get(0)), any(FolioExecutionContext.class), any(Callable.class));
-    verify(executionService).execute(eq(memberTenants.get(1)), any(FolioExecutionContext.class), any(Callable.class));
+    verify(eventProducer, times(3)).sendMessage(isNull(), eventCaptor.capture());
+    verify(executionService).execute(eq(memberTenants.get(0)), anyMap(), any(Callable.class));
+    verify(executionService).execute(eq(memberTenants.get(1)), anyMap(), any(Callable.class));
 
-    var messages = eventCaptor.getAllValues().stream().flatMap(Collection::stream).toList();
+    var messages = eventCaptor.getAllValues();
     assertThat(messages).hasSize(3);
     assertThat(messages.getFirst().getType()).isEqualTo(LinksChangeEvent.TypeEnum.UPDATE);
 
@@ -268,9 +369,98 @@ class InstanceAuthorityLinkUpdateServiceTest {
     verify(authorityDataStatService, times(1)).createInBatch(anyList());
   }
 
+  @Test
+  void handleAuthoritiesChanges_negative_memberTenantFailureIsRethrownAfterOtherMembers() {
+    final var id = UUID.randomUUID();
+    final var authorityEvents = List.of(
+      new AuthorityDomainEvent(id, null, new AuthorityDto().naturalId("new").personalName("test"),
+        DomainEventType.UPDATE, TENANT_ID));
+    final var memberTenants = List.of("tenant1", "tenant2", "tenant3");
+
+    var expected = new LinksChangeEvent().type(LinksChangeEvent.TypeEnum.UPDATE);
+    when(linkingService.countLinksByAuthorityIds(Set.of(id))).thenReturn(Map.of(id, 1));
+    when(linkingService.countLinksByAuthorityIds(memberTenants, Set.of(id))).thenReturn(
+      Map.of("tenant1", Map.of(id, 1), "tenant2", Map.of(id, 1), "tenant3", Map.of(id, 1)));
+    when(sourceRecordService.getAuthoritySourceRecordsByIds(any())).thenReturn(Map.of());
+    doAnswer(emitting(expected)).when(updateHandler).handle(anyList(), any());
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+    when(consortiumTenantsService.getConsortiumTenants(TENANT_ID)).thenReturn(memberTenants);
+    when(authorityDataStatService.createInBatch(anyList())).thenReturn(List.of(new AuthorityDataStat()));
+    mockExecutionService();
+    doThrow(new IllegalStateException("member tenant failed"))
+      .when(executionService).execute(eq("tenant2"), anyMap(), any(Callable.class));
+
+    assertThatThrownBy(() -> service.handleAuthoritiesChanges(authorityEvents))
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessage("member tenant failed");
+
+    verify(executionService).execute(eq("tenant1"), anyMap(), any(Callable.class));
+    verify(executionService).execute(eq("tenant2"), anyMap(), any(Callable.class));
+    verify(executionService).execute(eq("tenant3"), anyMap(), any(Callable.class));
+    verify(eventProducer, times(3)).sendMessage(null, expected);
+  }
+
+  @Test
+  void handleAuthoritiesChanges_positive_skipMemberTenantsWithoutLinks() {
+    final var id = UUID.randomUUID();
+    final var authorityEvents = List.of(
+      new AuthorityDomainEvent(id, null, new AuthorityDto().naturalId("new").personalName("test"),
+        DomainEventType.UPDATE, TENANT_ID));
+    final var memberTenants = List.of("tenant1", "tenant2", "tenant3");
+
+    var expected = new LinksChangeEvent().type(LinksChangeEvent.TypeEnum.UPDATE);
+    when(linkingService.countLinksByAuthorityIds(Set.of(id))).thenReturn(Map.of(id, 1));
+    when(linkingService.countLinksByAuthorityIds(memberTenants, Set.of(id)))
+      .thenReturn(Map.of("tenant2", Map.of(id, 5)));
+    when(sourceRecordService.getAuthoritySourceRecordsByIds(any())).thenReturn(Map.of());
+    doAnswer(emitting(expected)).when(updateHandler).handle(changeHolderCaptor.capture(), any());
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+    when(consortiumTenantsService.getConsortiumTenants(TENANT_ID)).thenReturn(memberTenants);
+    when(authorityDataStatService.createInBatch(anyList())).thenReturn(List.of(new AuthorityDataStat()));
+    mockExecutionService();
+
+    service.handleAuthoritiesChanges(authorityEvents);
+
+    verify(executionService).execute(eq("tenant2"), anyMap(), any(Callable.class));
+    verifyNoMoreInteractions(executionService);
+    verify(eventProducer, times(2)).sendMessage(null, expected);
+    assertThat(changeHolderCaptor.getAllValues().stream().flatMap(Collection::stream).toList())
+      .extracting(AuthorityChangeHolder::getNumberOfLinks)
+      .containsExactlyInAnyOrder(1, 5);
+  }
+
+  @Test
+  void handleAuthoritiesChanges_positive_noMemberTenantsWithLinks() {
+    final var id = UUID.randomUUID();
+    final var authorityEvents = List.of(
+      new AuthorityDomainEvent(id, null, new AuthorityDto().naturalId("new").personalName("test"),
+        DomainEventType.UPDATE, TENANT_ID));
+    final var memberTenants = List.of("tenant1", "tenant2");
+
+    when(linkingService.countLinksByAuthorityIds(Set.of(id))).thenReturn(Map.of(id, 1));
+    when(linkingService.countLinksByAuthorityIds(memberTenants, Set.of(id))).thenReturn(Map.of());
+    when(sourceRecordService.getAuthoritySourceRecordsByIds(any())).thenReturn(Map.of());
+    doAnswer(emitting(new LinksChangeEvent())).when(updateHandler).handle(anyList(), any());
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+    when(consortiumTenantsService.getConsortiumTenants(TENANT_ID)).thenReturn(memberTenants);
+    when(authorityDataStatService.createInBatch(anyList())).thenReturn(List.of(new AuthorityDataStat()));
+
+    service.handleAuthoritiesChanges(authorityEvents);
+
+    verify(updateHandler).handle(anyList(), any());
+    verifyNoInteractions(executionService);
+  }
+
+  private Answer<Void> emitting(LinksChangeEvent event) {
+    return invocation -> {
+      invocation.<Consumer<LinksChangeEvent>>getArgument(1).accept(event);
+      return null;
+    };
+  }
+
   @SuppressWarnings("unchecked")
   private void mockExecutionService() {
     doAnswer(invocationOnMock -> ((Callable<Object>) invocationOnMock.getArgument(2)).call())
-      .when(executionService).execute(any(), any(FolioExecutionContext.class), any(Callable.class));
+      .when(executionService).execute(any(), anyMap(), any(Callable.class));
   }
 }
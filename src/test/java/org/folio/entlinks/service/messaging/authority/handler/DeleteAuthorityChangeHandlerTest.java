@@ -10,13 +10,15 @@ import static org.folio.entlinks.service.messaging.authority.model.AuthorityChan
 import static org.folio.support.base.TestConstants.TENANT_ID;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -40,8 +42,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
@@ -82,18 +82,26 @@ class DeleteAuthorityChangeHandlerTest {
     var link2 = TestDataUtils.Link.of(0, 2);
     var link3 = TestDataUtils.Link.of(2, 1);
 
-    doNothing().when(linkingService).deleteByAuthorityIdIn(anySet());
+    var linkEntity1 = link1.toEntity(instanceId1);
+    linkEntity1.setId(10L);
+    var linkEntity2 = link2.toEntity(instanceId2);
+    linkEntity2.setId(20L);
+    var linkEntity3 = link3.toEntity(instanceId3);
+    linkEntity3.setId(30L);
+
+    when(linkingService.deleteByAuthorityIdIn(anySet())).thenReturn(3);
     when(properties.getNumPartitions()).thenReturn(1);
-    when(linkingService.getLinksByAuthorityId(eq(id1), any()))
-      .thenReturn(new PageImpl<>(List.of(link1.toEntity(instanceId1)), Pageable.ofSize(1), 2))
-      .thenReturn(new PageImpl<>(List.of(link2.toEntity(instanceId2))));
-    when(linkingService.getLinksByAuthorityId(eq(id2), any()))
-      .thenReturn(new PageImpl<>(List.of(link3.toEntity(instanceId3))));
+    when(linkingService.getLinksByAuthorityId(id1, 0L, 1)).thenReturn(List.of(linkEntity1));
+    when(linkingService.getLinksByAuthorityId(id1, 10L, 1)).thenReturn(List.of(linkEntity2));
+    when(linkingService.getLinksByAuthorityId(id1, 20L, 1)).thenReturn(List.of());
+    when(linkingService.getLinksByAuthorityId(id2, 0L, 1)).thenReturn(List.of(linkEntity3));
+    when(linkingService.getLinksByAuthorityId(id2, 30L, 1)).thenReturn(List.of());
 
-    var actual = handler.handle(events);
+    var actual = new ArrayList<LinksChangeEvent>();
+    handler.handle(events, actual::add);
 
     verify(linkingService).deleteByAuthorityIdIn(Set.of(id1, id2));
-    verify(linkingService, times(3)).getLinksByAuthorityId(any(UUID.class), any(Pageable.class));
+    verify(linkingService, times(5)).getLinksByAuthorityId(any(UUID.class), anyLong(), anyInt());
 
     assertThat(actual)
       .hasSize(3)
@@ -121,14 +129,14 @@ class DeleteAuthorityChangeHandlerTest {
     var authorityEvents = List.of(new AuthorityChangeHolder(authorityDomainEvent, changes, emptyMap(), 1));
     var link = TestDataUtils.Link.of(1, 1);
     var instanceId = UUID.randomUUID();
-    doNothing().when(linkingService).deleteByAuthorityIdIn(Set.of(id));
-    when(properties.getNumPartitions()).thenReturn(1);
-    when(linkingService.getLinksByAuthorityId(eq(id), any())).thenReturn(
-      new PageImpl<>(List.of(link.toEntity(instanceId)), Pageable.ofSize(1), 1));
+    when(linkingService.deleteByAuthorityIdIn(Set.of(id))).thenReturn(1);
+    when(properties.getNumPartitions()).thenReturn(2);
+    when(linkingService.getLinksByAuthorityId(id, 0L, 2)).thenReturn(List.of(link.toEntity(instanceId)));
 
-    var actual = handler.handle(authorityEvents);
+    var actual = new ArrayList<LinksChangeEvent>();
+    handler.handle(authorityEvents, actual::add);
 
-    verify(linkingService).getLinksByAuthorityId(eq(id), any());
+    verify(linkingService).getLinksByAuthorityId(eq(id), anyLong(), anyInt());
     verify(linkingService).deleteByAuthorityIdIn(Set.of(id));
     assertThat(actual)
       .hasSize(1)
@@ -138,18 +146,47 @@ class DeleteAuthorityChangeHandlerTest {
 
   @Test
   void handle_positive_emptyEventList() {
-    var actual = handler.handle(emptyList());
+    var actual = new ArrayList<LinksChangeEvent>();
+    handler.handle(emptyList(), actual::add);
 
     assertThat(actual).isEmpty();
   }
 
   @Test
   void handle_positive_nullEventList() {
-    var actual = handler.handle(null);
+    var actual = new ArrayList<LinksChangeEvent>();
+    handler.handle(null, actual::add);
 
     assertThat(actual).isEmpty();
   }
 
+  @Test
+  void handle_positive_emitsEventOfEachPartitionBeforeReadingNextOne() {
+    var id = UUID.randomUUID();
+    var events = List.of(new AuthorityChangeHolder(prepareAuthorityDeleteEvent(id), emptyMap(), emptyMap(), 3));
+    var links = List.of(TestDataUtils.Link.of(0, 1), TestDataUtils.Link.of(1, 1), TestDataUtils.Link.of(2, 1))
+      .stream()
+      .map(link -> link.toEntity(UUID.randomUUID()))
+      .toList();
+    for (int i = 0; i < links.size(); i++) {
+      links.get(i).setId(i + 1L);
+    }
+    var actual = new ArrayList<LinksChangeEvent>();
+    when(properties.getNumPartitions()).thenReturn(2);
+    when(linkingService.getLinksByAuthorityId(id, 0L, 2)).thenReturn(links.subList(0, 2));
+    when(linkingService.getLinksByAuthorityId(id, 2L, 2)).thenAnswer(invocation -> {
+      assertThat(actual).hasSize(1);
+      return links.subList(2, 3);
+    });
+
+    handler.handle(events, actual::add);
+
+    assertThat(actual).hasSize(2)
+      .extracting(event -> event.getUpdateTargets().stream().mapToInt(target -> target.getLinks().size()).sum())
+      .containsExactly(2, 1);
+    verify(linkingService).deleteByAuthorityIdIn(Set.of(id));
+  }
+
   private AuthorityDomainEvent prepareAuthorityDeleteEvent(UUID id) {
     var authorityDto = new AuthorityDto().naturalId("n12345").personalName("name");
     return new AuthorityDomainEvent(id, authorityDto, authorityDto, DomainEventType.DELETE, TENANT_ID);
@@ -9,15 +9,17 @@ import static org.folio.entlinks.service.messaging.authority.model.AuthorityChan
 import static org.folio.support.base.TestConstants.TENANT_ID;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import org.folio.entlinks.config.properties.InstanceAuthorityChangeProperties;
 import org.folio.entlinks.domain.dto.AuthorityDto;
 import org.folio.entlinks.domain.dto.ChangeTargetLink;
@@ -26,11 +28,11 @@ import org.folio.entlinks.domain.dto.LinksChangeEvent;
 import org.folio.entlinks.domain.entity.InstanceAuthorityLink;
 import org.folio.entlinks.domain.entity.InstanceAuthorityLinkStatus;
 import org.folio.entlinks.domain.entity.InstanceAuthorityLinkingRule;
-import org.folio.entlinks.domain.repository.AuthoritySourceFileRepository;
 import org.folio.entlinks.integration.dto.AuthoritySourceRecord;
 import org.folio.entlinks.integration.dto.event.AuthorityDomainEvent;
 import org.folio.entlinks.integration.dto.event.DomainEventType;
 import org.folio.entlinks.integration.kafka.EventProducer;
+import org.folio.entlinks.service.authority.AuthoritySourceFileCacheService;
 import org.folio.entlinks.service.links.InstanceAuthorityLinkingRulesService;
 import org.folio.entlinks.service.links.InstanceAuthorityLinkingService;
 import org.folio.entlinks.service.messaging.authority.AuthorityMappingRulesProcessingService;
@@ -47,8 +49,6 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
@@ -60,7 +60,7 @@ class UpdateAuthorityChangeHandlerTest {
   private @Mock FolioExecutionContext context;
   private @Mock InstanceAuthorityLinkingService linkingService;
   private @Mock InstanceAuthorityChangeProperties instanceAuthorityChangeProperties;
-  private @Mock AuthoritySourceFileRepository sourceFileRepository;
+  private @Mock AuthoritySourceFileCacheService sourceFileCacheService;
   private @InjectMocks UpdateAuthorityChangeHandler handler;
 
   @Captor
@@ -90,6 +90,7 @@ class UpdateAuthorityChangeHandlerTest {
     expected.setStatus(LinkUpdateReport.StatusEnum.FAIL);
 
     when(mappingRulesProcessingService.getTagByAuthorityChangeField(any())).thenReturn(Optional.of("notExistingTag"));
+    when(linksUpdateKafkaTemplate.sendMessages(anyList())).thenReturn(CompletableFuture.completedFuture(null));
 
     var changes = Map.of(
       PERSONAL_NAME, new AuthorityChange(PERSONAL_NAME, "new", "old")
@@ -97,8 +98,10 @@ class UpdateAuthorityChangeHandlerTest {
     var event = new AuthorityDomainEvent(id, null, null, DomainEventType.UPDATE, null);
     var changeHolder = new AuthorityChangeHolder(event, changes, emptyMap(), 1);
     changeHolder.setSourceRecord(new AuthoritySourceRecord(id, UUID.randomUUID(), new RecordImpl()));
-    handler.handle(List.of(changeHolder));
+    var actual = new ArrayList<LinksChangeEvent>();
+    handler.handle(List.of(changeHolder), actual::add);
 
+    assertThat(actual).isEmpty();
     verify(linksUpdateKafkaTemplate).sendMessages(producerRecord.capture());
     assertThat(producerRecord.getValue().getFirst())
       .extracting("tenant", "failCause", "status")
@@ -111,18 +114,19 @@ class UpdateAuthorityChangeHandlerTest {
     var instanceId = UUID.randomUUID();
 
     when(instanceAuthorityChangeProperties.getNumPartitions()).thenReturn(2);
-    when(linkingService.getLinksByAuthorityId(eq(authorityId), any(Pageable.class))).thenReturn(new PageImpl<>(List.of(
+    when(linkingService.getLinksByAuthorityId(authorityId, 0L, 2)).thenReturn(List.of(
       new InstanceAuthorityLink(1L, authorityId, instanceId,
-        new InstanceAuthorityLinkingRule(1, "100", "100", new char[] {'a'}, null, null, true),
+        new InstanceAuthorityLinkingRule(1, "100", "100", new char[] {'a'}, null, null, true, 0),
         InstanceAuthorityLinkStatus.ACTUAL, null, null)
-    )));
+    ));
 
     var changeHolder = new AuthorityChangeHolder(new AuthorityDomainEvent(authorityId,
       new AuthorityDto().naturalId("n1010101").sourceFileId(UUID.randomUUID()),
       new AuthorityDto().naturalId("1010101"), DomainEventType.UPDATE, TENANT_ID),
       Map.of(NATURAL_ID, new AuthorityChange(NATURAL_ID, "1010101", "n1010101")), emptyMap(), 1);
     changeHolder.setSourceRecord(new AuthoritySourceRecord(authorityId, UUID.randomUUID(), new RecordImpl()));
-    var actual = handler.handle(List.of(changeHolder));
+    var actual = new ArrayList<LinksChangeEvent>();
+    handler.handle(List.of(changeHolder), actual::add);
     assertThat(actual).isNotEmpty().hasSize(1);
     assertThat(actual.getFirst())
       .extracting(LinksChangeEvent::getAuthorityId, LinksChangeEvent::getType)
@@ -143,14 +147,16 @@ class UpdateAuthorityChangeHandlerTest {
 
   @Test
   void handle_positive_emptyEventList() {
-    var actual = handler.handle(emptyList());
+    var actual = new ArrayList<LinksChangeEvent>();
+    handler.handle(emptyList(), actual::add);
 
     assertThat(actual).isEmpty();
   }
 
   @Test
   void handle_positive_nullEventList() {
-    var actual = handler.handle(null);
+    var actual = new ArrayList<LinksChangeEvent>();
+    handler.handle(null, actual::add);
 
     assertThat(actual).isEmpty();
   }
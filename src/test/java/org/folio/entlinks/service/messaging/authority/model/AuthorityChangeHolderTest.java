@@ -327,4 +327,50 @@ class AuthorityChangeHolderTest {
     assertEquals(0, copy.getNumberOfLinks());
     assertNotNull(copy.getAuthorityDataStatId());
   }
+
+  @Test
+  void mergeWith_positive_netChangeFromFirstOldToLastNew() {
+    var id = UUID.randomUUID();
+    var fieldTagRelation = Map.of(PERSONAL_NAME, "100");
+    var first = new AuthorityChangeHolder(
+      new AuthorityDomainEvent(id, new AuthorityDto().naturalId("n1").personalName("first"),
+        new AuthorityDto().naturalId("n1").personalName("second"), UPDATE, TENANT_ID),
+      Map.of(PERSONAL_NAME, new AuthorityChange(PERSONAL_NAME, "second", "first")), fieldTagRelation, 1);
+    var nextEvent = new AuthorityDomainEvent(id, new AuthorityDto().naturalId("n1").personalName("second"),
+      new AuthorityDto().naturalId("n2").personalName("third"), UPDATE, TENANT_ID);
+    nextEvent.setTs("123");
+    var next = new AuthorityChangeHolder(nextEvent,
+      Map.of(NATURAL_ID, new AuthorityChange(NATURAL_ID, "n2", "n1"),
+        PERSONAL_NAME, new AuthorityChange(PERSONAL_NAME, "third", "second")), fieldTagRelation, 2);
+
+    var merged = first.mergeWith(next);
+
+    assertEquals(id, merged.getAuthorityId());
+    assertEquals(UPDATE, merged.getEvent().getType());
+    assertEquals("123", merged.getEvent().getTs());
+    assertEquals("n1", merged.getOldNaturalId());
+    assertEquals("n2", merged.getNewNaturalId());
+    assertEquals(PERSONAL_NAME, merged.getFieldChange());
+    assertTrue(merged.isNaturalIdChanged());
+    assertEquals(2, merged.getNumberOfLinks());
+    assertEquals(next.getAuthorityDataStatId(), merged.getAuthorityDataStatId());
+    assertEquals(AuthorityDataStatAction.UPDATE_HEADING, merged.toAuthorityDataStat().getAction());
+  }
+
+  @Test
+  void mergeWith_positive_noNetChange() {
+    var id = UUID.randomUUID();
+    var first = new AuthorityChangeHolder(
+      new AuthorityDomainEvent(id, new AuthorityDto().personalName("first"),
+        new AuthorityDto().personalName("second"), UPDATE, TENANT_ID),
+      Map.of(PERSONAL_NAME, new AuthorityChange(PERSONAL_NAME, "second", "first")), Map.of(), 1);
+    var next = new AuthorityChangeHolder(
+      new AuthorityDomainEvent(id, new AuthorityDto().personalName("second"),
+        new AuthorityDto().personalName("first"), UPDATE, TENANT_ID),
+      Map.of(PERSONAL_NAME, new AuthorityChange(PERSONAL_NAME, "first", "second")), Map.of(), 1);
+
+    var merged = first.mergeWith(next);
+
+    assertFalse(merged.changesExist());
+  }
 }
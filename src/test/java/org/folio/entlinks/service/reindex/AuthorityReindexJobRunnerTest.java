@@ -1,30 +1,51 @@
 package org.folio.entlinks.service.reindex;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Stream;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import org.folio.entlinks.config.properties.ReindexProperties;
+import org.folio.entlinks.controller.converter.AuthorityMapper;
 import org.folio.entlinks.domain.dto.AuthorityDto;
+import org.folio.entlinks.domain.entity.Authority;
 import org.folio.entlinks.domain.entity.ReindexJob;
 import org.folio.entlinks.domain.entity.ReindexJobResource;
+import org.folio.entlinks.exception.ReindexJobCancelledException;
 import org.folio.entlinks.service.authority.AuthorityDomainEventPublisher;
 import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.scope.FolioExecutionContextService;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import tools.jackson.databind.ObjectMapper;
 
+@UnitTest
 @ExtendWith(MockitoExtension.class)
 class AuthorityReindexJobRunnerTest {
 
+  private static final String TENANT_ID = "test";
+
   @Mock
   private JdbcTemplate jdbcTemplate;
 
@@ -34,43 +55,131 @@ class AuthorityReindexJobRunnerTest {
   @Mock
   private FolioExecutionContext folioExecutionContext;
 
+  @Mock
+  private FolioExecutionContextService executionService;
+
   @Mock
   private ReindexService reindexService;
 
-  @InjectMocks
+  @Mock
+  private AuthorityMapper mapper;
+
+  private final ReindexProperties reindexProperties = new ReindexProperties();
+  private final ReindexJob reindexJob = new ReindexJob()
+    .withResourceName(ReindexJobResource.AUTHORITY)
+    .withId(UUID.randomUUID());
+
+  private final ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
   private AuthorityReindexJobRunner jobRunner;
 
+  @BeforeEach
+  void setUp() throws Exception {
+    reindexProperties.setPartitions(1);
+    reindexProperties.setBatchSize(2);
+    reindexProperties.setPartitionRetries(1);
+    jobRunner = new AuthorityReindexJobRunner(jdbcTemplate, folioExecutionContext, executionService,
+      reindexService, reindexProperties, eventPublisher, mapper, new ObjectMapper());
+
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+    when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class))).thenReturn(3);
+    when(executionService.execute(eq(TENANT_ID), anyMap(), any(Callable.class)))
+      .thenAnswer(invocation -> invocation.<Callable<?>>getArgument(2).call());
+  }
+
   @Test
-  void shouldInitiateReindexJob() {
-    var id = UUID.randomUUID();
-    var expectedDto = new AuthorityDto();
-    expectedDto.setId(id);
-    expectedDto.setPersonalName("personal_name");
-    expectedDto.setSource("source");
-    expectedDto.setVersion(1);
-    expectedDto.setSourceFileId(id);
-    expectedDto.setNaturalId("10");
-    expectedDto.setSubjectHeadings("a");
-
-    when(jdbcTemplate.queryForObject(any(), eq(Integer.class))).thenReturn(1);
-    when(jdbcTemplate.queryForStream(anyString(), any())).thenReturn(Stream.of(expectedDto));
-    var authorityCaptor = ArgumentCaptor.forClass(AuthorityDto.class);
-    var progressCaptor = ArgumentCaptor.forClass(ReindexJobProgressTracker.class);
-    var jobIdCaptor = ArgumentCaptor.forClass(UUID.class);
-
-    var reindexJob = new ReindexJob().withResourceName(ReindexJobResource.AUTHORITY).withId(UUID.randomUUID());
+  void shouldPublishAllAuthoritiesPageByPage() {
+    var authorities = List.of(authority(), authority(), authority());
+    var expectedDto = new AuthorityDto().id(authorities.getFirst().getId());
+    when(mapper.toDto(any(Authority.class))).thenReturn(expectedDto);
+    when(eventPublisher.publishReindexEvent(any(AuthorityDto.class), any(ReindexContext.class)))
+      .thenAnswer(invocation -> CompletableFuture.completedFuture(null));
+    mockPages(authorities.subList(0, 2), authorities.subList(2, 3), List.of());
 
     jobRunner.startReindex(reindexJob);
 
-    verify(eventPublisher).publishReindexEvent(authorityCaptor.capture(), any(ReindexContext.class));
-    verify(reindexService).logJobProgress(progressCaptor.capture(), jobIdCaptor.capture());
-    var dto = authorityCaptor.getValue();
-    assertEquals(expectedDto, dto);
-    assertEquals(reindexJob.getId(), jobIdCaptor.getValue());
-    var progressTracker = progressCaptor.getValue();
-    assertEquals(1, progressTracker.getProcessedCount());
-    assertEquals(1, progressTracker.getTotalRecords());
-    verify(reindexService).logJobSuccess(jobIdCaptor.capture());
-    assertEquals(reindexJob.getId(), jobIdCaptor.getValue());
+    var partition = new ReindexPartition(0, null, null);
+    verify(eventPublisher, times(3)).publishReindexEvent(eq(expectedDto), any(ReindexContext.class));
+    verify(reindexService).logJobProgress(reindexJob.getId(), partition, authorities.get(1).getId(), 2);
+    verify(reindexService).logJobProgress(reindexJob.getId(), partition, authorities.get(2).getId(), 1);
+    verify(reindexService).logJobSuccess(reindexJob.getId());
+    verify(reindexService, never()).logJobFailed(any());
+  }
+
+  @Test
+  void shouldContinueFromCheckpoint_whenJobResumed() {
+    var checkpointId = UUID.randomUUID();
+    reindexJob.setPartitions(1);
+    reindexJob.setCheckpoint(Map.of(0, checkpointId));
+    mockPages(List.of());
+
+    jobRunner.startReindex(reindexJob);
+
+    var paramsCaptor = ArgumentCaptor.forClass(Object[].class);
+    verify(jdbcTemplate).query(sqlCaptor.capture(), any(RowMapper.class), paramsCaptor.capture());
+    assertThat(sqlCaptor.getValue()).contains("id > ?");
+    assertThat(paramsCaptor.getValue()).containsExactly(checkpointId, reindexProperties.getBatchSize());
+    verify(eventPublisher, never()).publishReindexEvent(any(), any());
+    verify(reindexService).logJobSuccess(reindexJob.getId());
+  }
+
+  @Test
+  void shouldResumePartition_whenPageFetchFailed() {
+    var authority = authority();
+    when(mapper.toDto(authority)).thenReturn(new AuthorityDto().id(authority.getId()));
+    when(eventPublisher.publishReindexEvent(any(AuthorityDto.class), any(ReindexContext.class)))
+      .thenAnswer(invocation -> CompletableFuture.completedFuture(null));
+    doThrow(new DataAccessResourceFailureException("connection reset"))
+      .doReturn(List.of(authority))
+      .doReturn(List.of())
+      .when(jdbcTemplate).query(anyString(), any(RowMapper.class), any(Object[].class));
+
+    jobRunner.startReindex(reindexJob);
+
+    verify(jdbcTemplate, times(3)).query(anyString(), any(RowMapper.class), any(Object[].class));
+    verify(eventPublisher).publishReindexEvent(any(AuthorityDto.class), any(ReindexContext.class));
+    verify(reindexService).logJobSuccess(reindexJob.getId());
+  }
+
+  @Test
+  void shouldFailJob_whenPartitionRetriesExhausted() {
+    doThrow(new DataAccessResourceFailureException("connection reset"))
+      .when(jdbcTemplate).query(anyString(), any(RowMapper.class), any(Object[].class));
+
+    jobRunner.startReindex(reindexJob);
+
+    verify(jdbcTemplate, times(2)).query(anyString(), any(RowMapper.class), any(Object[].class));
+    verify(reindexService).logJobFailed(reindexJob.getId());
+    verify(reindexService, never()).logJobSuccess(any());
+  }
+
+  @Test
+  void shouldFailJobWithoutRetries_whenJobCancelled() {
+    var authority = authority();
+    when(mapper.toDto(authority)).thenReturn(new AuthorityDto().id(authority.getId()));
+    when(eventPublisher.publishReindexEvent(any(AuthorityDto.class), any(ReindexContext.class)))
+      .thenAnswer(invocation -> CompletableFuture.completedFuture(null));
+    mockPages(List.of(authority));
+    doThrow(new ReindexJobCancelledException())
+      .when(reindexService).logJobProgress(eq(reindexJob.getId()), any(ReindexPartition.class), any(UUID.class),
+        anyInt());
+
+    jobRunner.startReindex(reindexJob);
+
+    verify(jdbcTemplate).query(anyString(), any(RowMapper.class), any(Object[].class));
+    verify(reindexService).logJobFailed(reindexJob.getId());
+    verify(reindexService, never()).logJobSuccess(any());
+  }
+
+  @SafeVarargs
+  private void mockPages(List<Authority> firstPage, List<Authority>... nextPages) {
+    doReturn(firstPage, (Object[]) nextPages)
+      .when(jdbcTemplate).query(anyString(), any(RowMapper.class), any(Object[].class));
+  }
+
+  private Authority authority() {
+    var authority = new Authority();
+    authority.setId(UUID.randomUUID());
+    authority.setSource("MARC");
+    return authority;
   }
 }
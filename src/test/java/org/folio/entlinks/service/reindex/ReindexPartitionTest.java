@@ -0,0 +1,41 @@
+package org.folio.entlinks.service.reindex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.UUID;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class ReindexPartitionTest {
+
+  @Test
+  void split_positive_coverWholeIdSpaceWithAdjacentRanges() {
+    var partitions = ReindexPartition.split(4);
+
+    assertThat(partitions).hasSize(4)
+      .extracting(ReindexPartition::index)
+      .containsExactly(0, 1, 2, 3);
+    assertThat(partitions.getFirst().lowerBound()).isNull();
+    assertThat(partitions.getLast().upperBound()).isNull();
+    for (int i = 1; i < partitions.size(); i++) {
+      assertThat(partitions.get(i).lowerBound()).isEqualTo(partitions.get(i - 1).upperBound());
+    }
+    assertThat(partitions.get(1).lowerBound()).isEqualTo(UUID.fromString("40000000-0000-0000-0000-000000000000"));
+    assertThat(partitions.get(2).lowerBound()).isEqualTo(UUID.fromString("80000000-0000-0000-0000-000000000000"));
+    assertThat(partitions.get(3).lowerBound()).isEqualTo(UUID.fromString("c0000000-0000-0000-0000-000000000000"));
+  }
+
+  @Test
+  void split_positive_singlePartitionIsUnbounded() {
+    assertThat(ReindexPartition.split(1))
+      .containsExactly(new ReindexPartition(0, null, null));
+  }
+
+  @Test
+  void split_negative_notPositiveCount() {
+    assertThatThrownBy(() -> ReindexPartition.split(0))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -2,10 +2,13 @@ package org.folio.entlinks.service.reindex;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.folio.entlinks.domain.entity.ReindexJobStatus.IDS_PUBLISHED;
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.folio.entlinks.domain.entity.ReindexJobStatus.ID_PUBLISHING_CANCELLED;
+import static org.folio.entlinks.domain.entity.ReindexJobStatus.ID_PUBLISHING_FAILED;
+import static org.folio.entlinks.domain.entity.ReindexJobStatus.IN_PROGRESS;
+import static org.folio.entlinks.domain.entity.ReindexJobStatus.PENDING_CANCEL;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -13,17 +16,22 @@ import static org.mockito.Mockito.when;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import org.folio.entlinks.config.properties.ReindexProperties;
 import org.folio.entlinks.domain.entity.ReindexJob;
 import org.folio.entlinks.domain.entity.ReindexJobResource;
 import org.folio.entlinks.domain.entity.ReindexJobStatus;
+import org.folio.entlinks.domain.repository.ReindexJobJdbcRepository;
 import org.folio.entlinks.domain.repository.ReindexJobRepository;
+import org.folio.entlinks.exception.ReindexJobCancelledException;
 import org.folio.entlinks.exception.ReindexJobNotFoundException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -34,6 +42,12 @@ class ReindexServiceTest {
   @Mock
   private ReindexJobRepository repository;
 
+  @Mock
+  private ReindexJobJdbcRepository jdbcRepository;
+
+  @Spy
+  private ReindexProperties reindexProperties = new ReindexProperties();
+
   @InjectMocks
   private ReindexService service;
 
@@ -52,6 +66,7 @@ class ReindexServiceTest {
     assertThat(submitted.getJobStatus()).isEqualTo(ReindexJobStatus.IN_PROGRESS);
     assertThat(submitted.getResourceName()).isEqualTo(ReindexJobResource.AUTHORITY);
     assertThat(submitted.getPublished()).isZero();
+    assertThat(submitted.getPartitions()).isEqualTo(reindexProperties.getPartitions());
   }
 
   @Test
@@ -77,70 +92,116 @@ class ReindexServiceTest {
 
   @Test
   void shouldCancelInProgressReindexJob() {
-    var job = new ReindexJob().withJobStatus(ReindexJobStatus.IN_PROGRESS);
-    when(repository.findById(any(UUID.class))).thenReturn(Optional.of(job));
-    when(repository.save(any(ReindexJob.class))).thenReturn(job);
+    var id = UUID.randomUUID();
+    var job = new ReindexJob().withJobStatus(PENDING_CANCEL);
+    when(jdbcRepository.updateStatus(id, PENDING_CANCEL, Set.of(IN_PROGRESS, PENDING_CANCEL))).thenReturn(true);
+    when(repository.findById(id)).thenReturn(Optional.of(job));
 
-    var saved = service.cancelReindex(UUID.randomUUID());
+    var cancelled = service.cancelReindex(id);
 
-    assertThat(saved.getJobStatus()).isEqualTo(ReindexJobStatus.PENDING_CANCEL);
-    verify(repository).findById(any(UUID.class));
-    verify(repository).save(any(ReindexJob.class));
-    verifyNoMoreInteractions(repository);
+    assertThat(cancelled.getJobStatus()).isEqualTo(PENDING_CANCEL);
+    verify(repository, never()).save(any(ReindexJob.class));
   }
 
   @Test
-  void shouldNotLogProgressOnlyForEvery1000Events() {
-    var tracker = new ReindexJobProgressTracker(1500);
-    tracker.incrementProcessedCount();
-    tracker.incrementProcessedCount();
+  void shouldReturnFailedReindexJobOnCancel() {
+    var id = UUID.randomUUID();
+    var job = new ReindexJob().withJobStatus(ID_PUBLISHING_FAILED);
+    when(jdbcRepository.updateStatus(id, PENDING_CANCEL, Set.of(IN_PROGRESS, PENDING_CANCEL))).thenReturn(false);
+    when(repository.findById(id)).thenReturn(Optional.of(job));
 
-    service.logJobProgress(tracker, UUID.randomUUID());
+    var cancelled = service.cancelReindex(id);
 
-    verifyNoInteractions(repository);
+    assertThat(cancelled.getJobStatus()).isEqualTo(ID_PUBLISHING_FAILED);
+    verify(repository, never()).save(any(ReindexJob.class));
   }
 
   @Test
-  void shouldNotLogProgressForCancelledJob() {
-    var tracker = mock(ReindexJobProgressTracker.class);
-    when(tracker.getProcessedCount()).thenReturn(1000);
-    var job = new ReindexJob().withJobStatus(ReindexJobStatus.PENDING_CANCEL);
-    when(repository.findById(any(UUID.class))).thenReturn(Optional.of(job));
+  void shouldThrowReindexJobCancelledExceptionWhenProgressNotUpdated() {
     var id = UUID.randomUUID();
+    var partition = new ReindexPartition(0, null, null);
+    var lastId = UUID.randomUUID();
+    when(jdbcRepository.updateProgress(id, 0, lastId, 10)).thenReturn(false);
 
-    var thrown = assertThrows(IllegalStateException.class, () -> service.logJobProgress(tracker, id));
+    var thrown = assertThrows(ReindexJobCancelledException.class,
+      () -> service.logJobProgress(id, partition, lastId, 10));
 
     assertThat(thrown.getMessage()).containsOnlyOnce("The job has been cancelled");
   }
 
   @Test
-  void shouldLogProgressForCancelledJob() {
-    var tracker = mock(ReindexJobProgressTracker.class);
-    when(tracker.getProcessedCount()).thenReturn(1000);
-    var job = new ReindexJob().withJobStatus(ReindexJobStatus.IN_PROGRESS);
+  void shouldLogProgressWithPartitionCheckpoint() {
+    var id = UUID.randomUUID();
+    var partition = new ReindexPartition(2, null, null);
+    var lastId = UUID.randomUUID();
+    when(jdbcRepository.updateProgress(id, 2, lastId, 10)).thenReturn(true);
+
+    service.logJobProgress(id, partition, lastId, 10);
+
+    verify(jdbcRepository).updateProgress(id, 2, lastId, 10);
+    verifyNoInteractions(repository);
+  }
+
+  @Test
+  void shouldResumeFailedReindexJob() {
+    var id = UUID.randomUUID();
+    var job = new ReindexJob().withJobStatus(IN_PROGRESS);
+    when(jdbcRepository.updateStatus(id, IN_PROGRESS, Set.of(ID_PUBLISHING_FAILED, ID_PUBLISHING_CANCELLED),
+      Set.of(IN_PROGRESS, PENDING_CANCEL), reindexProperties.getStaleJobTimeout()))
+      .thenReturn(true);
+    when(repository.findById(id)).thenReturn(Optional.of(job));
+
+    var resumed = service.resumeReindex(id);
+
+    assertThat(resumed.getJobStatus()).isEqualTo(IN_PROGRESS);
+    verify(repository, never()).save(any(ReindexJob.class));
+  }
+
+  @Test
+  void shouldThrowIllegalStateExceptionForResumeWhenJobInProgress() {
+    var id = UUID.randomUUID();
+    var job = new ReindexJob().withJobStatus(IN_PROGRESS);
+    when(jdbcRepository.updateStatus(id, IN_PROGRESS, Set.of(ID_PUBLISHING_FAILED, ID_PUBLISHING_CANCELLED),
+      Set.of(IN_PROGRESS, PENDING_CANCEL), reindexProperties.getStaleJobTimeout()))
+      .thenReturn(false);
+    when(repository.findById(id)).thenReturn(Optional.of(job));
+
+    var thrown = assertThrows(IllegalStateException.class, () -> service.resumeReindex(id));
+
+    assertThat(thrown.getMessage()).containsOnlyOnce("The job is in progress");
+    verify(repository, never()).save(any(ReindexJob.class));
+  }
+
+  @Test
+  void shouldThrowIllegalStateExceptionForResumeWhenJobFinishedPublishingEvents() {
+    var job = new ReindexJob().withJobStatus(IDS_PUBLISHED);
     when(repository.findById(any(UUID.class))).thenReturn(Optional.of(job));
-    when(repository.saveAndFlush(any(ReindexJob.class))).thenReturn(job);
     var id = UUID.randomUUID();
 
-    service.logJobProgress(tracker, id);
+    var thrown = assertThrows(IllegalStateException.class, () -> service.resumeReindex(id));
+
+    assertThat(thrown.getMessage()).containsOnlyOnce("The job has been finished");
+  }
+
+  @Test
+  void shouldThrowNoJobFoundExceptionForResumeByGivenId() {
+    when(repository.findById(any(UUID.class))).thenReturn(Optional.empty());
+    var id = UUID.randomUUID();
+
+    var thrown = assertThrows(ReindexJobNotFoundException.class, () -> service.resumeReindex(id));
 
-    verify(repository).findById(any(UUID.class));
-    verify(repository).saveAndFlush(any(ReindexJob.class));
+    assertThat(thrown.getMessage()).containsOnlyOnce(id.toString());
   }
 
   @Test
   void shouldLogJobFailed() {
-    var job = new ReindexJob().withJobStatus(ReindexJobStatus.IN_PROGRESS);
-    when(repository.findById(any(UUID.class))).thenReturn(Optional.of(job));
-    when(repository.save(any(ReindexJob.class))).thenReturn(job);
     var id = UUID.randomUUID();
-    var captor = ArgumentCaptor.forClass(ReindexJob.class);
+    when(jdbcRepository.updateStatusToFailed(id)).thenReturn(true);
 
     service.logJobFailed(id);
 
-    verify(repository).save(captor.capture());
-    var logged = captor.getValue();
-    assertThat(logged.getJobStatus()).isEqualTo(ReindexJobStatus.ID_PUBLISHING_FAILED);
+    verify(jdbcRepository).updateStatusToFailed(id);
+    verifyNoInteractions(repository);
   }
 
   @Test
@@ -179,11 +240,12 @@ class ReindexServiceTest {
 
   @Test
   void shouldLogJobSuccess() {
-    var expected = new ReindexJob();
-    when(repository.findById(any(UUID.class))).thenReturn(Optional.of(expected));
+    var id = UUID.randomUUID();
+    when(jdbcRepository.updateStatus(id, IDS_PUBLISHED, Set.of(IN_PROGRESS, PENDING_CANCEL))).thenReturn(true);
 
-    service.logJobSuccess(UUID.randomUUID());
+    service.logJobSuccess(id);
 
-    assertEquals(IDS_PUBLISHED, expected.getJobStatus());
+    verify(jdbcRepository).updateStatus(id, IDS_PUBLISHED, Set.of(IN_PROGRESS, PENDING_CANCEL));
+    verifyNoInteractions(repository);
   }
 }
@@ -2,7 +2,13 @@ package org.folio.entlinks.utils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import lombok.SneakyThrows;
+import org.apache.commons.lang3.StringUtils;
 import org.folio.entlinks.domain.dto.AuthorityDto;
+import org.folio.entlinks.service.messaging.authority.model.AuthorityChange;
 import org.folio.entlinks.service.messaging.authority.model.AuthorityChangeField;
 import org.folio.spring.testing.extension.Random;
 import org.folio.spring.testing.extension.impl.RandomParametersExtension;
@@ -20,4 +26,69 @@ class AuthorityChangeUtilsTest {
     assertThat(changes).hasSize(18)
       .containsOnlyKeys(AuthorityChangeField.values());
   }
+
+  @Test
+  void getAuthorityChanges_positive_onlyTrackedFields() {
+    var s1 = new AuthorityDto().personalName("name").naturalId("n1").subjectHeadings("a").source("MARC");
+    var s2 = new AuthorityDto().personalName("name").naturalId("n2").subjectHeadings("b").source("CONSORTIUM-MARC");
+
+    var changes = AuthorityChangeUtils.getAuthorityChanges(s1, s2);
+
+    assertThat(changes).containsExactlyEntriesOf(Map.of(AuthorityChangeField.NATURAL_ID,
+      new AuthorityChange(AuthorityChangeField.NATURAL_ID, "n1", "n2")));
+  }
+
+  @Test
+  void getAuthorityChanges_positive_nullAuthority() {
+    var s1 = new AuthorityDto().personalName("name").naturalId("n1");
+
+    var changes = AuthorityChangeUtils.getAuthorityChanges(s1, null);
+
+    assertThat(changes).containsOnlyKeys(AuthorityChangeField.PERSONAL_NAME, AuthorityChangeField.NATURAL_ID);
+    assertThat(changes.get(AuthorityChangeField.PERSONAL_NAME).valNew()).isEqualTo("name");
+    assertThat(changes.get(AuthorityChangeField.PERSONAL_NAME).valOld()).isNull();
+  }
+
+  @Test
+  void getAuthorityChanges_positive_sameAsReflectiveDifference(@Random AuthorityDto s1, @Random AuthorityDto s2) {
+    s2.setPersonalName(s1.getPersonalName());
+    s2.setGenreTerm(s1.getGenreTerm());
+
+    assertThat(AuthorityChangeUtils.getAuthorityChanges(s1, s2)).isEqualTo(reflectiveChanges(s1, s2));
+    assertThat(AuthorityChangeUtils.getAuthorityChanges(s1, null)).isEqualTo(reflectiveChanges(s1, null));
+    assertThat(AuthorityChangeUtils.getAuthorityChanges(s1, s1)).isEmpty();
+  }
+
+  @Test
+  void hasAuthorityChanges_positive() {
+    var s1 = new AuthorityDto().personalName("name").naturalId("n1");
+
+    assertThat(AuthorityChangeUtils.hasAuthorityChanges(s1, new AuthorityDto().personalName("name").naturalId("n2")))
+      .isTrue();
+    assertThat(AuthorityChangeUtils.hasAuthorityChanges(s1, null)).isTrue();
+    assertThat(AuthorityChangeUtils.hasAuthorityChanges(null, s1)).isTrue();
+  }
+
+  @Test
+  void hasAuthorityChanges_negative_onlyUntrackedFieldsChanged() {
+    var s1 = new AuthorityDto().personalName("name").naturalId("n1").subjectHeadings("a");
+    var s2 = new AuthorityDto().personalName("name").naturalId("n1").subjectHeadings("b");
+
+    assertThat(AuthorityChangeUtils.hasAuthorityChanges(s1, s2)).isFalse();
+    assertThat(AuthorityChangeUtils.hasAuthorityChanges(null, null)).isFalse();
+  }
+
+  @SneakyThrows
+  private Map<AuthorityChangeField, AuthorityChange> reflectiveChanges(AuthorityDto s1, AuthorityDto s2) {
+    var changes = new HashMap<AuthorityChangeField, AuthorityChange>();
+    for (var field : AuthorityChangeField.values()) {
+      var getter = AuthorityDto.class.getMethod("get" + StringUtils.capitalize(field.getFieldName()));
+      var value1 = s1 != null ? getter.invoke(s1) : null;
+      var value2 = s2 != null ? getter.invoke(s2) : null;
+      if (!Objects.equals(value1, value2)) {
+        changes.put(field, new AuthorityChange(field, value1, value2));
+      }
+    }
+    return changes;
+  }
 }
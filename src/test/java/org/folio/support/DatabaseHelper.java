@@ -200,4 +200,9 @@ public class DatabaseHelper {
     jdbcTemplate.update(sql, job.getId(), job.getResourceName().name(), job.getJobStatus().name(),
         job.getPublished(), DateUtils.toTimestamp(job.getSubmittedDate()));
   }
+
+  public void updateAuthorityReindexJobUpdatedAt(String tenant, UUID jobId, Timestamp updatedAt) {
+    var sql = "UPDATE " + getDbPath(tenant, AUTHORITY_REINDEX_JOB_TABLE) + " SET updated_at = ? WHERE id = ?";
+    jdbcTemplate.update(sql, updatedAt, jobId);
+  }
 }
@@ -61,6 +61,8 @@ public class TestConstants {
   public static final String TEST_STRING = "test, ";
 
   private static final String INSTANCE_LINKS_ENDPOINT_PATH = "/links/instances/{id}";
+  private static final String INSTANCES_LINKS_ENDPOINT_PATH = "/links/instances";
+  private static final String INSTANCES_LINKS_FETCH_ENDPOINT_PATH = "/links/instances/fetch";
   private static final String LINKS_SUGGESTIONS_ENDPOINT = "/links-suggestions/marc";
   private static final String LINKS_STATS_INSTANCE_ENDPOINT_PATH = "/links/stats/instance";
   private static final String LINKS_STATS_INSTANCE_ENDPOINT_PARAMS = "?status=%s&fromDate=%s&toDate=%s";
@@ -124,6 +126,14 @@ public class TestConstants {
     return INSTANCE_LINKS_ENDPOINT_PATH;
   }
 
+  public static String linksInstancesEndpoint() {
+    return INSTANCES_LINKS_ENDPOINT_PATH;
+  }
+
+  public static String linksInstancesFetchEndpoint() {
+    return INSTANCES_LINKS_FETCH_ENDPOINT_PATH;
+  }
+
   public static String linksSuggestionsEndpoint() {
     return LINKS_SUGGESTIONS_ENDPOINT;
   }